@@ -0,0 +1,159 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.benchmark;
+
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.nimbusds.jose.jwk.Curve;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.ssi.lib.SsiLibrary;
+import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestDidResolver;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentity;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentityFactory;
+import org.eclipse.tractusx.ssi.lib.util.vc.TestVerifiableFactory;
+
+/**
+ * Shared setup for the benchmarks. Identities are resolved through an in-memory {@link
+ * TestDidResolver} and all JSON-LD contexts are loaded before the first measured iteration, so no
+ * benchmark touches the network while it is measured.
+ */
+@UtilityClass
+public class BenchmarkFixtures {
+
+  /** An issuer identity together with the verification method used for the given signature. */
+  @Value
+  public static class Issuer {
+    TestIdentity identity;
+    URI verificationMethod;
+    TestDidResolver didResolver;
+
+    /**
+     * Gets the key id (fragment of the verification method) as used in JWT headers.
+     *
+     * @return the key id
+     */
+    public String getKeyId() {
+      return verificationMethod.getFragment();
+    }
+  }
+
+  /**
+   * Creates a new issuer with a key matching the signature type and registers it at a fresh offline
+   * resolver.
+   *
+   * @param signatureType the signature type
+   * @return the issuer
+   */
+  @SneakyThrows
+  public static Issuer newIssuer(SignatureType signatureType) {
+    SsiLibrary.initialize();
+
+    final TestIdentity identity;
+    int verificationMethodIndex = 0;
+    switch (signatureType) {
+      case ED25519 -> identity = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+      case JWS -> {
+        identity = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+        verificationMethodIndex = 1;
+      }
+      case JWS_P256 ->
+          identity = TestIdentityFactory.newIdentityWithECKeys("secp256r1", Curve.P_256);
+      case JWS_P384 ->
+          identity = TestIdentityFactory.newIdentityWithECKeys("secp384r1", Curve.P_384);
+      case JWS_SEC_P_256K1 ->
+          identity = TestIdentityFactory.newIdentityWithECKeys("secp256k1", Curve.SECP256K1);
+      case JWS_RSA -> identity = TestIdentityFactory.newIdentityWithRSAKeys();
+      default ->
+          throw new IllegalArgumentException(
+              String.format("signature type %s is not supported", signatureType));
+    }
+
+    final TestDidResolver didResolver = new TestDidResolver();
+    didResolver.register(identity);
+
+    return new Issuer(
+        identity,
+        identity.getDidDocument().getVerificationMethods().get(verificationMethodIndex).getId(),
+        didResolver);
+  }
+
+  /**
+   * Creates a credential signed by the issuer.
+   *
+   * @param generator the generator
+   * @param issuer the issuer
+   * @return the signed credential
+   */
+  @SneakyThrows
+  public static VerifiableCredential newSignedCredential(
+      LinkedDataProofGenerator generator, Issuer issuer) {
+    final VerifiableCredential credential =
+        TestVerifiableFactory.createVerifiableCredential(issuer.getIdentity(), null);
+    final Proof proof =
+        generator.createProof(
+            credential, issuer.getVerificationMethod(), issuer.getIdentity().getPrivateKey());
+    return TestVerifiableFactory.attachProof(credential, proof);
+  }
+
+  /**
+   * Creates an unsigned presentation holding the given number of signed credentials.
+   *
+   * @param generator the generator
+   * @param issuer the issuer
+   * @param credentials the number of credentials
+   * @return the unsigned presentation
+   */
+  public static VerifiablePresentation newPresentation(
+      LinkedDataProofGenerator generator, Issuer issuer, int credentials) {
+    final List<VerifiableCredential> vcs = new ArrayList<>(credentials);
+    for (int i = 0; i < credentials; i++) {
+      vcs.add(newSignedCredential(generator, issuer));
+    }
+    return TestVerifiableFactory.createVerifiablePresentation(issuer.getIdentity(), vcs, null);
+  }
+
+  /**
+   * Loads every context of the verifiable through the shared {@link RemoteDocumentLoader}, so it is
+   * served from the cache afterwards.
+   *
+   * @param verifiable the verifiable
+   */
+  @SneakyThrows
+  public static void preloadContexts(Verifiable verifiable) {
+    final RemoteDocumentLoader documentLoader = RemoteDocumentLoader.getInstance();
+    documentLoader.setEnableHttps(true);
+    for (URI context : verifiable.getContext()) {
+      documentLoader.loadDocument(context, new DocumentLoaderOptions());
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.benchmark;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import io.setl.rdf.normalization.RdfNormalize;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.eclipse.tractusx.ssi.lib.proof.transform.Urdna2015Canonicalizer;
+import org.eclipse.tractusx.ssi.lib.util.vc.TestVerifiableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the URDNA2015 canonicalization of an RDF dataset against the reference
+ * implementation. A {@code document} value of {@code credential} benchmarks the dataset of a
+ * single credential, {@code presentation} the one of a presentation holding ten credentials and
+ * {@code ring} a ring of eight symmetric blank nodes, which needs N-degree hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CanonicalizationBenchmark {
+
+  @Param({"credential", "presentation", "ring"})
+  String document;
+
+  private RdfDataset dataset;
+
+  /** Creates the dataset, loading all contexts before the measurement. */
+  @Setup
+  @SneakyThrows
+  public void setup() {
+    if ("ring".equals(document)) {
+      dataset = Rdf.createDataset();
+      for (int i = 0; i < 8; i++) {
+        dataset.add(
+            Rdf.createNQuad(
+                Rdf.createBlankNode("_:b" + i),
+                Rdf.createIRI("https://example.org/next"),
+                Rdf.createBlankNode("_:b" + (i + 1) % 8),
+                null));
+      }
+      return;
+    }
+
+    final BenchmarkFixtures.Issuer issuer = BenchmarkFixtures.newIssuer(SignatureType.ED25519);
+    final LinkedDataProofGenerator generator =
+        LinkedDataProofGenerator.newInstance(SignatureType.ED25519);
+    final Verifiable verifiable =
+        "credential".equals(document)
+            ? TestVerifiableFactory.createVerifiableCredential(issuer.getIdentity(), null)
+            : BenchmarkFixtures.newPresentation(generator, issuer, 10);
+    BenchmarkFixtures.preloadContexts(verifiable);
+    dataset =
+        JsonLd.toRdf(JsonDocument.of(verifiable.toJsonObject()))
+            .loader(RemoteDocumentLoader.getInstance())
+            .get();
+  }
+
+  /**
+   * Canonicalizes the dataset with the built-in engine.
+   *
+   * @return the canonical dataset
+   */
+  @Benchmark
+  @SneakyThrows
+  public RdfDataset urdna2015() {
+    return Urdna2015Canonicalizer.getInstance().canonicalize(dataset);
+  }
+
+  /**
+   * Canonicalizes the dataset with the reference implementation.
+   *
+   * @return the canonical dataset
+   */
+  @Benchmark
+  @SneakyThrows
+  public RdfDataset reference() {
+    return RdfNormalize.normalize(dataset, Urdna2015Canonicalizer.ALGORITHM);
+  }
+}
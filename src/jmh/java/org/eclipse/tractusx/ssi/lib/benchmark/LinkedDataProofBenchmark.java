@@ -0,0 +1,153 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
+import org.eclipse.tractusx.ssi.lib.proof.hash.LinkedDataHasher;
+import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
+import org.eclipse.tractusx.ssi.lib.proof.transform.TransformedLinkedData;
+import org.eclipse.tractusx.ssi.lib.util.vc.TestVerifiableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the linked data proof pipeline (transform, hash, sign and verify) for every {@link
+ * SignatureType}. A {@code credentials} value of 0 benchmarks a single credential, any other value
+ * a presentation holding that many credentials.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LinkedDataProofBenchmark {
+
+  @Param({"ED25519", "JWS", "JWS_P256", "JWS_P384", "JWS_SEC_P_256K1", "JWS_RSA"})
+  SignatureType signatureType;
+
+  @Param({"0", "1", "10", "100"})
+  int credentials;
+
+  private BenchmarkFixtures.Issuer issuer;
+  private LinkedDataProofGenerator generator;
+  private LinkedDataProofValidation validation;
+  private LinkedDataTransformer transformer;
+  private LinkedDataHasher hasher;
+
+  private Verifiable unsigned;
+  private Verifiable signed;
+  private Verifiable withoutProofSignature;
+  private TransformedLinkedData transformed;
+
+  /** Creates the issuer and the documents, and preloads all contexts. */
+  @Setup
+  @SneakyThrows
+  public void setup() {
+    issuer = BenchmarkFixtures.newIssuer(signatureType);
+    generator = LinkedDataProofGenerator.newInstance(signatureType);
+    validation = LinkedDataProofValidation.newInstance(issuer.getDidResolver());
+    transformer = new LinkedDataTransformer();
+    hasher = new LinkedDataHasher();
+
+    if (credentials == 0) {
+      unsigned = TestVerifiableFactory.createVerifiableCredential(issuer.getIdentity(), null);
+      BenchmarkFixtures.preloadContexts(unsigned);
+      signed = BenchmarkFixtures.newSignedCredential(generator, issuer);
+    } else {
+      var presentation = BenchmarkFixtures.newPresentation(generator, issuer, credentials);
+      BenchmarkFixtures.preloadContexts(presentation);
+      final Proof proof =
+          generator.createProof(
+              presentation, issuer.getVerificationMethod(), issuer.getIdentity().getPrivateKey());
+      signed = TestVerifiableFactory.attachProof(presentation, proof);
+      unsigned = BenchmarkFixtures.newPresentation(generator, issuer, credentials);
+    }
+
+    if (!validation.verify(signed)) {
+      throw new IllegalStateException("benchmark document could not be verified");
+    }
+
+    withoutProofSignature = signed.withoutProofSignature();
+    transformed = transformer.transform(withoutProofSignature);
+  }
+
+  /**
+   * Creates a proof for the unsigned document.
+   *
+   * @return the proof
+   */
+  @Benchmark
+  @SneakyThrows
+  public Proof createProof() {
+    return generator.createProof(
+        unsigned, issuer.getVerificationMethod(), issuer.getIdentity().getPrivateKey());
+  }
+
+  /**
+   * Verifies the signed document.
+   *
+   * @return the verification result
+   */
+  @Benchmark
+  @SneakyThrows
+  public boolean verify() {
+    return validation.verify(signed);
+  }
+
+  /**
+   * Canonicalizes the signed document without its proof signature.
+   *
+   * @return the transformed linked data
+   */
+  @Benchmark
+  @SneakyThrows
+  public TransformedLinkedData transform() {
+    return transformer.transform(withoutProofSignature);
+  }
+
+  /**
+   * Hashes the canonicalized document.
+   *
+   * @return the hashed linked data
+   */
+  @Benchmark
+  public HashedLinkedData hash() {
+    return hasher.hash(transformed);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.benchmark;
+
+import com.nimbusds.jwt.SignedJWT;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.jwt.SignedJwtFactory;
+import org.eclipse.tractusx.ssi.lib.jwt.SignedJwtVerifier;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.eclipse.tractusx.ssi.lib.serialization.jwt.JwtConfig;
+import org.eclipse.tractusx.ssi.lib.serialization.jwt.SerializedVerifiablePresentation;
+import org.eclipse.tractusx.ssi.lib.util.vc.TestVerifiableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks creation and verification of signed JWTs for the JWS based {@link SignatureType}s. A
+ * {@code credentials} value of 0 benchmarks a JWT for a single credential, any other value a JWT
+ * for a presentation holding that many credentials.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SignedJwtBenchmark {
+
+  private static final String AUDIENCE = "did:test:audience";
+
+  // ED25519 is a linked data proof type only, and SignedJwtVerifier can't verify ES256K yet
+  @Param({"JWS", "JWS_P256", "JWS_P384", "JWS_RSA"})
+  SignatureType signatureType;
+
+  @Param({"0", "1", "10", "100"})
+  int credentials;
+
+  private BenchmarkFixtures.Issuer issuer;
+  private SignedJwtFactory factory;
+  private SignedJwtVerifier verifier;
+  private JwtConfig jwtConfig;
+
+  private Map<String, Object> credential;
+  private SerializedVerifiablePresentation presentation;
+  private SignedJWT signed;
+
+  /** Creates the issuer and the payloads, and signs the JWT to verify. */
+  @Setup
+  @SneakyThrows
+  public void setup() {
+    issuer = BenchmarkFixtures.newIssuer(signatureType);
+    factory = new SignedJwtFactory(signatureType);
+    verifier = new SignedJwtVerifier(issuer.getDidResolver());
+    // long enough to outlive the benchmark run
+    jwtConfig = JwtConfig.builder().expirationTime(24 * 60 * 60).build();
+
+    if (credentials == 0) {
+      credential = TestVerifiableFactory.createVerifiableCredential(issuer.getIdentity(), null);
+    } else {
+      var generator = LinkedDataProofGenerator.newInstance(SignatureType.ED25519);
+      var ed25519Issuer = BenchmarkFixtures.newIssuer(SignatureType.ED25519);
+      presentation =
+          new SerializedVerifiablePresentation(
+              BenchmarkFixtures.newPresentation(generator, ed25519Issuer, credentials).toJson());
+    }
+
+    signed = create();
+    if (!verifier.verify(signed)) {
+      throw new IllegalStateException("benchmark JWT could not be verified");
+    }
+  }
+
+  /**
+   * Creates a signed JWT.
+   *
+   * @return the signed JWT
+   */
+  @Benchmark
+  public SignedJWT create() {
+    final Did did = issuer.getIdentity().getDid();
+    if (credentials == 0) {
+      return factory.create(
+          did, did, credential, issuer.getIdentity().getPrivateKey(), issuer.getKeyId());
+    }
+    return factory.create(
+        did,
+        AUDIENCE,
+        presentation,
+        issuer.getIdentity().getPrivateKey(),
+        issuer.getKeyId(),
+        jwtConfig);
+  }
+
+  /**
+   * Verifies the signed JWT.
+   *
+   * @return the verification result
+   */
+  @Benchmark
+  @SneakyThrows
+  public boolean verify() {
+    return verifier.verify(signed);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.crypt.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.crypto.impl.ECDSAProvider;
+import com.nimbusds.jose.crypto.impl.EdDSAProvider;
+import com.nimbusds.jose.crypto.impl.RSASSAProvider;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.proc.JWSVerifierFactory;
+import com.nimbusds.jose.util.Base64URL;
+import java.net.URI;
+import lombok.Value;
+
+/**
+ * Bounded cache of ready-to-use {@link JWSVerifier}s. Decoding the public key of a JWK and setting
+ * up the verifier is done once per verification method, key and algorithm, subsequent verifications
+ * reuse the verifier. The cached verifiers are thread-safe.
+ *
+ * <p>The key of the cache contains the JWK thumbprint, so a rotated key of a verification method
+ * with an unchanged id gets a new verifier.
+ */
+public class JWSVerifierCache {
+
+  /** The default maximum number of cached verifiers. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private static final JWSVerifierCache INSTANCE = new JWSVerifierCache(DEFAULT_MAXIMUM_SIZE);
+
+  private static final JWSVerifierFactory VERIFIER_FACTORY = new DefaultJWSVerifierFactory();
+
+  private final Cache<VerifierKey, JWSVerifier> verifiers;
+
+  /**
+   * Instantiates a new Jws verifier cache.
+   *
+   * @param maximumSize the maximum number of cached verifiers
+   */
+  public JWSVerifierCache(long maximumSize) {
+    this.verifiers = Caffeine.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Gets the shared instance.
+   *
+   * @return the jws verifier cache
+   */
+  public static JWSVerifierCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets a verifier for the public key of a verification method, creating it if it is not cached.
+   *
+   * @param verificationMethodId the id of the verification method the key belongs to
+   * @param algorithm the algorithm of the signature to verify
+   * @param jwk the public key
+   * @return the jws verifier
+   * @throws JOSEException if the key cannot be used to verify signatures of the algorithm
+   * @throws IllegalArgumentException if the algorithm is not supported
+   */
+  public JWSVerifier getVerifier(URI verificationMethodId, JWSAlgorithm algorithm, JWK jwk)
+      throws JOSEException {
+    final VerifierKey key =
+        new VerifierKey(verificationMethodId, jwk.computeThumbprint(), algorithm);
+
+    JWSVerifier verifier = verifiers.getIfPresent(key);
+    if (verifier == null) {
+      // created outside of the cache to keep the checked exception, a concurrent duplicate is
+      // harmless
+      verifier = createVerifier(algorithm, jwk);
+      verifiers.put(key, verifier);
+    }
+    return verifier;
+  }
+
+  /** Removes all cached verifiers. */
+  public void invalidateAll() {
+    verifiers.invalidateAll();
+  }
+
+  /**
+   * Creates a new verifier, without caching it.
+   *
+   * @param algorithm the algorithm of the signature to verify
+   * @param jwk the public key
+   * @return the jws verifier
+   * @throws JOSEException if the key cannot be used to verify signatures of the algorithm
+   * @throws IllegalArgumentException if the algorithm is not supported
+   */
+  public static JWSVerifier createVerifier(JWSAlgorithm algorithm, JWK jwk) throws JOSEException {
+    if (EdDSAProvider.SUPPORTED_ALGORITHMS.contains(algorithm)) {
+      return new Ed25519Verifier(((OctetKeyPair) jwk).toPublicJWK());
+    }
+    if (RSASSAProvider.SUPPORTED_ALGORITHMS.contains(algorithm)) {
+      return VERIFIER_FACTORY.createJWSVerifier(
+          new JWSHeader(algorithm), jwk.toRSAKey().toRSAPublicKey());
+    }
+    if (ECDSAProvider.SUPPORTED_ALGORITHMS.contains(algorithm)) {
+      ECDSAVerifier verifier =
+          (ECDSAVerifier)
+              VERIFIER_FACTORY.createJWSVerifier(
+                  new JWSHeader(algorithm), jwk.toECKey().toECPublicKey());
+      // this is necessary because of issue:
+      // https://bitbucket.org/connect2id/nimbus-jose-jwt/issues/458/comnimbusdsjosejoseexception-curve-not
+      verifier.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
+      return verifier;
+    }
+    throw new IllegalArgumentException(
+        String.format("algorithm %s is not supported", algorithm.getName()));
+  }
+
+  @Value
+  private static class VerifierKey {
+    URI verificationMethodId;
+    Base64URL thumbprint;
+    JWSAlgorithm algorithm;
+  }
+}
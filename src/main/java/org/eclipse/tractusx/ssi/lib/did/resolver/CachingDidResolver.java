@@ -0,0 +1,208 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.did.resolver;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.Value;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+
+/**
+ * Implements a {@code DidResolver} that caches the results of another {@code DidResolver}. DID
+ * documents are cached per DID (without fragment) for the configured time to live. Failed
+ * resolutions, i.e. exceptions and DIDs without a document, are cached as well, but only for the
+ * (usually much shorter) negative time to live, so that an unavailable issuer is not queried on
+ * every verification.
+ *
+ * <p>Concurrent resolutions of the same DID are executed only once, all callers get the result of
+ * that single resolution. Resolutions are loaded through {@link DidResolver#resolveAsync(Did)} of
+ * the underlying resolver, so {@link #resolveAsync(Did)} does not block when the underlying
+ * resolver does not.
+ *
+ * <p>A cached DID document is not copied: all callers resolving the same DID get the same {@link
+ * DidDocument} instance, which therefore must not be modified. Callers which need to change a
+ * resolved document have to copy it first.
+ */
+public class CachingDidResolver implements DidResolver {
+
+  /** The default time to live of resolved DID documents. */
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(15);
+
+  /** The default time to live of failed resolutions. */
+  public static final Duration DEFAULT_NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+  /** The default maximum number of cached DIDs. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final DidResolver didResolver;
+  private final AsyncCache<Did, Resolution> resolutions;
+
+  /**
+   * Instantiates a new Caching did resolver with the default time to live and size.
+   *
+   * @param didResolver the did resolver to cache the results of
+   */
+  public CachingDidResolver(DidResolver didResolver) {
+    this(didResolver, DEFAULT_TIME_TO_LIVE, DEFAULT_NEGATIVE_TIME_TO_LIVE, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Instantiates a new Caching did resolver.
+   *
+   * @param didResolver the did resolver to cache the results of
+   * @param timeToLive the time to live of resolved DID documents
+   * @param negativeTimeToLive the time to live of failed resolutions, zero disables negative
+   *     caching
+   * @param maximumSize the maximum number of cached DIDs
+   */
+  public CachingDidResolver(
+      DidResolver didResolver, Duration timeToLive, Duration negativeTimeToLive, long maximumSize) {
+    if (didResolver == null) {
+      throw new NullPointerException("Did Resolver shouldn't be null");
+    }
+    this.didResolver = didResolver;
+    this.resolutions =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ResolutionExpiry(timeToLive, negativeTimeToLive))
+            .buildAsync();
+  }
+
+  @Override
+  public Optional<DidDocument> resolve(Did did) throws DidResolverException, DidParseException {
+    final Resolution resolution = getResolution(did).join();
+
+    if (resolution.getException() instanceof DidResolverException didResolverException) {
+      throw didResolverException;
+    }
+    if (resolution.getException() instanceof DidParseException didParseException) {
+      throw didParseException;
+    }
+    if (resolution.getException() instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (resolution.getException() != null) {
+      throw new DidResolverException(
+          "Could not resolve DID " + did.excludeFragment(), resolution.getException());
+    }
+    return resolution.getDocument();
+  }
+
+  @Override
+  public CompletableFuture<Optional<DidDocument>> resolveAsync(Did did) {
+    return getResolution(did)
+        .thenApply(
+            resolution -> {
+              if (resolution.getException() != null) {
+                throw new CompletionException(resolution.getException());
+              }
+              return resolution.getDocument();
+            });
+  }
+
+  @Override
+  public boolean isResolvable(Did did) {
+    return didResolver.isResolvable(did);
+  }
+
+  /**
+   * Removes the cached result of the DID, so that the next resolution goes to the underlying
+   * resolver again.
+   *
+   * @param did the did
+   */
+  public void invalidate(Did did) {
+    resolutions.synchronous().invalidate(did.excludeFragment());
+  }
+
+  /** Removes all cached results. */
+  public void invalidateAll() {
+    resolutions.synchronous().invalidateAll();
+  }
+
+  private CompletableFuture<Resolution> getResolution(Did did) {
+    return resolutions.get(did.excludeFragment(), (key, executor) -> load(did));
+  }
+
+  private CompletableFuture<Resolution> load(Did did) {
+    CompletableFuture<Optional<DidDocument>> document;
+    try {
+      document = didResolver.resolveAsync(did);
+    } catch (RuntimeException e) {
+      document = CompletableFuture.failedFuture(e);
+    }
+
+    return document.handle(
+        (result, throwable) -> {
+          if (throwable == null) {
+            return new Resolution(result, null);
+          }
+          final Throwable cause =
+              throwable instanceof CompletionException ? throwable.getCause() : throwable;
+          if (cause instanceof Exception exception) {
+            return new Resolution(Optional.empty(), exception);
+          }
+          throw new CompletionException(cause);
+        });
+  }
+
+  @Value
+  private static class Resolution {
+    Optional<DidDocument> document;
+    Exception exception;
+
+    boolean isFailed() {
+      return exception != null || document.isEmpty();
+    }
+  }
+
+  @Value
+  private static class ResolutionExpiry implements Expiry<Did, Resolution> {
+    Duration timeToLive;
+    Duration negativeTimeToLive;
+
+    @Override
+    public long expireAfterCreate(Did did, Resolution resolution, long currentTime) {
+      return (resolution.isFailed() ? negativeTimeToLive : timeToLive).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        Did did, Resolution resolution, long currentTime, long currentDuration) {
+      return expireAfterCreate(did, resolution, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        Did did, Resolution resolution, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -22,6 +22,8 @@ package org.eclipse.tractusx.ssi.lib.did.resolver;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
@@ -64,6 +66,37 @@ public class CompositeDidResolver implements DidResolver {
     return Optional.empty();
   }
 
+  @Override
+  public CompletableFuture<Optional<DidDocument>> resolveAsync(Did did) {
+    for (DidResolver didResolver : didResolvers) {
+      if (didResolver.isResolvable(did)) {
+        CompletableFuture<Optional<DidDocument>> document;
+        try {
+          document = didResolver.resolveAsync(did);
+        } catch (Exception e) {
+          document = CompletableFuture.failedFuture(e);
+        }
+        return document.handle(
+            (result, throwable) -> {
+              if (throwable == null) {
+                return result;
+              }
+              final Throwable cause =
+                  throwable instanceof CompletionException ? throwable.getCause() : throwable;
+              if (cause instanceof DidResolverException) {
+                throw new CompletionException(cause);
+              }
+              // wrap any other exception as DidResolverException, like the synchronous resolution
+              throw new CompletionException(
+                  new DidResolverException(
+                      String.format("Unrecognized exception: %s", cause.getClass().getName()),
+                      cause));
+            });
+      }
+    }
+    return CompletableFuture.completedFuture(Optional.empty());
+  }
+
   @Override
   public boolean isResolvable(Did did) {
     return Arrays.stream(didResolvers).anyMatch(resolver -> resolver.isResolvable(did));
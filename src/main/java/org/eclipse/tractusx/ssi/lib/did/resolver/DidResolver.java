@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.ssi.lib.did.resolver;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
@@ -41,6 +42,26 @@ public interface DidResolver {
    */
   Optional<DidDocument> resolve(Did did) throws DidResolverException, DidParseException;
 
+  /**
+   * Returns the <b>DID document</b> for the provided {@code did} without blocking the calling
+   * thread. Failures are reported through the returned future, with the same exceptions {@link
+   * #resolve(Did)} would throw.
+   *
+   * <p>The default implementation resolves the DID synchronously on the calling thread and returns
+   * a completed future. Resolvers doing I/O should override this method.
+   *
+   * @param did a valid Decentralized Identifier (according to <a
+   *     href="https://www.w3.org/TR/did-core/">W3C DID specification</a>)
+   * @return the future of the resolved DID document
+   */
+  default CompletableFuture<Optional<DidDocument>> resolveAsync(Did did) {
+    try {
+      return CompletableFuture.completedFuture(resolve(did));
+    } catch (DidResolverException | DidParseException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Indicates whether the resolver is capable of resolving the provided {@code did} to a DID
    * document.
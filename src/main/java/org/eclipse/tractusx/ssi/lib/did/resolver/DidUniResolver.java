@@ -28,6 +28,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
@@ -39,6 +41,10 @@ import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
  * (deployed separately). <br>
  * The resolver must be initialized with the appropriate root endpoint (e.g.
  * <em>http://localhost:8080</em>)
+ *
+ * <p>To bound the time and concurrency of the requests to the Universal Resolver and stop calling
+ * it for a while when it keeps failing, pass a {@link
+ * org.eclipse.tractusx.ssi.lib.http.ResilientHttpClient} as client.
  */
 public class DidUniResolver implements DidResolver {
   private final HttpClient client;
@@ -74,25 +80,10 @@ public class DidUniResolver implements DidResolver {
 
   @Override
   public Optional<DidDocument> resolve(Did did) throws DidResolverException, DidParseException {
-    URI requestUri =
-        uniResolverEndpoint.resolve(UNI_RESOLVER_RESOLVE_PATH).resolve("./" + did.toString());
-    final HttpRequest request = HttpRequest.newBuilder().uri(requestUri).GET().build();
+    final HttpRequest request = newRequest(did);
 
     try {
-      final HttpResponse<String> response =
-          client.send(request, HttpResponse.BodyHandlers.ofString());
-
-      if (response.statusCode() < 200 || response.statusCode() > 299) {
-        throw new DidResolverException(
-            String.format(
-                "Unexpected response when resolving did document [Code=%s, Payload=%s]",
-                response.statusCode(), response.body()));
-      }
-      if (response.body() == null) {
-        throw new DidResolverException("Empty response body");
-      }
-
-      return Optional.of(DidDocument.fromJson(response.body()));
+      return toDidDocument(client.send(request, HttpResponse.BodyHandlers.ofString()));
     } catch (DidResolverException e) {
       throw e;
     } catch (InterruptedException e) {
@@ -105,6 +96,60 @@ public class DidUniResolver implements DidResolver {
     }
   }
 
+  @Override
+  public CompletableFuture<Optional<DidDocument>> resolveAsync(Did did) {
+    final HttpRequest request;
+    try {
+      request = newRequest(did);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(
+          new DidResolverException(
+              String.format("Unexpected exception: %s", e.getClass().getName()), e));
+    }
+
+    return client
+        .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .handle(
+            (response, throwable) -> {
+              final Throwable cause =
+                  throwable instanceof CompletionException ? throwable.getCause() : throwable;
+              try {
+                if (cause != null) {
+                  throw new DidResolverException(
+                      String.format("Unexpected exception: %s", cause.getClass().getName()), cause);
+                }
+                return toDidDocument(response);
+              } catch (DidResolverException e) {
+                throw new CompletionException(e);
+              } catch (Exception e) {
+                throw new CompletionException(
+                    new DidResolverException(
+                        String.format("Unexpected exception: %s", e.getClass().getName()), e));
+              }
+            });
+  }
+
+  private HttpRequest newRequest(Did did) {
+    URI requestUri =
+        uniResolverEndpoint.resolve(UNI_RESOLVER_RESOLVE_PATH).resolve("./" + did.toString());
+    return HttpRequest.newBuilder().uri(requestUri).GET().build();
+  }
+
+  private Optional<DidDocument> toDidDocument(HttpResponse<String> response)
+      throws DidResolverException {
+    if (response.statusCode() < 200 || response.statusCode() > 299) {
+      throw new DidResolverException(
+          String.format(
+              "Unexpected response when resolving did document [Code=%s, Payload=%s]",
+              response.statusCode(), response.body()));
+    }
+    if (response.body() == null) {
+      throw new DidResolverException("Empty response body");
+    }
+
+    return Optional.of(DidDocument.fromJson(response.body()));
+  }
+
   /**
    * Always returns {@code true} since there is no easy way to determine which drivers are present
    * in the universal resolver.
@@ -21,40 +21,200 @@
 
 package org.eclipse.tractusx.ssi.lib.did.web;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.Builder;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.did.web.util.Constants;
 import org.eclipse.tractusx.ssi.lib.did.web.util.DidWebParser;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.http.BoundedResponseBody;
+import org.eclipse.tractusx.ssi.lib.http.CachingHttpFetcher;
+import org.eclipse.tractusx.ssi.lib.http.UnexpectedHttpStatusException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 
-/** The type Did web resolver. */
-@RequiredArgsConstructor
+/**
+ * The type Did web resolver.
+ *
+ * <p>The did document is streamed from the response into the shared parser of {@link
+ * DidDocument#fromJson(InputStream)}. A document larger than the maximum size or not received
+ * within the read timeout fails the resolution, see {@link BoundedResponseBody}.
+ *
+ * <p>To limit the concurrent requests per partner host and stop calling failing hosts for a while,
+ * pass a {@link org.eclipse.tractusx.ssi.lib.http.ResilientHttpClient} as client.
+ */
 public class DidWebResolver implements DidResolver {
 
+  private static final String ACCEPT = "application/did+json, application/json";
+
   private final HttpClient client;
+  private final CachingHttpFetcher fetcher;
   private final DidWebParser parser;
   private final boolean enforceHttps;
+  private final long maximumDocumentSize;
+  private final Duration readTimeout;
+  private final Executor executor;
+
+  /**
+   * Instantiates a new Did web resolver, which downloads the did document on every resolution.
+   *
+   * @param client the client
+   * @param parser the parser
+   * @param enforceHttps whether to resolve the did document over https only
+   */
+  public DidWebResolver(HttpClient client, DidWebParser parser, boolean enforceHttps) {
+    this(client, null, parser, enforceHttps, 0, null, null);
+  }
+
+  /**
+   * Instantiates a new Did web resolver, which fetches the did documents through a cache and
+   * revalidates them with conditional requests. A fetcher built with {@link
+   * CachingHttpFetcher.CachingHttpFetcherBuilder#honourCacheHeaders(boolean)} takes the freshness
+   * of each did document from the caching headers of the partner and keeps resolving a stale
+   * document while the partner's endpoint is unavailable. The maximum size and read timeout of the
+   * did documents are configured at the fetcher.
+   *
+   * @param fetcher the fetcher
+   * @param parser the parser
+   * @param enforceHttps whether to resolve the did document over https only
+   */
+  public DidWebResolver(CachingHttpFetcher fetcher, DidWebParser parser, boolean enforceHttps) {
+    this(null, requireFetcher(fetcher), parser, enforceHttps, 0, null, null);
+  }
+
+  /**
+   * Instantiates a new Did web resolver. Exactly one of the client and the fetcher must be set.
+   *
+   * @param client the client, downloading the did document on every resolution
+   * @param fetcher the fetcher, caching the did documents
+   * @param parser the parser, a new {@link DidWebParser} if null
+   * @param enforceHttps whether to resolve the did document over https only, true by default
+   * @param maximumDocumentSize the maximum size of a did document downloaded by the client in
+   *     bytes, {@link BoundedResponseBody#DEFAULT_MAXIMUM_SIZE} if zero, must not be set with a
+   *     fetcher
+   * @param readTimeout the time for receiving a did document downloaded by the client, {@link
+   *     BoundedResponseBody#DEFAULT_READ_TIMEOUT} if null, must not be set with a fetcher
+   * @param executor the executor reading the did documents downloaded asynchronously by the client,
+   *     see {@link BoundedResponseBody#readerExecutor(HttpClient, Executor)}, must not be set with
+   *     a fetcher
+   */
+  @Builder
+  private DidWebResolver(
+      HttpClient client,
+      CachingHttpFetcher fetcher,
+      DidWebParser parser,
+      boolean enforceHttps,
+      long maximumDocumentSize,
+      Duration readTimeout,
+      Executor executor) {
+    if ((client == null) == (fetcher == null)) {
+      throw new IllegalArgumentException("Exactly one of client and fetcher must be set");
+    }
+    if (fetcher != null && (maximumDocumentSize != 0 || readTimeout != null || executor != null)) {
+      throw new IllegalArgumentException(
+          "The maximum document size, read timeout and executor of a fetcher are configured at the"
+              + " fetcher");
+    }
+    this.client = client;
+    this.fetcher = fetcher;
+    this.parser = parser == null ? new DidWebParser() : parser;
+    this.enforceHttps = enforceHttps;
+    this.maximumDocumentSize =
+        maximumDocumentSize == 0 ? BoundedResponseBody.DEFAULT_MAXIMUM_SIZE : maximumDocumentSize;
+    this.readTimeout = readTimeout == null ? BoundedResponseBody.DEFAULT_READ_TIMEOUT : readTimeout;
+    this.executor = client == null ? null : BoundedResponseBody.readerExecutor(client, executor);
+  }
+
+  /** The builder of a did web resolver, which enforces https unless configured otherwise. */
+  public static class DidWebResolverBuilder {
+    private boolean enforceHttps = true;
+  }
 
   @Override
   public boolean isResolvable(Did did) {
     return Constants.DID_WEB_METHOD.equals(did.getMethod());
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public Optional<DidDocument> resolve(Did did) throws DidResolverException, DidParseException {
+    final URI uri = toUri(did);
+    try {
+      if (fetcher != null) {
+        return toDidDocument(new ByteArrayInputStream(fetcher.fetch(uri, ACCEPT).getBody()));
+      }
+      return toDidDocument(
+          uri, client.send(newRequest(uri), HttpResponse.BodyHandlers.ofInputStream()));
+    } catch (UnexpectedHttpStatusException e) {
+      throw toDidResolverException(e);
+    } catch (IOException e) {
+      throw new DidResolverException(
+          String.format("Unexpected exception: %s", e.getClass().getName()), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DidResolverException(
+          String.format("Unexpected exception: %s", e.getClass().getName()), e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Optional<DidDocument>> resolveAsync(Did did) {
+    final URI uri;
+    try {
+      uri = toUri(did);
+    } catch (DidResolverException | DidParseException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    if (fetcher != null) {
+      return fetcher
+          .fetchAsync(uri, ACCEPT)
+          .handle(
+              (response, throwable) -> {
+                try {
+                  if (throwable != null) {
+                    throw toDidResolverException(throwable);
+                  }
+                  return toDidDocument(new ByteArrayInputStream(response.getBody()));
+                } catch (DidResolverException e) {
+                  throw new CompletionException(e);
+                } catch (IOException e) {
+                  throw new CompletionException(toDidResolverException(e));
+                }
+              });
+    }
+
+    return client
+        .sendAsync(newRequest(uri), HttpResponse.BodyHandlers.ofInputStream())
+        // reading the body blocks, so not on the common pool
+        .handleAsync(
+            (response, throwable) -> {
+              try {
+                if (throwable != null) {
+                  throw toDidResolverException(throwable);
+                }
+                return toDidDocument(uri, response);
+              } catch (DidResolverException e) {
+                throw new CompletionException(e);
+              } catch (IOException e) {
+                throw new CompletionException(toDidResolverException(e));
+              }
+            },
+            executor);
+  }
+
+  private URI toUri(Did did) throws DidResolverException, DidParseException {
     if (!did.getMethod().equals(Constants.DID_WEB_METHOD)) {
       throw new DidResolverException(
           String.format(
@@ -62,37 +222,60 @@ public class DidWebResolver implements DidResolver {
               this.getClass().getSimpleName(), Constants.DID_WEB_METHOD));
     }
 
-    final URI uri = parser.parse(did, enforceHttps);
+    return parser.parse(did, enforceHttps);
+  }
+
+  private HttpRequest newRequest(URI uri) {
+    return HttpRequest.newBuilder()
+        .uri(uri)
+        .timeout(readTimeout)
+        .header("Accept", ACCEPT)
+        .GET()
+        .build();
+  }
 
-    final HttpRequest request = HttpRequest.newBuilder().uri(uri).GET().build();
-    try {
-      final HttpResponse<String> response =
-          client.send(request, HttpResponse.BodyHandlers.ofString());
-
-      if (response.statusCode() < 200 || response.statusCode() > 299) {
-        throw new DidResolverException(
-            String.format(
-                "Unexpected response when resolving did document [Code=%s, Payload=%s]",
-                response.statusCode(), response.body()));
-      }
-      if (response.body() == null) {
-        throw new DidResolverException("Empty response body");
-      }
+  private static CachingHttpFetcher requireFetcher(CachingHttpFetcher fetcher) {
+    if (fetcher == null) {
+      throw new NullPointerException("Fetcher shouldn't be null");
+    }
+    return fetcher;
+  }
 
-      final byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+  private static DidResolverException toDidResolverException(Throwable throwable) {
+    final Throwable cause =
+        throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+    if (cause instanceof UnexpectedHttpStatusException) {
+      final UnexpectedHttpStatusException e = (UnexpectedHttpStatusException) cause;
+      return new DidResolverException(
+          String.format(
+              "Unexpected response when resolving did document [Code=%s, Uri=%s]",
+              e.getStatusCode(), e.getUri()),
+          e);
+    }
+    return new DidResolverException(
+        String.format("Unexpected exception: %s", cause.getClass().getName()), cause);
+  }
 
-      final ObjectMapper mapper = new ObjectMapper();
-      final Map<String, Object> json = mapper.readValue(body, Map.class);
+  private Optional<DidDocument> toDidDocument(URI uri, HttpResponse<InputStream> response)
+      throws DidResolverException, IOException {
+    if (response.statusCode() < 200 || response.statusCode() > 299) {
+      if (response.body() != null) {
+        response.body().close();
+      }
+      throw toDidResolverException(new UnexpectedHttpStatusException(uri, response.statusCode()));
+    }
+    if (response.body() == null) {
+      throw new DidResolverException("Empty response body");
+    }
 
-      return Optional.of(new DidDocument(json));
+    return toDidDocument(BoundedResponseBody.of(uri, response, maximumDocumentSize, readTimeout));
+  }
 
-    } catch (IOException e) {
-      throw new DidResolverException(
-          String.format("Unexpected exception: %s", e.getClass().getName()), e);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new DidResolverException(
-          String.format("Unexpected exception: %s", e.getClass().getName()), e);
+  private static Optional<DidDocument> toDidDocument(InputStream body) throws IOException {
+    try (body) {
+      return Optional.of(DidDocument.fromJson(body));
     }
   }
 }
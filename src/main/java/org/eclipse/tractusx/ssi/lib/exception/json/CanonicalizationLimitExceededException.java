@@ -0,0 +1,51 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.exception.json;
+
+/**
+ * Thrown when a document is not canonicalized, because its RDF dataset exceeds one of the
+ * configured canonicalization limits.
+ */
+public class CanonicalizationLimitExceededException extends TransformJsonLdException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Instantiates a new canonicalization limit exceeded exception.
+   *
+   * @param message the message
+   */
+  public CanonicalizationLimitExceededException(String message) {
+    super(message);
+  }
+
+  /**
+   * Instantiates a new canonicalization limit exceeded exception.
+   *
+   * @param limit the name of the exceeded limit
+   * @param maximum the configured maximum
+   * @param actual the actual value
+   */
+  public CanonicalizationLimitExceededException(String limit, long maximum, long actual) {
+    super(String.format("Canonicalization limit %s of %d exceeded: %d", limit, maximum, actual));
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The body of a {@link HttpResponse.BodyHandlers#ofInputStream()} response, limited in size and
+ * reading time, so that an oversized or slowly sent document fails fast instead of buffering
+ * unbounded memory or blocking the reader.
+ *
+ * <p>A response declaring a larger <code>Content-Length</code> is rejected before reading. Reading
+ * more than the maximum size fails with a {@link ResponseTooLargeException}. If the body isn't
+ * completely read within the read timeout, the underlying stream is closed and reading fails with a
+ * {@link HttpTimeoutException}.
+ */
+public class BoundedResponseBody extends FilterInputStream {
+
+  /** The default maximum size of a response body, 1 MiB. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 1024 * 1024;
+
+  /** The default time for reading a response body. */
+  public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final Logger LOG = Logger.getLogger(BoundedResponseBody.class.getName());
+
+  private final URI uri;
+  private final long maximumSize;
+  private final Duration readTimeout;
+  private final CompletableFuture<Void> timeout;
+  private long size;
+  private volatile boolean timedOut;
+
+  private BoundedResponseBody(URI uri, InputStream in, long maximumSize, Duration readTimeout) {
+    super(in);
+    this.uri = uri;
+    this.maximumSize = maximumSize;
+    this.readTimeout = readTimeout;
+    this.timeout =
+        CompletableFuture.runAsync(
+            this::expire,
+            CompletableFuture.delayedExecutor(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Limits the body of the response. The body must be closed after reading.
+   *
+   * @param uri the requested uri
+   * @param response the response
+   * @param maximumSize the maximum size in bytes
+   * @param readTimeout the time for reading the body
+   * @return the limited body
+   * @throws ResponseTooLargeException if the declared <code>Content-Length</code> exceeds the
+   *     maximum size, the body is closed then
+   * @throws IOException if the response has no body
+   */
+  public static BoundedResponseBody of(
+      URI uri, HttpResponse<InputStream> response, long maximumSize, Duration readTimeout)
+      throws IOException {
+    final InputStream body = response.body();
+    if (body == null) {
+      throw new IOException("Empty response body");
+    }
+    final long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+    if (contentLength > maximumSize) {
+      body.close();
+      throw new ResponseTooLargeException(uri, maximumSize);
+    }
+    return new BoundedResponseBody(uri, body, maximumSize, readTimeout);
+  }
+
+  /**
+   * Gets the executor for reading response bodies of the client asynchronously. Reading blocks, so
+   * it must not happen on the common fork join pool.
+   *
+   * @param client the client
+   * @param executor the configured executor, may be null
+   * @return the configured executor, else the executor of the client, else a shared pool of daemon
+   *     threads, which grows with the concurrent reads
+   */
+  public static Executor readerExecutor(HttpClient client, Executor executor) {
+    if (executor != null) {
+      return executor;
+    }
+    return client.executor().orElseGet(() -> SharedReaderExecutor.INSTANCE);
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] b = new byte[1];
+    final int n = read(b, 0, 1);
+    return n < 0 ? -1 : b[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    checkTimeout(null);
+    final int n;
+    try {
+      // read at most one byte beyond the limit, enough to detect an oversized body
+      n = super.read(b, off, (int) Math.min(len, maximumSize - size + 1));
+    } catch (IOException e) {
+      checkTimeout(e);
+      throw e;
+    }
+    if (n > 0) {
+      size += n;
+      if (size > maximumSize) {
+        throw new ResponseTooLargeException(uri, maximumSize);
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    return Math.max(0, read(new byte[(int) Math.min(n, 8192)]));
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    timeout.cancel(false);
+    super.close();
+  }
+
+  private void checkTimeout(IOException cause) throws HttpTimeoutException {
+    if (timedOut) {
+      final HttpTimeoutException exception =
+          new HttpTimeoutException(
+              String.format(
+                  "Reading the response timed out [Timeout=%s, Uri=%s]", readTimeout, uri));
+      if (cause != null) {
+        exception.initCause(cause);
+      }
+      throw exception;
+    }
+  }
+
+  private void expire() {
+    timedOut = true;
+    try {
+      // unblocks a pending read
+      in.close();
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Failed to close the response body of " + uri, e);
+    }
+  }
+
+  private static final class SharedReaderExecutor {
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "ssi-response-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The directives of the <code>Cache-Control</code> response header, which are relevant for a client
+ * side cache.
+ */
+@Value
+@Builder
+class CacheControl {
+
+  /** The largest delta-seconds value, larger values are treated as this one (RFC 9111 1.2.2). */
+  static final long MAX_DELTA_SECONDS = 1L << 31;
+
+  /** The response must not be stored. */
+  boolean noStore;
+
+  /** The response must be revalidated before every use. */
+  boolean noCache;
+
+  /** A stale response must not be used without revalidation, not even on errors. */
+  boolean mustRevalidate;
+
+  /** The freshness lifetime, null if not specified. */
+  Duration maxAge;
+
+  /** How long a stale response may be used if revalidation fails, null if not specified. */
+  Duration staleIfError;
+
+  /**
+   * Whether the headers contain a <code>Cache-Control</code> header.
+   *
+   * @param headers the headers
+   * @return true, if present
+   */
+  static boolean isPresent(HttpHeaders headers) {
+    return headers.firstValue("Cache-Control").isPresent();
+  }
+
+  /**
+   * Parses the <code>Cache-Control</code> headers. Unknown directives are ignored, a malformed
+   * number is treated as zero, so that the response is considered stale rather than fresh.
+   *
+   * @param headers the headers
+   * @return the cache control
+   */
+  static CacheControl parse(HttpHeaders headers) {
+    final CacheControlBuilder builder = CacheControl.builder();
+    for (String header : headers.allValues("Cache-Control")) {
+      for (String directive : header.split(",")) {
+        final int separator = directive.indexOf('=');
+        final String name =
+            (separator < 0 ? directive : directive.substring(0, separator))
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        final String value =
+            separator < 0 ? null : directive.substring(separator + 1).trim().replace("\"", "");
+        switch (name) {
+          case "no-store":
+            builder.noStore(true);
+            break;
+          case "no-cache":
+            builder.noCache(true);
+            break;
+          case "must-revalidate":
+          case "proxy-revalidate":
+            builder.mustRevalidate(true);
+            break;
+          case "max-age":
+            builder.maxAge(parseSeconds(value));
+            break;
+          case "stale-if-error":
+            builder.staleIfError(parseSeconds(value));
+            break;
+          default:
+            break;
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  private static Duration parseSeconds(String value) {
+    return Duration.ofSeconds(parseDeltaSeconds(value));
+  }
+
+  /**
+   * Parses a delta-seconds value. A malformed value is treated as zero, a value larger than {@link
+   * #MAX_DELTA_SECONDS} as {@link #MAX_DELTA_SECONDS}, so that it can always be added to an
+   * instant.
+   *
+   * @param value the value
+   * @return the seconds
+   */
+  static long parseDeltaSeconds(String value) {
+    if (value == null || value.isEmpty() || !value.chars().allMatch(c -> c >= '0' && c <= '9')) {
+      return 0;
+    }
+    // more than 10 digits would overflow the maximum anyway, and maybe even a long
+    return value.length() > 10
+        ? MAX_DELTA_SECONDS
+        : Math.min(Long.parseLong(value), MAX_DELTA_SECONDS);
+  }
+}
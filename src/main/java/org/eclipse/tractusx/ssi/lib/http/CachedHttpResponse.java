@@ -0,0 +1,74 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A response body kept by the {@link CachingHttpFetcher}, together with the validators needed to
+ * revalidate it with a conditional request.
+ */
+@Value
+@Builder(toBuilder = true)
+public class CachedHttpResponse {
+
+  /** The requested uri. */
+  @NonNull URI uri;
+
+  /** The response body. */
+  @NonNull byte[] body;
+
+  /** The value of the <code>ETag</code> header, may be null. */
+  String eTag;
+
+  /** The value of the <code>Last-Modified</code> header, may be null. */
+  String lastModified;
+
+  /** The time the body was received or last revalidated. */
+  @NonNull Instant validatedAt;
+
+  /**
+   * The time the response becomes stale, derived from the caching headers. Null if the response
+   * didn't specify it, then the time to live of the {@link CachingHttpFetcher} applies.
+   */
+  Instant expiresAt;
+
+  /**
+   * How long the response may still be used after it became stale, if revalidating it fails with a
+   * transient error. Null or zero if it must not be used.
+   */
+  Duration staleIfError;
+
+  /**
+   * Whether the response can be revalidated with a conditional request.
+   *
+   * @return true, if it has an <code>ETag</code> or <code>Last-Modified</code>
+   */
+  public boolean isRevalidatable() {
+    return eTag != null || lastModified != null;
+  }
+}
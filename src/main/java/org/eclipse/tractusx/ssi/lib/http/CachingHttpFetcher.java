@@ -0,0 +1,409 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.Builder;
+
+/**
+ * Fetches documents over HTTP and keeps them in a two tier cache: in memory and, optionally, in a
+ * {@link DiskHttpResponseStore}. A cached document is returned without any request as long as it is
+ * fresh. Afterwards it is revalidated with a conditional request (<code>If-None-Match</code>/<code>
+ * If-Modified-Since</code>), so an unchanged document costs a <code>304 Not Modified</code> instead
+ * of a full download.
+ *
+ * <p>By default a document is fresh for the time to live after it was validated. With {@link
+ * CachingHttpFetcherBuilder#honourCacheHeaders(boolean)} the freshness of each document is derived
+ * from its <code>Cache-Control</code> (<code>max-age</code>, <code>no-cache</code>, <code>no-store
+ * </code>) and <code>Expires</code> headers instead, the time to live only applies to documents
+ * without them. In this mode a stale document is also served if revalidating it fails with a
+ * network error or a 500, 502, 503 or 504 response, for as long as its <code>stale-if-error</code>
+ * directive (or the configured default) allows, unless it is <code>must-revalidate</code>.
+ *
+ * <p>The fetcher is used for remote JSON-LD contexts ({@link
+ * org.eclipse.tractusx.ssi.lib.model.CachingHttpLoader}) and DID documents ({@link
+ * org.eclipse.tractusx.ssi.lib.did.web.DidWebResolver}).
+ */
+public class CachingHttpFetcher {
+
+  /** The default time a fetched document is used without revalidation. */
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(1);
+
+  /** The default maximum number of documents kept in memory. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private static final Logger LOG = Logger.getLogger(CachingHttpFetcher.class.getName());
+  private static final int NOT_MODIFIED = 304;
+
+  private final HttpClient client;
+  private final DiskHttpResponseStore diskStore;
+  private final Duration timeToLive;
+  private final boolean honourCacheHeaders;
+  private final Duration staleIfError;
+  private final long maximumDocumentSize;
+  private final Duration readTimeout;
+  private final Cache<URI, CachedHttpResponse> responses;
+  private final Clock clock;
+  private final Executor executor;
+
+  /**
+   * Instantiates a new Caching http fetcher with the default time to live and size.
+   *
+   * @param client the client
+   * @param diskStore the disk store, null keeps the documents in memory only
+   */
+  public CachingHttpFetcher(HttpClient client, DiskHttpResponseStore diskStore) {
+    this(client, diskStore, DEFAULT_TIME_TO_LIVE, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Instantiates a new Caching http fetcher.
+   *
+   * @param client the client
+   * @param diskStore the disk store, null keeps the documents in memory only
+   * @param timeToLive the time a fetched document is used without revalidation
+   * @param maximumSize the maximum number of documents kept in memory
+   */
+  public CachingHttpFetcher(
+      HttpClient client, DiskHttpResponseStore diskStore, Duration timeToLive, long maximumSize) {
+    this(client, diskStore, timeToLive, maximumSize, false, null, 0, null, null, null);
+  }
+
+  /**
+   * Instantiates a new Caching http fetcher.
+   *
+   * @param client the client
+   * @param diskStore the disk store, null keeps the documents in memory only
+   * @param timeToLive the time a fetched document is used without revalidation, if its freshness
+   *     isn't taken from the caching headers, {@link #DEFAULT_TIME_TO_LIVE} if null
+   * @param maximumSize the maximum number of documents kept in memory, {@link
+   *     #DEFAULT_MAXIMUM_SIZE} if zero
+   * @param honourCacheHeaders whether to derive the freshness from the caching headers and to serve
+   *     stale documents on transient errors
+   * @param staleIfError how long a stale document may be served on transient errors, if it has no
+   *     <code>stale-if-error</code> directive, zero if null
+   * @param maximumDocumentSize the maximum size of a document in bytes, {@link
+   *     BoundedResponseBody#DEFAULT_MAXIMUM_SIZE} if zero
+   * @param readTimeout the time for reading a document, {@link
+   *     BoundedResponseBody#DEFAULT_READ_TIMEOUT} if null
+   * @param clock the clock, the system clock if null
+   * @param executor the executor reading the documents of {@link #fetchAsync(URI, String)}, see
+   *     {@link BoundedResponseBody#readerExecutor(HttpClient, Executor)}
+   */
+  @Builder
+  private CachingHttpFetcher(
+      HttpClient client,
+      DiskHttpResponseStore diskStore,
+      Duration timeToLive,
+      long maximumSize,
+      boolean honourCacheHeaders,
+      Duration staleIfError,
+      long maximumDocumentSize,
+      Duration readTimeout,
+      Clock clock,
+      Executor executor) {
+    if (client == null) {
+      throw new NullPointerException("Http Client shouldn't be null");
+    }
+    this.client = client;
+    this.diskStore = diskStore;
+    this.timeToLive = timeToLive == null ? DEFAULT_TIME_TO_LIVE : timeToLive;
+    this.honourCacheHeaders = honourCacheHeaders;
+    this.staleIfError = staleIfError == null ? Duration.ZERO : staleIfError;
+    this.maximumDocumentSize =
+        maximumDocumentSize == 0 ? BoundedResponseBody.DEFAULT_MAXIMUM_SIZE : maximumDocumentSize;
+    this.readTimeout = readTimeout == null ? BoundedResponseBody.DEFAULT_READ_TIMEOUT : readTimeout;
+    this.responses =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize == 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize)
+            .build();
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+    this.executor = BoundedResponseBody.readerExecutor(client, executor);
+  }
+
+  /**
+   * Fetches the document.
+   *
+   * @param uri the uri
+   * @param accept the value of the <code>Accept</code> header
+   * @return the response
+   * @throws IOException if the request fails, the response is neither 2xx nor 304 or its body
+   *     exceeds the maximum size or read timeout
+   * @throws InterruptedException if interrupted while waiting for the response
+   */
+  public CachedHttpResponse fetch(URI uri, String accept) throws IOException, InterruptedException {
+    final CachedHttpResponse cached = getCached(uri).orElse(null);
+    if (cached != null && isFresh(cached)) {
+      return cached;
+    }
+
+    final HttpResponse<InputStream> response;
+    try {
+      response =
+          client.send(newRequest(uri, accept, cached), HttpResponse.BodyHandlers.ofInputStream());
+    } catch (IOException e) {
+      if (canServeStale(cached)) {
+        LOG.log(Level.FINE, "Serving stale " + uri, e);
+        return cached;
+      }
+      throw e;
+    }
+    return onResponse(uri, cached, response);
+  }
+
+  /**
+   * Fetches the document asynchronously.
+   *
+   * @param uri the uri
+   * @param accept the value of the <code>Accept</code> header
+   * @return the response, failing with an {@link IOException} if the request fails, the response is
+   *     neither 2xx nor 304 or its body exceeds the maximum size or read timeout
+   */
+  public CompletableFuture<CachedHttpResponse> fetchAsync(URI uri, String accept) {
+    final CachedHttpResponse cached = getCached(uri).orElse(null);
+    if (cached != null && isFresh(cached)) {
+      return CompletableFuture.completedFuture(cached);
+    }
+
+    return client
+        .sendAsync(newRequest(uri, accept, cached), HttpResponse.BodyHandlers.ofInputStream())
+        // reading the body blocks, so not on the common pool
+        .handleAsync(
+            (response, throwable) -> {
+              if (throwable != null) {
+                final Throwable cause =
+                    throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                if (cause instanceof IOException && canServeStale(cached)) {
+                  LOG.log(Level.FINE, "Serving stale " + uri, cause);
+                  return cached;
+                }
+                throw new CompletionException(cause);
+              }
+              try {
+                return onResponse(uri, cached, response);
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+            },
+            executor);
+  }
+
+  /**
+   * Removes the cached document from memory and disk, so that the next fetch downloads it again.
+   *
+   * @param uri the uri
+   */
+  public void invalidate(URI uri) {
+    responses.invalidate(uri);
+    if (diskStore != null) {
+      diskStore.remove(uri);
+    }
+  }
+
+  private Optional<CachedHttpResponse> getCached(URI uri) {
+    final CachedHttpResponse cached = responses.getIfPresent(uri);
+    if (cached != null || diskStore == null) {
+      return Optional.ofNullable(cached);
+    }
+
+    final Optional<CachedHttpResponse> stored = diskStore.get(uri);
+    stored.ifPresent(response -> responses.put(uri, response));
+    return stored;
+  }
+
+  private boolean isFresh(CachedHttpResponse cached) {
+    return getExpiresAt(cached).isAfter(clock.instant());
+  }
+
+  private boolean canServeStale(CachedHttpResponse cached) {
+    if (!honourCacheHeaders || cached == null || cached.getStaleIfError() == null) {
+      return false;
+    }
+    return getExpiresAt(cached).plus(cached.getStaleIfError()).isAfter(clock.instant());
+  }
+
+  private Instant getExpiresAt(CachedHttpResponse cached) {
+    if (honourCacheHeaders && cached.getExpiresAt() != null) {
+      return cached.getExpiresAt();
+    }
+    return cached.getValidatedAt().plus(timeToLive);
+  }
+
+  private static boolean isTransientError(int statusCode) {
+    return statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+  }
+
+  private HttpRequest newRequest(URI uri, String accept, CachedHttpResponse cached) {
+    final HttpRequest.Builder builder =
+        HttpRequest.newBuilder().uri(uri).timeout(readTimeout).GET();
+    if (accept != null) {
+      builder.header("Accept", accept);
+    }
+    if (cached != null && cached.getETag() != null) {
+      builder.header("If-None-Match", cached.getETag());
+    }
+    if (cached != null && cached.getLastModified() != null) {
+      builder.header("If-Modified-Since", cached.getLastModified());
+    }
+    return builder.build();
+  }
+
+  private CachedHttpResponse onResponse(
+      URI uri, CachedHttpResponse cached, HttpResponse<InputStream> response) throws IOException {
+    final HttpHeaders headers = response.headers();
+    final CachedHttpResponse.CachedHttpResponseBuilder builder;
+    if (response.statusCode() < 200 || response.statusCode() > 299) {
+      closeBody(response);
+    }
+    if (response.statusCode() == NOT_MODIFIED && cached != null) {
+      builder =
+          cached.toBuilder()
+              .eTag(headers.firstValue("ETag").orElse(cached.getETag()))
+              .lastModified(headers.firstValue("Last-Modified").orElse(cached.getLastModified()));
+    } else if (response.statusCode() >= 200 && response.statusCode() <= 299) {
+      builder =
+          CachedHttpResponse.builder()
+              .uri(uri)
+              .body(readBody(uri, response))
+              .eTag(headers.firstValue("ETag").orElse(null))
+              .lastModified(headers.firstValue("Last-Modified").orElse(null));
+    } else if (isTransientError(response.statusCode()) && canServeStale(cached)) {
+      LOG.fine(() -> String.format("Serving stale %s [Code=%s]", uri, response.statusCode()));
+      return cached;
+    } else {
+      throw new UnexpectedHttpStatusException(uri, response.statusCode());
+    }
+    final Instant now = clock.instant();
+    builder.validatedAt(now);
+
+    if (honourCacheHeaders) {
+      final CacheControl cacheControl = CacheControl.parse(headers);
+      if (cacheControl.isNoStore()) {
+        invalidate(uri);
+        return builder.expiresAt(now).staleIfError(null).build();
+      }
+      if (CacheControl.isPresent(headers) || headers.firstValue("Expires").isPresent()) {
+        final Duration lifetime = getLifetime(cacheControl, headers);
+        builder.expiresAt(lifetime == null ? null : now.plus(lifetime));
+        builder.staleIfError(
+            cacheControl.isMustRevalidate()
+                ? null
+                : Optional.ofNullable(cacheControl.getStaleIfError()).orElse(staleIfError));
+      } else if (cached != null && response.statusCode() == NOT_MODIFIED) {
+        // a 304 without caching headers keeps the lifetime of the revalidated response
+        builder.expiresAt(
+            cached.getExpiresAt() == null
+                ? null
+                : now.plus(Duration.between(cached.getValidatedAt(), cached.getExpiresAt())));
+      } else {
+        builder.expiresAt(null).staleIfError(staleIfError);
+      }
+    }
+
+    final CachedHttpResponse result = builder.build();
+    responses.put(uri, result);
+    if (diskStore != null) {
+      diskStore.put(result);
+    }
+    return result;
+  }
+
+  private byte[] readBody(URI uri, HttpResponse<InputStream> response) throws IOException {
+    if (response.body() == null) {
+      return new byte[0];
+    }
+    try (BoundedResponseBody body =
+        BoundedResponseBody.of(uri, response, maximumDocumentSize, readTimeout)) {
+      return body.readAllBytes();
+    }
+  }
+
+  private static void closeBody(HttpResponse<InputStream> response) {
+    if (response.body() == null) {
+      return;
+    }
+    try {
+      response.body().close();
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Failed to close the response body of " + response.uri(), e);
+    }
+  }
+
+  private Duration getLifetime(CacheControl cacheControl, HttpHeaders headers) {
+    if (cacheControl.isNoCache()) {
+      return Duration.ZERO;
+    }
+    if (cacheControl.getMaxAge() != null) {
+      final Duration age =
+          Duration.ofSeconds(
+              CacheControl.parseDeltaSeconds(headers.firstValue("Age").orElse("0").trim()));
+      return max(cacheControl.getMaxAge().minus(age), Duration.ZERO);
+    }
+    final Optional<String> expires = headers.firstValue("Expires");
+    if (expires.isEmpty()) {
+      return null;
+    }
+    // relative to the Date header, so that a skewed local clock doesn't matter
+    final ZonedDateTime expiresAt = parseHttpDate(expires.get());
+    if (expiresAt == null) {
+      return Duration.ZERO;
+    }
+    final ZonedDateTime date =
+        headers
+            .firstValue("Date")
+            .map(CachingHttpFetcher::parseHttpDate)
+            .orElseGet(() -> ZonedDateTime.now(clock));
+    return max(Duration.between(date, expiresAt), Duration.ZERO);
+  }
+
+  private static ZonedDateTime parseHttpDate(String value) {
+    try {
+      return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static Duration max(Duration a, Duration b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+}
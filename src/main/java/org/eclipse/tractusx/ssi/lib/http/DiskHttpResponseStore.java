@@ -0,0 +1,203 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.Getter;
+
+/**
+ * Persistent store of {@link CachedHttpResponse}s, one file per uri in a directory, so a restarted
+ * process can revalidate the responses of its predecessor instead of downloading them again.
+ *
+ * <p>Entries are replaced atomically by writing a temporary file and moving it over the old one, so
+ * concurrent readers and writers (also in other processes sharing the directory) never see a
+ * partial entry. The store is a cache: unreadable entries are treated as missing and failed writes
+ * are logged, but never fail the request they belong to.
+ */
+public class DiskHttpResponseStore {
+
+  private static final Logger LOG = Logger.getLogger(DiskHttpResponseStore.class.getName());
+  private static final int FORMAT_VERSION = 2;
+  private static final int FORMAT_VERSION_WITHOUT_EXPIRY = 1;
+  private static final String ENTRY_SUFFIX = ".entry";
+
+  /** The directory of the store. */
+  @Getter private final Path directory;
+
+  /**
+   * Instantiates a new Disk http response store, creating the directory if needed.
+   *
+   * @param directory the directory
+   * @throws IOException if the directory cannot be created
+   */
+  public DiskHttpResponseStore(Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+  }
+
+  /**
+   * Gets the stored response of the uri.
+   *
+   * @param uri the uri
+   * @return the response, empty if none is stored or the entry cannot be read
+   */
+  public Optional<CachedHttpResponse> get(URI uri) {
+    final Path file = getFile(uri);
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      final int version = in.readInt();
+      if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_EXPIRY) {
+        return Optional.empty();
+      }
+      final URI storedUri = URI.create(in.readUTF());
+      if (!storedUri.equals(uri)) {
+        return Optional.empty();
+      }
+      final String eTag = readNullableUTF(in);
+      final String lastModified = readNullableUTF(in);
+      final Instant validatedAt = Instant.ofEpochMilli(in.readLong());
+      Instant expiresAt = null;
+      Duration staleIfError = null;
+      if (version == FORMAT_VERSION) {
+        expiresAt = in.readBoolean() ? Instant.ofEpochMilli(in.readLong()) : null;
+        staleIfError = in.readBoolean() ? Duration.ofMillis(in.readLong()) : null;
+      }
+      final int length = in.readInt();
+      final byte[] body = in.readNBytes(length);
+      if (body.length != length) {
+        throw new IOException("Truncated cache entry");
+      }
+      return Optional.of(
+          CachedHttpResponse.builder()
+              .uri(uri)
+              .body(body)
+              .eTag(eTag)
+              .lastModified(lastModified)
+              .validatedAt(validatedAt)
+              .expiresAt(expiresAt)
+              .staleIfError(staleIfError)
+              .build());
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Ignoring unreadable cache entry " + file, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores the response, replacing a response stored for the same uri.
+   *
+   * @param response the response
+   */
+  public void put(CachedHttpResponse response) {
+    final Path file = getFile(response.getUri());
+    Path temporaryFile = null;
+    try {
+      temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(response.getUri().toString());
+        writeNullableUTF(out, response.getETag());
+        writeNullableUTF(out, response.getLastModified());
+        out.writeLong(response.getValidatedAt().toEpochMilli());
+        out.writeBoolean(response.getExpiresAt() != null);
+        if (response.getExpiresAt() != null) {
+          out.writeLong(response.getExpiresAt().toEpochMilli());
+        }
+        out.writeBoolean(response.getStaleIfError() != null);
+        if (response.getStaleIfError() != null) {
+          out.writeLong(response.getStaleIfError().toMillis());
+        }
+        out.writeInt(response.getBody().length);
+        out.write(response.getBody());
+      }
+      Files.move(
+          temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.log(Level.WARNING, "Failed to store cache entry " + file, e);
+      deleteQuietly(temporaryFile);
+    }
+  }
+
+  /**
+   * Removes the stored response of the uri.
+   *
+   * @param uri the uri
+   */
+  public void remove(URI uri) {
+    deleteQuietly(getFile(uri));
+  }
+
+  private Path getFile(URI uri) {
+    try {
+      final byte[] hash =
+          MessageDigest.getInstance("SHA-256")
+              .digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+      return directory.resolve(
+          Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + ENTRY_SUFFIX);
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String readNullableUTF(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.log(Level.FINE, "Failed to delete " + file, e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/** A snapshot of the requests a {@link ResilientHttpClient} sent to one host. */
+@Value
+@Builder
+public class HostMetrics {
+
+  /** The state of the circuit breaker of a host. */
+  public enum CircuitState {
+    /** Requests are sent. */
+    CLOSED,
+    /** Requests are rejected until the open duration elapsed. */
+    OPEN,
+    /** A single trial request is sent, its outcome closes or reopens the circuit. */
+    HALF_OPEN
+  }
+
+  /** The host, including the port if not the default. */
+  String host;
+
+  /** The number of requests sent. */
+  long requests;
+
+  /** The number of sent requests answered with a status below 500. */
+  long successes;
+
+  /** The number of sent requests failing or answered with a status of 500 or above. */
+  long failures;
+
+  /** The number of requests rejected, because the host had too many requests in flight. */
+  long rejectedByBulkhead;
+
+  /** The number of requests rejected, because the circuit was open. */
+  long rejectedByCircuitBreaker;
+
+  /** The number of requests in flight. */
+  int inFlight;
+
+  /** The state of the circuit breaker. */
+  CircuitState circuitState;
+
+  /** The average time until the response headers of a sent request were received. */
+  Duration averageLatency;
+}
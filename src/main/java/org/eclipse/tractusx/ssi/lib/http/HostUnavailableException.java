@@ -0,0 +1,61 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.io.IOException;
+import lombok.Getter;
+
+/**
+ * Thrown by the {@link ResilientHttpClient} for a request it rejects without sending it, to protect
+ * the caller from a slow or failing host.
+ */
+@Getter
+public class HostUnavailableException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  /** The reason of the rejection. */
+  public enum Reason {
+    /** The host has as many requests in flight as allowed. */
+    TOO_MANY_CONCURRENT_REQUESTS,
+    /** The circuit breaker of the host is open after repeated failures. */
+    CIRCUIT_OPEN
+  }
+
+  /** The host, including the port if not the default. */
+  private final String host;
+
+  /** The reason of the rejection. */
+  private final Reason reason;
+
+  /**
+   * Instantiates a new Host unavailable exception.
+   *
+   * @param host the host
+   * @param reason the reason
+   */
+  public HostUnavailableException(String host, Reason reason) {
+    super(String.format("Request rejected [Reason=%s, Host=%s]", reason, host));
+    this.host = host;
+    this.reason = reason;
+  }
+}
@@ -0,0 +1,535 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import org.eclipse.tractusx.ssi.lib.http.HostMetrics.CircuitState;
+import org.eclipse.tractusx.ssi.lib.http.HostUnavailableException.Reason;
+
+/**
+ * A {@link HttpClient} isolating the hosts it sends requests to, so that one slow or failing host
+ * (e.g. the did:web endpoint of a partner) cannot exhaust the threads and connections of the
+ * caller. It can be passed wherever a {@link HttpClient} is expected, e.g. to the {@link
+ * org.eclipse.tractusx.ssi.lib.did.web.DidWebResolver}, the {@link
+ * org.eclipse.tractusx.ssi.lib.did.resolver.DidUniResolver} or a {@link CachingHttpFetcher}.
+ *
+ * <ul>
+ *   <li>Bulkhead: at most a configured number of requests per host are in flight, further requests
+ *       are rejected immediately with a {@link HostUnavailableException}. A request is in flight
+ *       until its response headers are received.
+ *   <li>Deadlines: requests without a timeout get the configured request timeout. The default
+ *       client connects with the configured connect timeout.
+ *   <li>HTTP/2: the default client prefers HTTP/2, falling back to HTTP/1.1.
+ *   <li>Circuit breaker: after a configured number of consecutive failures (exceptions or status
+ *       500 and above) requests to the host are rejected for the open duration. Then a single trial
+ *       request is sent, its success closes the circuit, its failure opens it again.
+ *   <li>Metrics: {@link #getHostMetrics()} reports the requests, failures, rejections and latency
+ *       of each host.
+ * </ul>
+ *
+ * <p>The state of a host is kept while it is in use: every request holds a reference to its host
+ * from before it enters the bulkhead until it left it, and a referenced host is never evicted, so
+ * that concurrent requests always share the same bulkhead. An unreferenced host without an open
+ * circuit is evicted once it was idle for the configured idle timeout. As soon as more than the
+ * configured maximum number of hosts are kept, the least recently used unreferenced hosts with a
+ * closed circuit and no recent failures are evicted down to the maximum, so that requests to many
+ * distinct hosts don't grow the state without bound. An evicted host starts anew with its next
+ * request.
+ */
+public class ResilientHttpClient extends HttpClient {
+
+  /** The default time for connecting to a host. */
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+  /** The default time until the response headers of a request must be received. */
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  /** The default maximum number of requests in flight per host. */
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST = 16;
+
+  /** The default number of consecutive failures opening the circuit of a host. */
+  public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+  /** The default time the circuit of a host stays open. */
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  /** The default maximum number of hosts kept, beyond which unused hosts are evicted. */
+  public static final int DEFAULT_MAXIMUM_HOSTS = 1000;
+
+  /** The default time after which an idle host is evicted. */
+  public static final Duration DEFAULT_HOST_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+  private final HttpClient client;
+  private final Duration requestTimeout;
+  private final int maximumConcurrentRequestsPerHost;
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final int maximumHosts;
+  private final Duration hostIdleTimeout;
+  private final Clock clock;
+  private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+  private final AtomicReference<Instant> nextEviction;
+
+  /**
+   * Instantiates a new Resilient http client.
+   *
+   * @param client the client sending the requests, a new client preferring HTTP/2 and connecting
+   *     with the connect timeout if null
+   * @param connectTimeout the time for connecting to a host, {@link #DEFAULT_CONNECT_TIMEOUT} if
+   *     null, ignored if a client is given
+   * @param requestTimeout the time until the response headers of a request without timeout must be
+   *     received, {@link #DEFAULT_REQUEST_TIMEOUT} if null
+   * @param maximumConcurrentRequestsPerHost the maximum number of requests in flight per host,
+   *     {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST} if zero
+   * @param failureThreshold the number of consecutive failures opening the circuit of a host,
+   *     {@link #DEFAULT_FAILURE_THRESHOLD} if zero
+   * @param openDuration the time the circuit of a host stays open, {@link #DEFAULT_OPEN_DURATION}
+   *     if null
+   * @param maximumHosts the maximum number of hosts kept, beyond which the least recently used
+   *     hosts without failures are evicted, {@link #DEFAULT_MAXIMUM_HOSTS} if zero
+   * @param hostIdleTimeout the time after which an idle host is evicted, {@link
+   *     #DEFAULT_HOST_IDLE_TIMEOUT} if null
+   * @param clock the clock, the system clock if null
+   */
+  // qualified, as Builder would resolve to the inherited HttpClient.Builder
+  @lombok.Builder
+  private ResilientHttpClient(
+      HttpClient client,
+      Duration connectTimeout,
+      Duration requestTimeout,
+      int maximumConcurrentRequestsPerHost,
+      int failureThreshold,
+      Duration openDuration,
+      int maximumHosts,
+      Duration hostIdleTimeout,
+      Clock clock) {
+    this.client =
+        client != null
+            ? client
+            : HttpClient.newBuilder()
+                .version(Version.HTTP_2)
+                .connectTimeout(connectTimeout == null ? DEFAULT_CONNECT_TIMEOUT : connectTimeout)
+                .build();
+    this.requestTimeout = requestTimeout == null ? DEFAULT_REQUEST_TIMEOUT : requestTimeout;
+    this.maximumConcurrentRequestsPerHost =
+        maximumConcurrentRequestsPerHost == 0
+            ? DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST
+            : maximumConcurrentRequestsPerHost;
+    this.failureThreshold = failureThreshold == 0 ? DEFAULT_FAILURE_THRESHOLD : failureThreshold;
+    this.openDuration = openDuration == null ? DEFAULT_OPEN_DURATION : openDuration;
+    this.maximumHosts = maximumHosts == 0 ? DEFAULT_MAXIMUM_HOSTS : maximumHosts;
+    this.hostIdleTimeout = hostIdleTimeout == null ? DEFAULT_HOST_IDLE_TIMEOUT : hostIdleTimeout;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+    this.nextEviction = new AtomicReference<>(this.clock.instant().plus(this.hostIdleTimeout));
+  }
+
+  /**
+   * Gets the metrics of all hosts requests were sent to and which weren't evicted since.
+   *
+   * @return the metrics by host
+   */
+  public Map<String, HostMetrics> getHostMetrics() {
+    return hosts.values().stream()
+        .map(Host::getMetrics)
+        .collect(Collectors.toUnmodifiableMap(HostMetrics::getHost, metrics -> metrics));
+  }
+
+  /**
+   * Gets the metrics of a host.
+   *
+   * @param uri a uri of the host
+   * @return the metrics, empty if no request was sent to the host or it was evicted since
+   */
+  public Optional<HostMetrics> getHostMetrics(URI uri) {
+    return Optional.ofNullable(hosts.get(getHostName(uri))).map(Host::getMetrics);
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(
+      HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+      throws IOException, InterruptedException {
+    final Host host = getHost(request.uri());
+    try {
+      host.acquire();
+    } catch (HostUnavailableException e) {
+      releaseHost(host);
+      throw e;
+    }
+    final long start = System.nanoTime();
+    Boolean success = null;
+    try {
+      final HttpResponse<T> response = client.send(withTimeout(request), responseBodyHandler);
+      success = isSuccess(response);
+      return response;
+    } catch (IOException e) {
+      success = false;
+      throw e;
+    } finally {
+      release(host, success, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+    return sendAsync(request, responseBodyHandler, null);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest request,
+      HttpResponse.BodyHandler<T> responseBodyHandler,
+      HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+    final Host host = getHost(request.uri());
+    try {
+      host.acquire();
+    } catch (HostUnavailableException e) {
+      releaseHost(host);
+      return CompletableFuture.failedFuture(e);
+    }
+    final long start = System.nanoTime();
+    final CompletableFuture<HttpResponse<T>> response;
+    try {
+      response =
+          pushPromiseHandler == null
+              ? client.sendAsync(withTimeout(request), responseBodyHandler)
+              : client.sendAsync(withTimeout(request), responseBodyHandler, pushPromiseHandler);
+    } catch (RuntimeException e) {
+      release(host, null, System.nanoTime() - start);
+      throw e;
+    }
+    return response.whenComplete(
+        (r, throwable) -> {
+          final Boolean success;
+          if (throwable == null) {
+            success = isSuccess(r);
+          } else {
+            success = throwable instanceof CancellationException ? null : false;
+          }
+          release(host, success, System.nanoTime() - start);
+        });
+  }
+
+  @Override
+  public Optional<CookieHandler> cookieHandler() {
+    return client.cookieHandler();
+  }
+
+  @Override
+  public Optional<Duration> connectTimeout() {
+    return client.connectTimeout();
+  }
+
+  @Override
+  public Redirect followRedirects() {
+    return client.followRedirects();
+  }
+
+  @Override
+  public Optional<ProxySelector> proxy() {
+    return client.proxy();
+  }
+
+  @Override
+  public SSLContext sslContext() {
+    return client.sslContext();
+  }
+
+  @Override
+  public SSLParameters sslParameters() {
+    return client.sslParameters();
+  }
+
+  @Override
+  public Optional<Authenticator> authenticator() {
+    return client.authenticator();
+  }
+
+  @Override
+  public Version version() {
+    return client.version();
+  }
+
+  @Override
+  public Optional<Executor> executor() {
+    return client.executor();
+  }
+
+  @Override
+  public WebSocket.Builder newWebSocketBuilder() {
+    return client.newWebSocketBuilder();
+  }
+
+  private HttpRequest withTimeout(HttpRequest request) {
+    if (request.timeout().isPresent()) {
+      return request;
+    }
+    return HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build();
+  }
+
+  private static boolean isSuccess(HttpResponse<?> response) {
+    return response.statusCode() < 500;
+  }
+
+  /** Gets the host of the URI, holding a reference to it until {@link #releaseHost(Host)}. */
+  private Host getHost(URI uri) {
+    final Instant now = clock.instant();
+    // the reference is taken under the lock of the entry, so the host cannot be evicted meanwhile
+    final Host host =
+        hosts.compute(
+            getHostName(uri),
+            (name, existing) -> {
+              final Host referenced = existing == null ? new Host(name) : existing;
+              referenced.references++;
+              referenced.lastUsed = now;
+              return referenced;
+            });
+    if (hosts.size() > maximumHosts) {
+      evictLeastRecentlyUsedHosts();
+    }
+
+    final Instant evictAt = nextEviction.get();
+    if (!now.isBefore(evictAt) && nextEviction.compareAndSet(evictAt, now.plus(hostIdleTimeout))) {
+      evictIdleHosts(now);
+    }
+    return host;
+  }
+
+  private void releaseHost(Host host) {
+    hosts.computeIfPresent(
+        host.name,
+        (name, referenced) -> {
+          referenced.references--;
+          return referenced;
+        });
+  }
+
+  private void release(Host host, Boolean success, long nanos) {
+    host.release(success, nanos);
+    releaseHost(host);
+  }
+
+  /**
+   * Evicts the least recently used hosts which are unreferenced, have a closed circuit and no
+   * consecutive failures, until no more than the maximum number of hosts are kept. Hosts with
+   * failures are kept, so that a flood of requests to new hosts cannot reset their circuit.
+   */
+  private void evictLeastRecentlyUsedHosts() {
+    final List<Map.Entry<Instant, Host>> candidates =
+        hosts.values().stream()
+            .filter(Host::isUnusedAndHealthy)
+            // the last use is read once, as it may change while sorting
+            .map(host -> Map.entry(host.lastUsed, host))
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+    for (Map.Entry<Instant, Host> candidate : candidates) {
+      if (hosts.size() <= maximumHosts) {
+        return;
+      }
+      evict(candidate.getValue(), Host::isUnusedAndHealthy);
+    }
+  }
+
+  /** Evicts the unreferenced hosts without an open circuit, idle for the idle timeout. */
+  private void evictIdleHosts(Instant now) {
+    final Instant idleSince = now.minus(hostIdleTimeout);
+    for (Host host : hosts.values()) {
+      evict(host, candidate -> candidate.isIdle(idleSince, now));
+    }
+  }
+
+  /**
+   * Removes the host if it is still the one kept under its name, unreferenced and evictable. The
+   * check and the removal happen under the lock of the entry, which also guards the references.
+   */
+  private void evict(Host host, Predicate<Host> evictable) {
+    if (!evictable.test(host)) {
+      return;
+    }
+    hosts.computeIfPresent(
+        host.name,
+        (name, current) ->
+            current == host && current.references == 0 && evictable.test(current) ? null : current);
+  }
+
+  private static String getHostName(URI uri) {
+    final String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+    return uri.getPort() < 0 ? host : host + ":" + uri.getPort();
+  }
+
+  /** The bulkhead, circuit breaker and metrics of a host. */
+  private final class Host {
+
+    private final String name;
+    private final Semaphore permits = new Semaphore(maximumConcurrentRequestsPerHost);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedByBulkhead = new LongAdder();
+    private final LongAdder rejectedByCircuitBreaker = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil;
+    private boolean trialInFlight;
+    private volatile Instant lastUsed;
+
+    /** The requests holding this host, only changed under the lock of its entry of the hosts. */
+    private volatile int references;
+
+    private Host(String name) {
+      this.name = name;
+      this.lastUsed = clock.instant();
+    }
+
+    private void acquire() throws HostUnavailableException {
+      if (!permits.tryAcquire()) {
+        rejectedByBulkhead.increment();
+        throw new HostUnavailableException(name, Reason.TOO_MANY_CONCURRENT_REQUESTS);
+      }
+      if (!tryEnterCircuit()) {
+        permits.release();
+        rejectedByCircuitBreaker.increment();
+        throw new HostUnavailableException(name, Reason.CIRCUIT_OPEN);
+      }
+      requests.increment();
+    }
+
+    /**
+     * Releases the permit of a request.
+     *
+     * @param success whether the host answered properly, null if the request was aborted by the
+     *     caller, which says nothing about the host
+     * @param nanos the time until the response headers were received
+     */
+    private void release(Boolean success, long nanos) {
+      if (success == null) {
+        onAbort();
+      } else if (success) {
+        successes.increment();
+        latencyNanos.add(nanos);
+        onSuccess();
+      } else {
+        failures.increment();
+        latencyNanos.add(nanos);
+        onFailure();
+      }
+      permits.release();
+    }
+
+    private synchronized boolean tryEnterCircuit() {
+      switch (circuitState) {
+        case OPEN:
+          if (clock.instant().isBefore(openUntil)) {
+            return false;
+          }
+          circuitState = CircuitState.HALF_OPEN;
+          trialInFlight = true;
+          return true;
+        case HALF_OPEN:
+          if (trialInFlight) {
+            return false;
+          }
+          trialInFlight = true;
+          return true;
+        default:
+          return true;
+      }
+    }
+
+    private synchronized void onSuccess() {
+      circuitState = CircuitState.CLOSED;
+      consecutiveFailures = 0;
+      trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+      consecutiveFailures++;
+      if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+        circuitState = CircuitState.OPEN;
+        openUntil = clock.instant().plus(openDuration);
+      }
+      trialInFlight = false;
+    }
+
+    private synchronized void onAbort() {
+      trialInFlight = false;
+    }
+
+    private synchronized CircuitState getCircuitState() {
+      return circuitState;
+    }
+
+    private synchronized boolean isIdle(Instant idleSince, Instant now) {
+      return references == 0
+          && !lastUsed.isAfter(idleSince)
+          && (circuitState != CircuitState.OPEN || !now.isBefore(openUntil));
+    }
+
+    private synchronized boolean isUnusedAndHealthy() {
+      return references == 0 && circuitState == CircuitState.CLOSED && consecutiveFailures == 0;
+    }
+
+    private HostMetrics getMetrics() {
+      final long completed = successes.sum() + failures.sum();
+      return HostMetrics.builder()
+          .host(name)
+          .requests(requests.sum())
+          .successes(successes.sum())
+          .failures(failures.sum())
+          .rejectedByBulkhead(rejectedByBulkhead.sum())
+          .rejectedByCircuitBreaker(rejectedByCircuitBreaker.sum())
+          .inFlight(maximumConcurrentRequestsPerHost - permits.availablePermits())
+          .circuitState(getCircuitState())
+          .averageLatency(
+              completed == 0 ? Duration.ZERO : Duration.ofNanos(latencyNanos.sum() / completed))
+          .build();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import java.io.IOException;
+import java.net.URI;
+import lombok.Getter;
+
+/** Thrown by the {@link CachingHttpFetcher} for a response that is neither 2xx nor 304. */
+@Getter
+public class UnexpectedHttpStatusException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  /** The requested uri. */
+  private final URI uri;
+
+  /** The status code of the response. */
+  private final int statusCode;
+
+  /**
+   * Instantiates a new Unexpected http status exception.
+   *
+   * @param uri the requested uri
+   * @param statusCode the status code of the response
+   */
+  public UnexpectedHttpStatusException(URI uri, int statusCode) {
+    super(String.format("Unexpected response [Code=%s, Uri=%s]", statusCode, uri));
+    this.uri = uri;
+    this.statusCode = statusCode;
+  }
+}
@@ -24,7 +24,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.net.URI;
@@ -35,10 +34,10 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.crypt.IPrivateKey;
-import org.eclipse.tractusx.ssi.lib.crypt.util.SignerUtil;
 import org.eclipse.tractusx.ssi.lib.did.web.util.Constants;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.proof.PreparedSigner;
 import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
 import org.eclipse.tractusx.ssi.lib.serialization.jwt.JwtConfig;
 import org.eclipse.tractusx.ssi.lib.serialization.jwt.SerializedVerifiablePresentation;
@@ -232,18 +231,39 @@ public class SignedJwtFactory {
   public SignedJWT createSignedES256Jwt(
       IPrivateKey privateKey, JWTClaimsSet claimsSet, String issuer, String keyId) {
 
+    final PreparedSigner signer;
+    try {
+      signer = PreparedSigner.newInstance(privateKey, signatureType);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return createSignedES256Jwt(signer, claimsSet, issuer, keyId);
+  }
+
+  /**
+   * Create a signedJwt for ES256 JWT {@link SignedJWT} with a set of claims, using a signer
+   * prepared once for many JWTs. The algorithm is taken from the signature type of the signer.
+   *
+   * @param signer the prepared signer
+   * @param claimsSet the claims set
+   * @param issuer the issuer
+   * @param keyId the key id
+   * @return signed jwt
+   */
+  public SignedJWT createSignedES256Jwt(
+      PreparedSigner signer, JWTClaimsSet claimsSet, String issuer, String keyId) {
+
     try {
-      JWSSigner signer = SignerUtil.getSigner(signatureType, privateKey);
       var type = JOSEObjectType.JWT;
       var header =
-          new JWSHeader.Builder(new JWSAlgorithm(signatureType.getAlgorithm()))
+          new JWSHeader.Builder(new JWSAlgorithm(signer.getSignatureType().getAlgorithm()))
               .type(type)
               .keyID(issuer + "#" + keyId)
               .build();
 
       var vc = new SignedJWT(header, claimsSet);
 
-      vc.sign(signer);
+      vc.sign(signer.getJwsSigner());
       return vc;
     } catch (Exception e) {
       throw new IllegalStateException(e);
@@ -22,32 +22,25 @@
 package org.eclipse.tractusx.ssi.lib.jwt;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.Ed25519Verifier;
-import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
-import com.nimbusds.jose.crypto.impl.ECDSAProvider;
-import com.nimbusds.jose.crypto.impl.EdDSAProvider;
-import com.nimbusds.jose.crypto.impl.RSASSAProvider;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.OctetKeyPair;
-import com.nimbusds.jose.proc.JWSVerifierFactory;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import java.net.URI;
 import java.text.ParseException;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.ssi.lib.crypt.util.JWSVerifierCache;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureParseException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureVerificationException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
-import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
 import org.eclipse.tractusx.ssi.lib.model.did.Ed25519VerificationMethod;
+import org.eclipse.tractusx.ssi.lib.model.did.IndexedDidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod;
 import org.eclipse.tractusx.ssi.lib.model.did.VerificationMethod;
 
@@ -76,30 +69,40 @@ public class SignedJwtVerifier {
     final String issuer = jwtClaimsSet.getIssuer();
     final Did issuerDid = DidParser.parse(issuer);
 
-    final DidDocument issuerDidDocument =
+    final IndexedDidDocument issuerDidDocument =
         didResolver
             .resolve(issuerDid)
-            .orElseThrow(() -> new IllegalStateException("document could not be resolved"));
-    final List<VerificationMethod> verificationMethods = issuerDidDocument.getVerificationMethods();
+            .orElseThrow(() -> new IllegalStateException("document could not be resolved"))
+            .getIndex();
 
     // verify JWT signature
-    Map<String, VerificationMethod> verificationMethodMap = toMap(verificationMethods);
-
     String keyID = jwt.getHeader().getKeyID();
-    VerificationMethod verificationMethod = verificationMethodMap.get(keyID);
-    if (verificationMethod == null) {
-      throw new IllegalArgumentException(
-          String.format("no verification method for keyID %s found", keyID));
-    }
+    VerificationMethod verificationMethod =
+        Optional.ofNullable(keyID)
+            .map(URI::create)
+            .flatMap(issuerDidDocument::getVerificationMethod)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        String.format("no verification method for keyID %s found", keyID)));
 
     try {
-      if (JWKVerificationMethod.isInstance(verificationMethod)) {
-        final JWKVerificationMethod method = new JWKVerificationMethod(verificationMethod);
-        JWSVerifier verifier = getVerifier(jwt.getHeader(), method.getJwk());
+      if (verificationMethod instanceof JWKVerificationMethod method) {
+        JWSVerifier verifier =
+            JWSVerifierCache.getInstance()
+                .getVerifier(method.getId(), jwt.getHeader().getAlgorithm(), method.getJwk());
         return jwt.verify(verifier);
-      } else if (Ed25519VerificationMethod.isInstance(verificationMethod)) {
-        final Ed25519VerificationMethod method = new Ed25519VerificationMethod(verificationMethod);
-        return jwt.verify(new Ed25519Verifier(method.getOctetKeyPair()));
+      } else if (verificationMethod instanceof Ed25519VerificationMethod) {
+        final JWK key =
+            issuerDidDocument
+                .getPublicKey(verificationMethod)
+                .orElseThrow(
+                    () ->
+                        new SignatureVerificationException(
+                            String.format("invalid public key for keyID %s", keyID)));
+        return jwt.verify(
+            JWSVerifierCache.getInstance()
+                .getVerifier(verificationMethod.getId(), JWSAlgorithm.EdDSA, key));
       }
     } catch (JOSEException e) {
       throw new SignatureVerificationException(e.getMessage());
@@ -107,26 +110,4 @@ public class SignedJwtVerifier {
 
     return false;
   }
-
-  private Map<String, VerificationMethod> toMap(List<VerificationMethod> l) {
-    Map<String, VerificationMethod> result = new HashMap<>();
-    l.forEach(v -> result.put(v.getId().toString(), v));
-    return result;
-  }
-
-  private JWSVerifier getVerifier(JWSHeader header, JWK key) throws JOSEException {
-    if (EdDSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-      return new Ed25519Verifier(((OctetKeyPair) key).toPublicJWK());
-    } else {
-      JWSVerifierFactory verifierFactory = new DefaultJWSVerifierFactory();
-      if (RSASSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-        return verifierFactory.createJWSVerifier(header, key.toRSAKey().toRSAPublicKey());
-      }
-      if (ECDSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-        return verifierFactory.createJWSVerifier(header, key.toECKey().toPublicKey());
-      }
-    }
-    throw new IllegalArgumentException(
-        String.format("algorithm %s is not supported", header.getAlgorithm().getName()));
-  }
 }
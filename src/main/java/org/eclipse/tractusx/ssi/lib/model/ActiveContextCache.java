@@ -0,0 +1,268 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.expansion.Expansion;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cache of processed JSON-LD contexts. Processing the {@code @context} of a document (loading the
+ * remote contexts and building all term definitions) is the most expensive part of the expansion.
+ * As most documents share the same few contexts, the resulting {@link ActiveContext} is cached by
+ * the ordered list of context URIs and reused by all expansions.
+ *
+ * <p>The contexts are also keyed by the identity of the {@link DocumentLoader} of the options, so
+ * that a context loaded by one loader is never used for the expansions of another loader. Each
+ * context is processed only once, concurrent requests for the same context wait for it.
+ */
+public class ActiveContextCache {
+
+  private static final int CACHE_PERIOD_IN_DAYS = 1;
+  private static final long DEFAULT_MAXIMUM_SIZE = 256;
+
+  private static final ActiveContextCache INSTANCE = new ActiveContextCache(DEFAULT_MAXIMUM_SIZE);
+
+  private final Cache<Key, ActiveContext> activeContexts;
+
+  /** Instantiates a new Active context cache with the same maximum size as the shared instance. */
+  public ActiveContextCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Instantiates a new Active context cache.
+   *
+   * @param maximumSize the maximum number of cached contexts
+   */
+  public ActiveContextCache(long maximumSize) {
+    this.activeContexts =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofDays(CACHE_PERIOD_IN_DAYS))
+            .build();
+  }
+
+  /**
+   * Gets the shared instance.
+   *
+   * @return the instance
+   */
+  public static ActiveContextCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Expands the JSON-LD document. This is equivalent to the expansion of the JSON-LD processor, but
+   * the top level {@code @context} of the document is taken from the cache.
+   *
+   * @param document the document
+   * @param options the options
+   * @return the expanded document
+   * @throws JsonLdError the json ld error
+   */
+  public JsonArray expand(JsonObject document, JsonLdOptions options) throws JsonLdError {
+    final ActiveContext activeContext = get(document.get(Keywords.CONTEXT), options);
+    final JsonObject element =
+        document.containsKey(Keywords.CONTEXT)
+            ? Json.createObjectBuilder(document).remove(Keywords.CONTEXT).build()
+            : document;
+
+    JsonValue expanded =
+        Expansion.with(activeContext, element, null, options.getBase())
+            .ordered(options.isOrdered())
+            .compute();
+
+    if (expanded.getValueType() == JsonValue.ValueType.OBJECT) {
+      final JsonObject object = expanded.asJsonObject();
+      if (object.size() == 1 && object.containsKey(Keywords.GRAPH)) {
+        expanded = object.get(Keywords.GRAPH);
+      }
+    }
+
+    if (expanded.getValueType() == JsonValue.ValueType.NULL) {
+      return JsonValue.EMPTY_JSON_ARRAY;
+    }
+    if (expanded.getValueType() == JsonValue.ValueType.ARRAY) {
+      return expanded.asJsonArray();
+    }
+    return Json.createArrayBuilder().add(expanded).build();
+  }
+
+  /**
+   * Gets the active context for the given {@code @context} value.
+   *
+   * @param context the {@code @context} value of the document, may be null
+   * @param options the options
+   * @return the active context
+   * @throws JsonLdError the json ld error
+   */
+  public ActiveContext get(JsonValue context, JsonLdOptions options) throws JsonLdError {
+    final Key key =
+        new Key(
+            options.getDocumentLoader(),
+            options.getBase(),
+            getExpandContext(options),
+            toUris(context));
+
+    try {
+      return activeContexts.get(
+          key,
+          k -> {
+            try {
+              return create(context, options);
+            } catch (JsonLdError e) {
+              throw new ContextProcessingException(e);
+            }
+          });
+    } catch (ContextProcessingException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** Removes all cached contexts. */
+  public void clear() {
+    activeContexts.invalidateAll();
+    activeContexts.cleanUp();
+  }
+
+  private ActiveContext create(JsonValue context, JsonLdOptions options) throws JsonLdError {
+    final URI base = options.getBase();
+    ActiveContext activeContext = new ActiveContext(base, base, options);
+
+    final JsonStructure expandContext = getExpandContext(options);
+    if (expandContext != null) {
+      activeContext = updateContext(activeContext, expandContext, base);
+    }
+
+    if (context != null) {
+      activeContext = activeContext.newContext().create(context, base);
+    }
+    return activeContext;
+  }
+
+  private static JsonStructure getExpandContext(JsonLdOptions options) throws JsonLdError {
+    if (options.getExpandContext() == null) {
+      return null;
+    }
+    return options.getExpandContext().getJsonContent().orElse(null);
+  }
+
+  // same as the (private) context update of the JSON-LD expansion processor
+  private static ActiveContext updateContext(
+      ActiveContext activeContext, JsonStructure expandContext, URI baseUrl) throws JsonLdError {
+    if (expandContext.getValueType() == JsonValue.ValueType.ARRAY) {
+      final JsonArray array = expandContext.asJsonArray();
+      if (array.size() == 1
+          && array.get(0).getValueType() == JsonValue.ValueType.OBJECT
+          && array.get(0).asJsonObject().containsKey(Keywords.CONTEXT)) {
+        return activeContext
+            .newContext()
+            .create(array.get(0).asJsonObject().get(Keywords.CONTEXT), baseUrl);
+      }
+      return activeContext.newContext().create(array, baseUrl);
+    }
+
+    final JsonObject object = expandContext.asJsonObject();
+    if (object.containsKey(Keywords.CONTEXT)) {
+      return activeContext.newContext().create(object.get(Keywords.CONTEXT), baseUrl);
+    }
+    return activeContext
+        .newContext()
+        .create(Json.createArrayBuilder().add(object).build(), baseUrl);
+  }
+
+  private static List<String> toUris(JsonValue context) {
+    final List<String> uris = new ArrayList<>();
+    if (context == null) {
+      return uris;
+    }
+    if (context.getValueType() == JsonValue.ValueType.ARRAY) {
+      for (JsonValue value : context.asJsonArray()) {
+        uris.add(toUri(value));
+      }
+    } else {
+      uris.add(toUri(context));
+    }
+    return uris;
+  }
+
+  private static String toUri(JsonValue value) {
+    // JsonLdObject only allows context URIs, embedded contexts are keyed by their content
+    return value.getValueType() == JsonValue.ValueType.STRING
+        ? ((JsonString) value).getString()
+        : value.toString();
+  }
+
+  @RequiredArgsConstructor
+  private static class Key {
+    private final DocumentLoader documentLoader;
+    private final URI base;
+    private final JsonStructure expandContext;
+    private final List<String> contexts;
+
+    // the loader is compared by identity, as different loaders may load different documents
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key key
+          && documentLoader == key.documentLoader
+          && Objects.equals(base, key.base)
+          && Objects.equals(expandContext, key.expandContext)
+          && contexts.equals(key.contexts);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(documentLoader), base, expandContext, contexts);
+    }
+  }
+
+  /** Passes the error of processing a context through the computation of the cache. */
+  private static class ContextProcessingException extends RuntimeException {
+
+    private ContextProcessingException(JsonLdError cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized JsonLdError getCause() {
+      return (JsonLdError) super.getCause();
+    }
+  }
+}
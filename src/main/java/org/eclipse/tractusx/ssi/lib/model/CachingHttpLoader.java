@@ -0,0 +1,78 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import org.eclipse.tractusx.ssi.lib.http.CachedHttpResponse;
+import org.eclipse.tractusx.ssi.lib.http.CachingHttpFetcher;
+
+/**
+ * A {@link DocumentLoader} for http and https documents, which fetches them through a {@link
+ * CachingHttpFetcher}. With a {@link org.eclipse.tractusx.ssi.lib.http.DiskHttpResponseStore} the
+ * remote contexts survive a restart and are only revalidated, not downloaded again.
+ *
+ * <p>It can be used as {@link RemoteDocumentLoader#setDefaultHttpLoader(DocumentLoader)} or as http
+ * loader of a {@link ConfiguredDocumentLoader}.
+ */
+public class CachingHttpLoader implements DocumentLoader {
+
+  private static final String ACCEPT = "application/ld+json, application/json;q=0.9";
+
+  private final CachingHttpFetcher fetcher;
+
+  /**
+   * Instantiates a new Caching http loader.
+   *
+   * @param fetcher the fetcher
+   */
+  public CachingHttpLoader(CachingHttpFetcher fetcher) {
+    if (fetcher == null) {
+      throw new NullPointerException("Fetcher shouldn't be null");
+    }
+    this.fetcher = fetcher;
+  }
+
+  @Override
+  public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+    try {
+      final CachedHttpResponse response = fetcher.fetch(url, ACCEPT);
+      final Document document =
+          JsonDocument.of(MediaType.JSON_LD, new ByteArrayInputStream(response.getBody()));
+      document.setDocumentUrl(url);
+      return document;
+    } catch (IOException e) {
+      throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A {@link DocumentLoader} with an immutable configuration. Unlike the shared {@link
+ * RemoteDocumentLoader}, it is meant to be created per {@link
+ * org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer} or {@link
+ * org.eclipse.tractusx.ssi.lib.validation.JsonLdValidatorImpl} and can be used by any number of
+ * threads without synchronization.
+ *
+ * <p>Documents are looked up in the local documents and the {@link ContextRegistry} first.
+ * Documents with an enabled scheme are loaded by the http or file loader and kept in the remote
+ * cache.
+ */
+@Getter
+public class ConfiguredDocumentLoader implements DocumentLoader {
+
+  /** The constant HTTP. */
+  public static final String HTTP = "http";
+
+  /** The constant HTTPS. */
+  public static final String HTTPS = "https";
+
+  /** The constant FILE. */
+  public static final String FILE = "file";
+
+  private static final int CACHE_PERIOD_IN_DAYS = 1;
+  private static final Set<String> SUPPORTED_SCHEMES = Set.of(HTTP, HTTPS, FILE);
+  private static final Logger LOG = Logger.getLogger(ConfiguredDocumentLoader.class.getName());
+
+  private final Map<URI, Document> localDocuments;
+  private final ContextRegistry contextRegistry;
+  private final Set<String> schemes;
+  private final DocumentLoader httpLoader;
+  private final DocumentLoader fileLoader;
+  private final Cache<URI, Document> remoteCache;
+
+  /**
+   * Instantiates a new Configured document loader.
+   *
+   * @param localDocuments the documents returned without loading them
+   * @param contextRegistry the registry of known contexts, consulted after the local documents, the
+   *     shared {@link ContextRegistry#getInstance()} if null
+   * @param schemes the schemes documents are loaded from, {@link #HTTPS} only if null
+   * @param httpLoader the loader of http and https documents, the {@link
+   *     RemoteDocumentLoader#getDefaultHttpLoader()} if null
+   * @param fileLoader the loader of file documents, the {@link
+   *     RemoteDocumentLoader#getDefaultFileLoader()} if null
+   * @param remoteCache the cache of loaded documents, a cache expiring after one day if null
+   */
+  @Builder(toBuilder = true)
+  private ConfiguredDocumentLoader(
+      Map<URI, Document> localDocuments,
+      ContextRegistry contextRegistry,
+      Set<String> schemes,
+      DocumentLoader httpLoader,
+      DocumentLoader fileLoader,
+      Cache<URI, Document> remoteCache) {
+    this.localDocuments = localDocuments == null ? Map.of() : Map.copyOf(localDocuments);
+    this.contextRegistry =
+        contextRegistry == null ? ContextRegistry.getInstance() : contextRegistry;
+    this.schemes =
+        schemes == null
+            ? Set.of(HTTPS)
+            : schemes.stream()
+                .map(scheme -> scheme.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    for (String scheme : this.schemes) {
+      if (!SUPPORTED_SCHEMES.contains(scheme)) {
+        throw new IllegalArgumentException(
+            String.format("Unsupported scheme: %s. Supported: %s", scheme, SUPPORTED_SCHEMES));
+      }
+    }
+    this.httpLoader = httpLoader;
+    this.fileLoader = fileLoader;
+    this.remoteCache =
+        remoteCache == null
+            ? Caffeine.newBuilder().expireAfterWrite(Duration.ofDays(CACHE_PERIOD_IN_DAYS)).build()
+            : remoteCache;
+  }
+
+  @Override
+  public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+    final Document localDocument = localDocuments.get(url);
+    if (localDocument != null) {
+      return localDocument;
+    }
+    final Optional<JsonDocument> context = contextRegistry.get(url);
+    if (context.isPresent()) {
+      return context.get();
+    }
+
+    final String scheme = url.getScheme() == null ? "" : url.getScheme().toLowerCase(Locale.ROOT);
+    if (!schemes.contains(scheme)) {
+      LOG.warning("Cannot load context: " + url);
+      return null;
+    }
+
+    Document document = remoteCache.getIfPresent(url);
+    if (document == null) {
+      document = getLoader(scheme).loadDocument(url, options);
+      if (document != null) {
+        remoteCache.put(url, document);
+      }
+    }
+    return document;
+  }
+
+  private DocumentLoader getLoader(String scheme) {
+    if (FILE.equals(scheme)) {
+      return fileLoader == null ? RemoteDocumentLoader.getDefaultFileLoader() : fileLoader;
+    }
+    return httpLoader == null ? RemoteDocumentLoader.getDefaultHttpLoader() : httpLoader;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
+
+/**
+ * Registry of JSON-LD context documents known in advance, so they are never loaded from the
+ * network. The registry is consulted by the {@link RemoteDocumentLoader} and the {@link
+ * ConfiguredDocumentLoader} before any remote document is loaded.
+ *
+ * <p>Contexts are registered one by one or in bulk from a directory or classpath location holding
+ * an {@value #INDEX} file. The index is a JSON object mapping each context URL to the name of its
+ * document, relative to the index, e.g. <code>
+ * {"https://www.w3.org/2018/credentials/v1": "w3.org_2018_credentials_v1.json"}</code>. All
+ * documents are parsed when they are registered.
+ *
+ * <p>The shared instance returned by {@link #getInstance()} is preloaded with the contexts bundled
+ * with this library. The registry may be used and extended by any number of threads.
+ */
+public class ContextRegistry {
+
+  /** The name of the index file of a context directory. */
+  public static final String INDEX = "index.json";
+
+  /** The classpath location of the contexts bundled with this library. */
+  public static final String BUNDLED_CONTEXTS = "org/eclipse/tractusx/ssi/lib/contexts";
+
+  private static final ContextRegistry INSTANCE = newBundledInstance();
+
+  private final Map<URI, JsonDocument> contexts = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the shared instance, preloaded with the bundled contexts.
+   *
+   * @return the instance
+   */
+  public static ContextRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  private static ContextRegistry newBundledInstance() {
+    final ContextRegistry registry = new ContextRegistry();
+    try {
+      registry.registerResources(ContextRegistry.class.getClassLoader(), BUNDLED_CONTEXTS);
+    } catch (IOException | JsonLdError e) {
+      throw new IllegalStateException("Failed to load the bundled JSON-LD contexts", e);
+    }
+    return registry;
+  }
+
+  /**
+   * Gets the document of a context.
+   *
+   * @param url the url of the context
+   * @return the document, empty if the context is not registered
+   */
+  public Optional<JsonDocument> get(URI url) {
+    return Optional.ofNullable(contexts.get(url));
+  }
+
+  /**
+   * Gets the urls of all registered contexts.
+   *
+   * @return the urls
+   */
+  public Set<URI> getContexts() {
+    return Set.copyOf(contexts.keySet());
+  }
+
+  /**
+   * Registers a context, replacing a context registered with the same url.
+   *
+   * @param url the url of the context
+   * @param document the document
+   */
+  public void register(URI url, JsonDocument document) {
+    contexts.put(url, document);
+  }
+
+  /**
+   * Registers a context read from the stream. The stream is not closed.
+   *
+   * @param url the url of the context
+   * @param document the document
+   * @throws JsonLdError if the document is not valid JSON
+   */
+  public void register(URI url, InputStream document) throws JsonLdError {
+    register(url, JsonDocument.of(document));
+  }
+
+  /**
+   * Registers all contexts of a directory holding an {@value #INDEX} file.
+   *
+   * @param directory the directory
+   * @throws IOException if the index or a document cannot be read
+   * @throws JsonLdError if a document is not valid JSON
+   */
+  public void registerDirectory(Path directory) throws IOException, JsonLdError {
+    final Map<String, Object> index;
+    try (InputStream is = Files.newInputStream(directory.resolve(INDEX))) {
+      index = SerializeUtil.fromJson(is, Map.class);
+    }
+
+    for (Map.Entry<String, Object> entry : index.entrySet()) {
+      try (InputStream is = Files.newInputStream(directory.resolve(entry.getValue().toString()))) {
+        register(URI.create(entry.getKey()), is);
+      }
+    }
+  }
+
+  /**
+   * Registers all contexts of a classpath location holding an {@value #INDEX} file, e.g. bundled in
+   * a jar.
+   *
+   * @param classLoader the class loader
+   * @param location the location, e.g. <code>com/example/contexts</code>
+   * @throws IOException if the index or a document cannot be read
+   * @throws JsonLdError if a document is not valid JSON
+   */
+  public void registerResources(ClassLoader classLoader, String location)
+      throws IOException, JsonLdError {
+    final Map<String, Object> index;
+    try (InputStream is = getResource(classLoader, location + "/" + INDEX)) {
+      index = SerializeUtil.fromJson(is, Map.class);
+    }
+
+    for (Map.Entry<String, Object> entry : index.entrySet()) {
+      try (InputStream is = getResource(classLoader, location + "/" + entry.getValue())) {
+        register(URI.create(entry.getKey()), is);
+      }
+    }
+  }
+
+  private static InputStream getResource(ClassLoader classLoader, String name)
+      throws FileNotFoundException {
+    final InputStream is = classLoader.getResourceAsStream(name);
+    if (is == null) {
+      throw new FileNotFoundException("Resource not found: " + name);
+    }
+    return is;
+  }
+}
@@ -22,7 +22,6 @@
 package org.eclipse.tractusx.ssi.lib.model;
 
 import com.apicatalog.jsonld.loader.DocumentLoader;
-import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import java.net.URI;
 import java.util.ArrayList;
@@ -30,6 +29,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -46,6 +49,9 @@ public abstract class JsonLdObject extends LinkedHashMap<String, Object> {
   /** The {@link DocumentLoader} */
   @ToString.Exclude @Getter private transient DocumentLoader documentLoader;
 
+  /** Values derived from this map by the typed getters, dropped on every modification. */
+  @ToString.Exclude private transient volatile Map<String, Object> memos;
+
   /**
    * Instantiates a new Json ld object.
    *
@@ -72,6 +78,16 @@ public abstract class JsonLdObject extends LinkedHashMap<String, Object> {
     }
   }
 
+  /**
+   * Instantiates a new Json ld object as a copy of another one, which is not validated again.
+   *
+   * @param json the json ld object to copy
+   */
+  protected JsonLdObject(JsonLdObject json) {
+    super(json);
+    this.documentLoader = json.documentLoader;
+  }
+
   /**
    * Gets context.
    *
@@ -102,6 +118,118 @@ public abstract class JsonLdObject extends LinkedHashMap<String, Object> {
     }
   }
 
+  /**
+   * Gets a value derived from this map, computing it on first use. The value is kept until the map
+   * is modified by one of its methods; changes to nested structures or through the views returned
+   * by {@link #entrySet()}, {@link #keySet()} or {@link #values()} are not detected. The value is
+   * shared by all callers, so it must not be modified.
+   *
+   * @param key the key of the value
+   * @param supplier the supplier computing the value, must not return null
+   * @param <T> the type of the value
+   * @return the value
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> T memoize(String key, Supplier<T> supplier) {
+    Map<String, Object> current = memos;
+    if (current == null) {
+      current = new ConcurrentHashMap<>();
+      memos = current;
+    }
+    Object value = current.get(key);
+    if (value == null) {
+      // not computeIfAbsent, as suppliers may memoize other values of this object
+      value = Objects.requireNonNull(supplier.get(), key);
+      current.put(key, value);
+    }
+    return (T) value;
+  }
+
+  private void invalidateMemos() {
+    memos = null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    invalidateMemos();
+    return super.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    invalidateMemos();
+    super.putAll(m);
+  }
+
+  @Override
+  public Object putIfAbsent(String key, Object value) {
+    invalidateMemos();
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    invalidateMemos();
+    return super.remove(key);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    invalidateMemos();
+    return super.remove(key, value);
+  }
+
+  @Override
+  public Object replace(String key, Object value) {
+    invalidateMemos();
+    return super.replace(key, value);
+  }
+
+  @Override
+  public boolean replace(String key, Object oldValue, Object newValue) {
+    invalidateMemos();
+    return super.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+    invalidateMemos();
+    super.replaceAll(function);
+  }
+
+  @Override
+  public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+    invalidateMemos();
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object computeIfPresent(
+      String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+    invalidateMemos();
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public Object compute(
+      String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+    invalidateMemos();
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object merge(
+      String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    invalidateMemos();
+    return super.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public void clear() {
+    invalidateMemos();
+    super.clear();
+  }
+
   /**
    * To json string.
    *
@@ -121,11 +249,12 @@ public abstract class JsonLdObject extends LinkedHashMap<String, Object> {
   }
 
   /**
-   * To json object json object.
+   * To json object json object. The object is converted on every call, so a caller needing it more
+   * than once, e.g. for validation and transformation, should keep the result.
    *
    * @return the json object
    */
-  public synchronized JsonObject toJsonObject() {
-    return Json.createObjectBuilder(this).build();
+  public JsonObject toJsonObject() {
+    return SerializeUtil.toJsonObject(this);
   }
 }
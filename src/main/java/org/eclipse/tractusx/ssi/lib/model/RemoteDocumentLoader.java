@@ -33,36 +33,46 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.net.URI;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 import lombok.Getter;
 import lombok.Setter;
 
-/** The type Remote document loader. */
+/**
+ * The type Remote document loader. The shared instance is used by default by the {@link
+ * org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer} and the {@link
+ * org.eclipse.tractusx.ssi.lib.validation.JsonLdValidatorImpl}, which load https documents only.
+ * Its settings may be changed at any time and are visible to all threads; for a fixed configuration
+ * per transformer or validator, use a {@link ConfiguredDocumentLoader}.
+ */
 public class RemoteDocumentLoader implements DocumentLoader {
 
   private static final int CACHE_PERIOD_IN_DAYS = 1;
-  private static DocumentLoader defaultHttpLoader;
-  private static DocumentLoader defaultFileLoader;
+  private static volatile DocumentLoader defaultHttpLoader;
+  private static volatile DocumentLoader defaultFileLoader;
   @Getter private DocumentLoader httpLoader;
   @Getter private DocumentLoader fileLoader;
 
-  @Getter @Setter private boolean enableLocalCache = true;
-  @Getter @Setter private boolean enableHttp = false;
-  @Getter @Setter private boolean enableHttps = false;
-  @Getter @Setter private boolean enableFile = false;
-  @Getter @Setter private Map<URI, JsonDocument> localCache = new HashMap<>();
+  @Getter @Setter private volatile boolean enableLocalCache = true;
+  @Getter @Setter private volatile boolean enableHttp = false;
+  @Getter @Setter private volatile boolean enableHttps = true;
+  @Getter @Setter private volatile boolean enableFile = false;
+  @Getter @Setter private volatile Map<URI, JsonDocument> localCache = new ConcurrentHashMap<>();
+
+  /** The registry of known contexts, consulted after the local cache. Null disables it. */
+  @Getter @Setter private volatile ContextRegistry contextRegistry = ContextRegistry.getInstance();
 
   @Getter @Setter
-  private Cache<URI, Document> remoteCache =
+  private volatile Cache<URI, Document> remoteCache =
       Caffeine.newBuilder().expireAfterWrite(Duration.ofDays(CACHE_PERIOD_IN_DAYS)).build();
 
-  @Getter @Setter private List<URI> httpContexts = new ArrayList<>();
-  @Getter @Setter private List<URI> httpsContexts = new ArrayList<>();
-  @Getter @Setter private List<URI> fileContexts = new ArrayList<>();
+  @Getter @Setter private volatile List<URI> httpContexts = new CopyOnWriteArrayList<>();
+  @Getter @Setter private volatile List<URI> httpsContexts = new CopyOnWriteArrayList<>();
+  @Getter @Setter private volatile List<URI> fileContexts = new CopyOnWriteArrayList<>();
 
   /** The constant DOCUMENT_LOADER. */
   public static final RemoteDocumentLoader DOCUMENT_LOADER;
@@ -120,15 +130,25 @@ public class RemoteDocumentLoader implements DocumentLoader {
    *
    * @return the instance
    */
-  public static synchronized RemoteDocumentLoader getInstance() {
+  public static RemoteDocumentLoader getInstance() {
     return DOCUMENT_LOADER;
   }
 
   @Override
   public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
 
-    if (this.isEnableLocalCache() && this.getLocalCache().containsKey(url)) {
-      return this.getLocalCache().get(url);
+    if (this.isEnableLocalCache()) {
+      final Document localDocument = this.getLocalCache().get(url);
+      if (localDocument != null) {
+        return localDocument;
+      }
+    }
+    final ContextRegistry registry = this.getContextRegistry();
+    if (registry != null) {
+      final Optional<JsonDocument> context = registry.get(url);
+      if (context.isPresent()) {
+        return context.get();
+      }
     }
     if (this.isEnableHttp() && "http".equalsIgnoreCase(url.getScheme())) {
 
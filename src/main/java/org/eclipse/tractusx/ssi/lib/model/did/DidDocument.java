@@ -21,8 +21,10 @@
 
 package org.eclipse.tractusx.ssi.lib.model.did;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -78,12 +80,16 @@ public class DidDocument extends JsonLdObject {
   }
 
   /**
-   * Gets verification methods.
+   * Gets verification methods. The methods are parsed once, every call returns a new modifiable
+   * list of them.
    *
    * @return the verification methods
    */
   public List<VerificationMethod> getVerificationMethods() {
+    return new ArrayList<>(memoize(VERIFICATION_METHOD, this::parseVerificationMethods));
+  }
 
+  private List<VerificationMethod> parseVerificationMethods() {
     List<VerificationMethod> result = new ArrayList<>();
 
     Object verificationMethod = get(VERIFICATION_METHOD);
@@ -95,16 +101,19 @@ public class DidDocument extends JsonLdObject {
           .forEach(vm -> result.add(new VerificationMethod(vm)));
     }
 
-    return result;
+    return Collections.unmodifiableList(result);
   }
 
   /**
-   * Gets services.
+   * Gets services. The services are parsed once, every call returns a new modifiable list of them.
    *
    * @return the services
    */
   public List<Service> getServices() {
+    return new ArrayList<>(memoize(SERVICE, this::parseServices));
+  }
 
+  private List<Service> parseServices() {
     List<Service> result = new ArrayList<>();
 
     Object service = get(SERVICE);
@@ -115,7 +124,18 @@ public class DidDocument extends JsonLdObject {
       ((List<Map<String, Object>>) service).forEach(s -> result.add(new Service(s)));
     }
 
-    return result;
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Gets the indexed view of this document. The view is built on first use and kept until the
+   * document is modified, see {@link #memoize}. Changes to nested structures (e.g. a verification
+   * method map) are not detected.
+   *
+   * @return the indexed did document
+   */
+  public IndexedDidDocument getIndex() {
+    return memoize("index", () -> new IndexedDidDocument(this));
   }
 
   /**
@@ -125,7 +145,26 @@ public class DidDocument extends JsonLdObject {
    * @return the did document
    */
   public static DidDocument fromJson(String json) {
-    var map = SerializeUtil.fromJson(json);
-    return new DidDocument(map);
+    return SerializeUtil.fromJson(json, DidDocument.class);
+  }
+
+  /**
+   * From UTF-8 encoded json did document.
+   *
+   * @param json the json
+   * @return the did document
+   */
+  public static DidDocument fromJson(byte[] json) {
+    return SerializeUtil.fromJson(json, DidDocument.class);
+  }
+
+  /**
+   * From json did document. The stream is closed afterwards.
+   *
+   * @param json the json
+   * @return the did document
+   */
+  public static DidDocument fromJson(InputStream json) {
+    return SerializeUtil.fromJson(json, DidDocument.class);
   }
 }
@@ -0,0 +1,238 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model.did;
+
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.Base64URL;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.ToString;
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.eclipse.tractusx.ssi.lib.model.ProofPurpose;
+import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
+
+/**
+ * Immutable, pre-indexed view of a {@link DidDocument}. The verification methods are parsed once
+ * into their typed representation ({@link JWKVerificationMethod}, {@link
+ * Ed25519VerificationMethod}) and indexed by id, and their public keys are decoded into {@link JWK}
+ * objects, so that key lookups during verification do not re-parse the document. Verification
+ * relationships (e.g. {@code assertionMethod}) are indexed by purpose on first access. Only the
+ * relationships of the {@link ProofPurpose}s and {@code keyAgreement} are known, any other purpose
+ * (e.g. taken from a presented proof) has no relationship and is not kept in the index.
+ *
+ * <p>Use {@link DidDocument#getIndex()} to get the view of a document, it is built once and kept
+ * with the document.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class IndexedDidDocument {
+
+  private static final Set<String> KNOWN_RELATIONSHIPS =
+      Stream.concat(
+              Stream.of(ProofPurpose.values()).map(proofPurpose -> proofPurpose.purpose),
+              Stream.of("keyAgreement", DidDocument.AUTHENTICATION))
+          .collect(Collectors.toUnmodifiableSet());
+
+  /** The indexed document. */
+  @Getter @ToString.Include private final DidDocument document;
+
+  private final Map<URI, List<VerificationMethod>> verificationMethods;
+  private final Map<String, Optional<Map<URI, VerificationMethod>>> verificationRelationships =
+      new ConcurrentHashMap<>();
+  private final Map<VerificationMethod, JWK> publicKeys;
+
+  /**
+   * Instantiates a new Indexed did document.
+   *
+   * @param document the document
+   */
+  public IndexedDidDocument(DidDocument document) {
+    this.document = document;
+
+    final Map<URI, List<VerificationMethod>> methods = new HashMap<>();
+    final Map<VerificationMethod, JWK> keys = new IdentityHashMap<>();
+    for (VerificationMethod verificationMethod : document.getVerificationMethods()) {
+      final VerificationMethod typedMethod = toTypedMethod(verificationMethod);
+      // keep the document order, different key types may share the same id
+      methods.computeIfAbsent(typedMethod.getId(), id -> new ArrayList<>()).add(typedMethod);
+      toJwk(typedMethod).ifPresent(jwk -> keys.put(typedMethod, jwk));
+    }
+    methods.replaceAll((id, list) -> List.copyOf(list));
+
+    this.verificationMethods = Collections.unmodifiableMap(methods);
+    this.publicKeys = Collections.unmodifiableMap(keys);
+  }
+
+  /**
+   * Gets the verification method with the given id from the {@code verificationMethod} section of
+   * the document.
+   *
+   * @param id the id of the verification method
+   * @return the verification method, parsed into its typed representation if the type is known
+   */
+  public Optional<VerificationMethod> getVerificationMethod(URI id) {
+    return verificationMethods.getOrDefault(id, List.of()).stream().findFirst();
+  }
+
+  /**
+   * Gets the verification method with the given id and type from the {@code verificationMethod}
+   * section of the document.
+   *
+   * @param <T> the verification method type
+   * @param id the id of the verification method
+   * @param type the expected verification method type
+   * @return the verification method, or empty if there is none of the expected type
+   */
+  public <T extends VerificationMethod> Optional<T> getVerificationMethod(URI id, Class<T> type) {
+    return verificationMethods.getOrDefault(id, List.of()).stream()
+        .filter(type::isInstance)
+        .map(type::cast)
+        .findFirst();
+  }
+
+  /**
+   * Checks whether the document declares the verification relationship, e.g. {@code
+   * assertionMethod} or {@code authentication}.
+   *
+   * @param purpose the verification relationship
+   * @return true if the document contains the relationship
+   */
+  public boolean hasVerificationRelationship(String purpose) {
+    return getVerificationRelationship(purpose).isPresent();
+  }
+
+  /**
+   * Checks whether the verification method is listed in the verification relationship, either as
+   * reference or embedded.
+   *
+   * @param purpose the verification relationship
+   * @param id the id of the verification method
+   * @return true if the method is part of the relationship
+   */
+  public boolean isInVerificationRelationship(String purpose, URI id) {
+    return getVerificationRelationship(purpose)
+        .map(relationship -> relationship.containsKey(id))
+        .orElse(false);
+  }
+
+  /**
+   * Gets the verification method of a verification relationship. Embedded methods are returned as
+   * they are, referenced methods are looked up in the {@code verificationMethod} section.
+   *
+   * @param purpose the verification relationship
+   * @param id the id of the verification method
+   * @return the verification method, or empty if it is not part of the relationship or the
+   *     referenced method does not exist
+   */
+  public Optional<VerificationMethod> getVerificationMethod(String purpose, URI id) {
+    return getVerificationRelationship(purpose).map(relationship -> relationship.get(id));
+  }
+
+  /**
+   * Gets the decoded public key of a verification method returned by this index. Keys are available
+   * for {@link JWKVerificationMethod}s and {@link Ed25519VerificationMethod}s (as {@link
+   * com.nimbusds.jose.jwk.OctetKeyPair}) of the {@code verificationMethod} section.
+   *
+   * @param verificationMethod the verification method
+   * @return the public key, or empty if the method has no supported or valid key
+   */
+  public Optional<JWK> getPublicKey(VerificationMethod verificationMethod) {
+    return Optional.ofNullable(publicKeys.get(verificationMethod));
+  }
+
+  private Optional<Map<URI, VerificationMethod>> getVerificationRelationship(String purpose) {
+    if (!KNOWN_RELATIONSHIPS.contains(purpose)) {
+      return Optional.empty();
+    }
+    return verificationRelationships.computeIfAbsent(
+        purpose,
+        key ->
+            document.get(key) instanceof List<?> relationship
+                ? Optional.of(indexRelationship(relationship))
+                : Optional.empty());
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<URI, VerificationMethod> indexRelationship(List<?> relationship) {
+    final Map<URI, VerificationMethod> result = new HashMap<>();
+    for (Object o : relationship) {
+      try {
+        if (o instanceof Map) {
+          final VerificationMethod embedded =
+              toTypedMethod(new VerificationMethod((Map<String, Object>) o));
+          result.putIfAbsent(embedded.getId(), embedded);
+        } else if (o != null) {
+          final URI reference = SerializeUtil.asURI(o);
+          result.putIfAbsent(reference, getVerificationMethod(reference).orElse(null));
+        }
+      } catch (IllegalArgumentException e) {
+        // not a valid verification method or reference, it can't be used to verify anything
+      }
+    }
+    // values may be null for references to unknown methods
+    return Collections.unmodifiableMap(result);
+  }
+
+  private static VerificationMethod toTypedMethod(VerificationMethod verificationMethod) {
+    try {
+      if (JWKVerificationMethod.isInstance(verificationMethod)) {
+        return new JWKVerificationMethod(verificationMethod);
+      }
+      if (Ed25519VerificationMethod.isInstance(verificationMethod)) {
+        return new Ed25519VerificationMethod(verificationMethod);
+      }
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      // invalid key material, keep the untyped method so the lookup fails like before
+    }
+    return verificationMethod;
+  }
+
+  private static Optional<JWK> toJwk(VerificationMethod verificationMethod) {
+    try {
+      if (verificationMethod instanceof JWKVerificationMethod jwkVerificationMethod) {
+        return Optional.ofNullable(jwkVerificationMethod.getJwk());
+      }
+      if (verificationMethod instanceof Ed25519VerificationMethod ed25519VerificationMethod) {
+        final byte[] key = ed25519VerificationMethod.getPublicKeyBase58().getDecoded();
+        if (key.length != Ed25519PublicKeyParameters.KEY_SIZE) {
+          return Optional.empty();
+        }
+        return Optional.of(new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(key)).build());
+      }
+    } catch (RuntimeException e) {
+      // key could not be decoded, verification will report the missing key
+    }
+    return Optional.empty();
+  }
+}
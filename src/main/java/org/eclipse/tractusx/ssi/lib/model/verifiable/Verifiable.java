@@ -24,6 +24,7 @@ package org.eclipse.tractusx.ssi.lib.model.verifiable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -77,12 +78,26 @@ public abstract class Verifiable extends JsonLdObject {
   }
 
   /**
-   * Gets proof.
+   * Instantiates a new Verifiable as a copy of another one, which is not validated again.
+   *
+   * @param verifiable the verifiable to copy
+   */
+  protected Verifiable(Verifiable verifiable) {
+    super(verifiable);
+    this.verifableType = verifiable.verifableType;
+  }
+
+  /**
+   * Gets proof. The proof is parsed once and shared until this verifiable is modified, so it must
+   * not be modified; use {@link Proof#Proof(Map)} to get a modifiable copy.
    *
    * @return the proof
    */
   public Optional<Proof> getProof() {
+    return memoize(PROOF, this::parseProof);
+  }
 
+  private Optional<Proof> parseProof() {
     final Object subject = this.get(PROOF);
 
     if (subject == null) {
@@ -146,6 +161,48 @@ public abstract class Verifiable extends JsonLdObject {
     return SerializationUtils.clone(this);
   }
 
+  /**
+   * Gets a copy of this verifiable whose proof is replaced by its proof configuration, i.e. without
+   * proof value or JWS, as needed to hash the verifiable for a proof. For a verifiable
+   * presentation, the proofs of the embedded credentials are replaced as well.
+   *
+   * <p>Unlike {@code deepClone().removeProofSignature()}, only the maps on the way to the proofs
+   * are copied, all other values are shared with this verifiable. The copy is meant to be read,
+   * e.g. canonicalized, and must not be modified below its top level.
+   *
+   * @return the verifiable without proof signature
+   */
+  @SneakyThrows
+  public Verifiable withoutProofSignature() {
+    final Map<String, Object> json = withProofConfiguration(this);
+
+    if (this.getType() == VerifiableType.VP) {
+      final List<Map<String, Object>> credentials = new ArrayList<>();
+      for (Map<String, Object> credential :
+          SerializeUtil.<Map<String, Object>>asList(
+              this.get(VerifiablePresentation.VERIFIABLE_CREDENTIAL))) {
+        credentials.add(withProofConfiguration(credential));
+      }
+      json.put(VerifiablePresentation.VERIFIABLE_CREDENTIAL, credentials);
+      return new VerifiablePresentation(json);
+    }
+
+    return new VerifiableCredential(json);
+  }
+
+  private static Map<String, Object> withProofConfiguration(Map<String, Object> verifiable)
+      throws DidParseException {
+    final Object proof = verifiable.get(PROOF);
+    if (!(proof instanceof Map)) {
+      throw new DidParseException("no proof found for verification");
+    }
+
+    final Map<String, Object> copy = new LinkedHashMap<>(verifiable);
+    // the proof constructor copies the map, so the original proof keeps its signature
+    copy.put(PROOF, new Proof((Map<String, Object>) proof).toConfiguration());
+    return copy;
+  }
+
   /**
    * To get verifiable object with Proof Configuration attribute
    *
@@ -156,7 +213,9 @@ public abstract class Verifiable extends JsonLdObject {
 
     // Be careful, this function will return new object
     Proof proof =
-        this.getProof().orElseThrow(() -> new DidParseException("no proof found for verification"));
+        new Proof(
+            this.getProof()
+                .orElseThrow(() -> new DidParseException("no proof found for verification")));
 
     if (proof != null) {
       var proofConfiguration = proof.toConfiguration();
@@ -175,8 +234,9 @@ public abstract class Verifiable extends JsonLdObject {
 
         VerifiableCredential vc = iterator.next();
         proof =
-            vc.getProof()
-                .orElseThrow(() -> new DidParseException("no proof found for verification"));
+            new Proof(
+                vc.getProof()
+                    .orElseThrow(() -> new DidParseException("no proof found for verification")));
 
         if (proof != null) {
           var proofConfiguration = proof.toConfiguration();
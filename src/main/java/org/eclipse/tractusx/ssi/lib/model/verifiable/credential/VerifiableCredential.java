@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.ssi.lib.model.verifiable.credential;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
@@ -122,6 +123,51 @@ public class VerifiableCredential extends Verifiable {
     // validate status list if provided
   }
 
+  private VerifiableCredential(VerifiableCredential credential) {
+    super(credential);
+  }
+
+  /**
+   * Copies the verifiable credential without validating it again. Only the top level map is copied,
+   * nested values are shared with the original credential.
+   *
+   * @param credential the credential
+   * @return the copy of the credential
+   */
+  public static VerifiableCredential copyOf(VerifiableCredential credential) {
+    return new VerifiableCredential(credential);
+  }
+
+  /**
+   * From json verifiable credential.
+   *
+   * @param json the json
+   * @return the verifiable credential
+   */
+  public static VerifiableCredential fromJson(String json) {
+    return SerializeUtil.fromJson(json, VerifiableCredential.class);
+  }
+
+  /**
+   * From UTF-8 encoded json verifiable credential.
+   *
+   * @param json the json
+   * @return the verifiable credential
+   */
+  public static VerifiableCredential fromJson(byte[] json) {
+    return SerializeUtil.fromJson(json, VerifiableCredential.class);
+  }
+
+  /**
+   * From json verifiable credential. The stream is closed afterwards.
+   *
+   * @param json the json
+   * @return the verifiable credential
+   */
+  public static VerifiableCredential fromJson(InputStream json) {
+    return SerializeUtil.fromJson(json, VerifiableCredential.class);
+  }
+
   @NonNull
   @Override
   public URI getId() {
@@ -173,6 +219,10 @@ public class VerifiableCredential extends Verifiable {
    */
   @NonNull
   public List<VerifiableCredentialSubject> getCredentialSubject() {
+    return memoize(CREDENTIAL_SUBJECT, this::parseCredentialSubject);
+  }
+
+  private List<VerifiableCredentialSubject> parseCredentialSubject() {
     Object subject = get(CREDENTIAL_SUBJECT);
 
     if (subject instanceof List) {
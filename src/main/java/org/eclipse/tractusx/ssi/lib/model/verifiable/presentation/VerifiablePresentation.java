@@ -21,6 +21,7 @@
 
 package org.eclipse.tractusx.ssi.lib.model.verifiable.presentation;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
@@ -65,21 +66,47 @@ public class VerifiablePresentation extends Verifiable {
    * @return the verifiable presentation
    */
   public static VerifiablePresentation fromJson(String json) {
-    var map = SerializeUtil.fromJson(json);
-    return new VerifiablePresentation(map);
+    return SerializeUtil.fromJson(json, VerifiablePresentation.class);
   }
 
   /**
-   * Gets verifiable credentials.
+   * From UTF-8 encoded json verifiable presentation.
+   *
+   * @param json the json
+   * @return the verifiable presentation
+   */
+  public static VerifiablePresentation fromJson(byte[] json) {
+    return SerializeUtil.fromJson(json, VerifiablePresentation.class);
+  }
+
+  /**
+   * From json verifiable presentation. The stream is closed afterwards.
+   *
+   * @param json the json
+   * @return the verifiable presentation
+   */
+  public static VerifiablePresentation fromJson(InputStream json) {
+    return SerializeUtil.fromJson(json, VerifiablePresentation.class);
+  }
+
+  /**
+   * Gets verifiable credentials. Every call returns new copies of the embedded credentials, so that
+   * modifying a returned credential leaves the embedded one intact.
    *
    * @return the verifiable credentials
    */
   @NonNull
   public List<VerifiableCredential> getVerifiableCredentials() {
-
     final List<Map<String, Object>> credentials =
         SerializeUtil.asList(this.get(VERIFIABLE_CREDENTIAL));
 
-    return credentials.stream().map(VerifiableCredential::new).toList();
+    // embedded credentials are typed when built or deserialized, those are valid already
+    return credentials.stream()
+        .map(
+            credential ->
+                credential instanceof VerifiableCredential verifiableCredential
+                    ? VerifiableCredential.copyOf(verifiableCredential)
+                    : new VerifiableCredential(credential))
+        .toList();
   }
 }
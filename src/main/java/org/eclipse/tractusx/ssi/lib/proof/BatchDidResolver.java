@@ -0,0 +1,92 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+
+/**
+ * {@link DidResolver} used for a single batch verification. Every DID is resolved only once, no
+ * matter how many verification methods of it are referenced or how many threads ask for it at the
+ * same time. Failures are remembered as well, so a broken issuer fails all of its items with the
+ * same exception.
+ */
+@RequiredArgsConstructor
+class BatchDidResolver implements DidResolver {
+
+  private final DidResolver didResolver;
+
+  private final Map<Did, CompletableFuture<Optional<DidDocument>>> documents =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public Optional<DidDocument> resolve(Did did) throws DidResolverException, DidParseException {
+    final CompletableFuture<Optional<DidDocument>> resolution = new CompletableFuture<>();
+    final CompletableFuture<Optional<DidDocument>> existing =
+        documents.putIfAbsent(did.excludeFragment(), resolution);
+
+    if (existing == null) {
+      // the first caller resolves the DID, everybody else waits for its result
+      try {
+        final Optional<DidDocument> document = didResolver.resolve(did);
+        resolution.complete(document);
+        return document;
+      } catch (Throwable e) {
+        // any failure, errors included, must complete the resolution, or the waiters block forever
+        resolution.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    try {
+      return existing.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof DidResolverException didResolverException) {
+        throw didResolverException;
+      }
+      if (e.getCause() instanceof DidParseException didParseException) {
+        throw didParseException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean isResolvable(Did did) {
+    return didResolver.isResolvable(did);
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.ssi.lib.crypt.IPrivateKey;
+import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPrivateKeyFormatException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureGenerateFailedException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
+import org.eclipse.tractusx.ssi.lib.model.ProofPurpose;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+/**
+ * Signs many {@link VerifiableCredential}s with one issuer key and verification method. The proof
+ * generator and the decoded private key are set up once and shared by all items.
+ *
+ * <p>Items are signed on the given {@link Executor}, with at most {@code maxInFlight} of them in
+ * progress at any time. New items are only taken from the source when the consumer takes a result,
+ * so a large or unbounded stream is never read ahead further than that bound. The credentials
+ * passed in are not modified; every result carries a signed copy.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkCredentialIssuer {
+
+  /**
+   * New instance bulk credential issuer, creating assertion method proofs.
+   *
+   * @param privateKey the private key of the issuer
+   * @param signatureType the signature type
+   * @param verificationMethodId the verification method id of the issuer key
+   * @param executor the executor the items are signed on
+   * @param maxInFlight the maximum number of items signed at the same time
+   * @return the bulk credential issuer
+   * @throws InvalidPrivateKeyFormatException the invalid private key format exception
+   * @throws SignatureGenerateFailedException if the signer cannot be created
+   * @throws UnsupportedSignatureTypeException the unsupported signature type exception
+   */
+  public static BulkCredentialIssuer newInstance(
+      IPrivateKey privateKey,
+      SignatureType signatureType,
+      URI verificationMethodId,
+      Executor executor,
+      int maxInFlight)
+      throws InvalidPrivateKeyFormatException,
+          SignatureGenerateFailedException,
+          UnsupportedSignatureTypeException {
+    return newInstance(
+        PreparedSigner.newInstance(privateKey, signatureType),
+        verificationMethodId,
+        ProofPurpose.ASSERTION_METHOD,
+        executor,
+        maxInFlight);
+  }
+
+  /**
+   * New instance bulk credential issuer.
+   *
+   * @param preparedSigner the prepared signer of the issuer
+   * @param verificationMethodId the verification method id of the issuer key
+   * @param proofPurpose the proof purpose
+   * @param executor the executor the items are signed on
+   * @param maxInFlight the maximum number of items signed at the same time
+   * @return the bulk credential issuer
+   * @throws UnsupportedSignatureTypeException the unsupported signature type exception
+   */
+  public static BulkCredentialIssuer newInstance(
+      PreparedSigner preparedSigner,
+      URI verificationMethodId,
+      ProofPurpose proofPurpose,
+      Executor executor,
+      int maxInFlight)
+      throws UnsupportedSignatureTypeException {
+    if (preparedSigner == null) {
+      throw new NullPointerException("Signer shouldn't be null");
+    }
+    if (verificationMethodId == null) {
+      throw new NullPointerException("Verification method id shouldn't be null");
+    }
+    if (executor == null) {
+      throw new NullPointerException("Executor shouldn't be null");
+    }
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(
+          String.format("maxInFlight must be positive, but was %d", maxInFlight));
+    }
+
+    return new BulkCredentialIssuer(
+        LinkedDataProofGenerator.newInstance(preparedSigner.getSignatureType()),
+        preparedSigner,
+        verificationMethodId,
+        proofPurpose,
+        executor,
+        maxInFlight);
+  }
+
+  private final LinkedDataProofGenerator generator;
+  private final PreparedSigner preparedSigner;
+  @Getter private final URI verificationMethodId;
+  @Getter private final ProofPurpose proofPurpose;
+  private final Executor executor;
+  @Getter private final int maxInFlight;
+
+  /**
+   * Signs a single credential on the calling thread. A failure is returned as result instead of
+   * being thrown.
+   *
+   * @param credential the unsigned credential
+   * @return the issuance result
+   */
+  public IssuanceResult issue(VerifiableCredential credential) {
+    try {
+      // the proof configuration is put into the credential while hashing, so sign a copy
+      final VerifiableCredential copy = new VerifiableCredential(new LinkedHashMap<>(credential));
+      generator.createProof(copy, verificationMethodId, preparedSigner, proofPurpose);
+      return IssuanceResult.issued(credential, copy);
+    } catch (Exception e) {
+      return IssuanceResult.failed(credential, e);
+    }
+  }
+
+  /**
+   * Signs a stream of credentials. Credentials built by a {@code VerifiableCredentialBuilder} can
+   * be passed by mapping the builders with {@code build()}.
+   *
+   * <p>The returned stream is lazy and sequential; its results are in the order of the source.
+   * Closing it closes the source stream.
+   *
+   * @param credentials the unsigned credentials
+   * @return the issuance results, in the same order as the credentials
+   */
+  public Stream<IssuanceResult> issue(Stream<VerifiableCredential> credentials) {
+    final Iterator<IssuanceResult> results = new InFlightIterator(credentials.iterator());
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(credentials::close);
+  }
+
+  /** Keeps up to {@code maxInFlight} items submitted and hands out their results in order. */
+  @RequiredArgsConstructor
+  private class InFlightIterator implements Iterator<IssuanceResult> {
+
+    private final Iterator<VerifiableCredential> source;
+    private final Deque<CompletableFuture<IssuanceResult>> inFlight = new ArrayDeque<>();
+
+    @Override
+    public boolean hasNext() {
+      while (inFlight.size() < maxInFlight && source.hasNext()) {
+        final VerifiableCredential credential = source.next();
+        inFlight.add(CompletableFuture.supplyAsync(() -> issue(credential), executor));
+      }
+      return !inFlight.isEmpty();
+    }
+
+    @Override
+    public IssuanceResult next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return inFlight.poll().join();
+    }
+  }
+}
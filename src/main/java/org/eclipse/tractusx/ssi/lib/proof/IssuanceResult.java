@@ -0,0 +1,89 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+/** The result of the issuance of a single {@link VerifiableCredential} of a batch. */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IssuanceResult {
+
+  VerifiableCredential unsignedCredential;
+  VerifiableCredential signedCredential;
+  Exception exception;
+
+  /**
+   * Creates the result of a completed issuance.
+   *
+   * @param unsignedCredential the credential as it was passed to the issuer
+   * @param signedCredential the signed copy of the credential
+   * @return the issuance result
+   */
+  public static IssuanceResult issued(
+      VerifiableCredential unsignedCredential, VerifiableCredential signedCredential) {
+    return new IssuanceResult(unsignedCredential, signedCredential, null);
+  }
+
+  /**
+   * Creates the result of an issuance that could not be completed.
+   *
+   * @param unsignedCredential the credential as it was passed to the issuer
+   * @param exception the exception thrown by the issuance
+   * @return the issuance result
+   */
+  public static IssuanceResult failed(
+      VerifiableCredential unsignedCredential, Exception exception) {
+    return new IssuanceResult(unsignedCredential, null, exception);
+  }
+
+  /**
+   * Whether the credential was signed.
+   *
+   * @return true, if the signed credential is present
+   */
+  public boolean isIssued() {
+    return signedCredential != null;
+  }
+
+  /**
+   * Gets the signed credential, if the issuance succeeded.
+   *
+   * @return the signed credential
+   */
+  public Optional<VerifiableCredential> getSignedCredential() {
+    return Optional.ofNullable(signedCredential);
+  }
+
+  /**
+   * Gets the exception thrown by the issuance, if any.
+   *
+   * @return the exception
+   */
+  public Optional<Exception> getException() {
+    return Optional.ofNullable(exception);
+  }
+}
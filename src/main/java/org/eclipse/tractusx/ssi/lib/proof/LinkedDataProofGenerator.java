@@ -21,6 +21,7 @@
 
 package org.eclipse.tractusx.ssi.lib.proof;
 
+import com.apicatalog.jsonld.loader.DocumentLoader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -30,6 +31,7 @@ import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
 import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPrivateKeyFormatException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureGenerateFailedException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
 import org.eclipse.tractusx.ssi.lib.model.MultibaseString;
 import org.eclipse.tractusx.ssi.lib.model.ProofPurpose;
 import org.eclipse.tractusx.ssi.lib.model.base.MultibaseFactory;
@@ -42,8 +44,8 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable.VerifiableType;
 import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
 import org.eclipse.tractusx.ssi.lib.proof.hash.LinkedDataHasher;
+import org.eclipse.tractusx.ssi.lib.proof.transform.BudgetedCanonicalizer;
 import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
-import org.eclipse.tractusx.ssi.lib.proof.transform.TransformedLinkedData;
 import org.eclipse.tractusx.ssi.lib.proof.types.ed25519.Ed25519ProofSigner;
 import org.eclipse.tractusx.ssi.lib.proof.types.jws.JWSProofSigner;
 
@@ -60,12 +62,47 @@ public class LinkedDataProofGenerator {
    */
   public static LinkedDataProofGenerator newInstance(SignatureType type)
       throws UnsupportedSignatureTypeException {
+    return newInstance(type, new LinkedDataTransformer());
+  }
+
+  /**
+   * New instance linked data proof generator, loading JSON-LD contexts with the given document
+   * loader and an own {@link ActiveContextCache}.
+   *
+   * @param type the type
+   * @param documentLoader the document loader, e.g. a {@link
+   *     org.eclipse.tractusx.ssi.lib.model.ConfiguredDocumentLoader}
+   * @return the linked data proof generator
+   * @throws UnsupportedSignatureTypeException the unsupported signature type exception
+   */
+  public static LinkedDataProofGenerator newInstance(
+      SignatureType type, DocumentLoader documentLoader) throws UnsupportedSignatureTypeException {
+    if (documentLoader == null) {
+      throw new NullPointerException("Document Loader shouldn't be null");
+    }
+    return newInstance(
+        type,
+        new LinkedDataTransformer(
+            new ActiveContextCache(), BudgetedCanonicalizer.getDefault(), documentLoader));
+  }
+
+  /**
+   * New instance linked data proof generator.
+   *
+   * @param type the type
+   * @param transformer the transformer
+   * @return the linked data proof generator
+   * @throws UnsupportedSignatureTypeException the unsupported signature type exception
+   */
+  public static LinkedDataProofGenerator newInstance(
+      SignatureType type, LinkedDataTransformer transformer)
+      throws UnsupportedSignatureTypeException {
     if (type == SignatureType.ED25519) {
       return new LinkedDataProofGenerator(
-          type, new LinkedDataHasher(), new LinkedDataTransformer(), new Ed25519ProofSigner());
+          type, new LinkedDataHasher(), transformer, new Ed25519ProofSigner());
     } else {
       return new LinkedDataProofGenerator(
-          type, new LinkedDataHasher(), new LinkedDataTransformer(), new JWSProofSigner(type));
+          type, new LinkedDataHasher(), transformer, new JWSProofSigner(type));
     }
   }
 
@@ -113,42 +150,92 @@ public class LinkedDataProofGenerator {
           SignatureGenerateFailedException,
           TransformJsonLdException {
 
-    Proof proof = null;
+    final Proof proof = newProofConfiguration(verificationMethodId, proofPurpose);
+    final HashedLinkedData hashedData = hash(verifiable, proof);
+
+    return addSignature(
+        proof, signer.sign(new HashedLinkedData(hashedData.getValue()), privateKey));
+  }
+
+  /**
+   * Create proof with a signer prepared once for many documents.
+   *
+   * @param verifiable the verifiable
+   * @param verificationMethodId the verification method id
+   * @param preparedSigner the prepared signer, of the signature type of this generator
+   * @return the proof
+   * @throws SignatureGenerateFailedException the signature generate failed exception
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  public Proof createProof(
+      Verifiable verifiable, URI verificationMethodId, PreparedSigner preparedSigner)
+      throws SignatureGenerateFailedException, TransformJsonLdException {
+    return createProof(
+        verifiable, verificationMethodId, preparedSigner, ProofPurpose.ASSERTION_METHOD);
+  }
+
+  /**
+   * Create proof with a signer prepared once for many documents.
+   *
+   * @param verifiable the verifiable
+   * @param verificationMethodId the verification method id
+   * @param preparedSigner the prepared signer, of the signature type of this generator
+   * @param proofPurpose the proof purpose
+   * @return the proof
+   * @throws SignatureGenerateFailedException the signature generate failed exception
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  public Proof createProof(
+      Verifiable verifiable,
+      URI verificationMethodId,
+      PreparedSigner preparedSigner,
+      ProofPurpose proofPurpose)
+      throws SignatureGenerateFailedException, TransformJsonLdException {
+    if (preparedSigner.getSignatureType() != type) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Signature type of signer %s does not match %s",
+              preparedSigner.getSignatureType(), type));
+    }
+
+    final Proof proof = newProofConfiguration(verificationMethodId, proofPurpose);
+    final HashedLinkedData hashedData = hash(verifiable, proof);
+
+    return addSignature(proof, preparedSigner.sign(hashedData));
+  }
+
+  private Proof newProofConfiguration(URI verificationMethodId, ProofPurpose proofPurpose) {
     if (type == SignatureType.ED25519) {
-      proof =
-          new Ed25519ProofBuilder()
-              .verificationMethod(verificationMethodId)
-              .created(Instant.now())
-              .proofPurpose(proofPurpose.purpose)
-              .buildProofConfiguration();
+      return new Ed25519ProofBuilder()
+          .verificationMethod(verificationMethodId)
+          .created(Instant.now())
+          .proofPurpose(proofPurpose.purpose)
+          .buildProofConfiguration();
     } else {
-      proof =
-          new JWSProofBuilder()
-              .verificationMethod(verificationMethodId)
-              .proofPurpose(proofPurpose.purpose)
-              .created(Instant.now())
-              .buildProofConfiguration();
+      return new JWSProofBuilder()
+          .verificationMethod(verificationMethodId)
+          .proofPurpose(proofPurpose.purpose)
+          .created(Instant.now())
+          .buildProofConfiguration();
     }
+  }
 
+  private HashedLinkedData hash(Verifiable verifiable, Proof proof)
+      throws TransformJsonLdException {
     // Adding proof configuration to document
     verifiable.put(Verifiable.PROOF, proof);
-    final TransformedLinkedData transformedData;
 
     // if it's VP then we need to remove the Signature from VCs
     if (verifiable.getType() == VerifiableType.VP) {
-      // We need to make a deep copy to keep the original Verifiable as it is for
-      // Verification step
-      var verifiableWithoutProofSignature = verifiable.deepClone().removeProofSignature();
-      transformedData = transformer.transform(verifiableWithoutProofSignature);
-    } else {
-      transformedData = transformer.transform(verifiable);
+      // The copy keeps the original Verifiable as it is for the Verification step
+      var verifiableWithoutProofSignature = verifiable.withoutProofSignature();
+      return hasher.hash(verifiableWithoutProofSignature, transformer);
     }
 
-    final HashedLinkedData hashedData = hasher.hash(transformedData);
-
-    byte[] signature;
-    signature = signer.sign(new HashedLinkedData(hashedData.getValue()), privateKey);
+    return hasher.hash(verifiable, transformer);
+  }
 
+  private Proof addSignature(Proof proof, byte[] signature) {
     if (type == SignatureType.ED25519) {
 
       final MultibaseString multibaseString = MultibaseFactory.create(signature);
@@ -21,12 +21,19 @@
 
 package org.eclipse.tractusx.ssi.lib.proof;
 
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
 import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
 import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
 import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPublicKeyFormatException;
@@ -34,14 +41,17 @@ import org.eclipse.tractusx.ssi.lib.exception.proof.NoVerificationKeyFoundExcept
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureParseException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureVerificationFailedException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable.VerifiableType;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
 import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
 import org.eclipse.tractusx.ssi.lib.proof.hash.LinkedDataHasher;
+import org.eclipse.tractusx.ssi.lib.proof.transform.BudgetedCanonicalizer;
 import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
-import org.eclipse.tractusx.ssi.lib.proof.transform.TransformedLinkedData;
 import org.eclipse.tractusx.ssi.lib.proof.types.ed25519.Ed25519ProofVerifier;
 import org.eclipse.tractusx.ssi.lib.proof.types.jws.JWSProofVerifier;
 import org.eclipse.tractusx.ssi.lib.validation.JsonLdValidator;
@@ -60,22 +70,100 @@ public class LinkedDataProofValidation {
    * @return the linked data proof validation
    */
   public static LinkedDataProofValidation newInstance(DidResolver didResolver) {
+    // without an executor, batches are verified one after another on the calling thread
+    return newInstance(didResolver, Runnable::run);
+  }
+
+  /**
+   * New instance linked data proof validation.
+   *
+   * @param didResolver the did resolver
+   * @param executor the executor the items of {@link #verifyAll(Collection)} are verified on
+   * @return the linked data proof validation
+   */
+  public static LinkedDataProofValidation newInstance(DidResolver didResolver, Executor executor) {
+    return newInstance(didResolver, executor, new LinkedDataTransformer());
+  }
+
+  /**
+   * New instance linked data proof validation, loading JSON-LD contexts with the given document
+   * loader. The transformer and validator share an own {@link ActiveContextCache}.
+   *
+   * @param didResolver the did resolver
+   * @param executor the executor the items of {@link #verifyAll(Collection)} are verified on
+   * @param documentLoader the document loader, e.g. a {@link
+   *     org.eclipse.tractusx.ssi.lib.model.ConfiguredDocumentLoader}
+   * @return the linked data proof validation
+   */
+  public static LinkedDataProofValidation newInstance(
+      DidResolver didResolver, Executor executor, DocumentLoader documentLoader) {
+    if (documentLoader == null) {
+      throw new NullPointerException("Document Loader shouldn't be null");
+    }
+
+    return newInstance(
+        didResolver,
+        executor,
+        new LinkedDataTransformer(
+            new ActiveContextCache(), BudgetedCanonicalizer.getDefault(), documentLoader));
+  }
+
+  /**
+   * New instance linked data proof validation.
+   *
+   * @param didResolver the did resolver
+   * @param executor the executor the items of {@link #verifyAll(Collection)} are verified on
+   * @param transformer the transformer, e.g. using another {@link
+   *     org.eclipse.tractusx.ssi.lib.proof.transform.RdfCanonicalizer}
+   * @return the linked data proof validation
+   */
+  public static LinkedDataProofValidation newInstance(
+      DidResolver didResolver, Executor executor, LinkedDataTransformer transformer) {
+    return newInstance(didResolver, executor, transformer, null);
+  }
+
+  /**
+   * New instance linked data proof validation. The JSON-LD validator loads the contexts with the
+   * document loader of the transformer and shares its {@link ActiveContextCache}.
+   *
+   * @param didResolver the did resolver
+   * @param executor the executor the items of {@link #verifyAll(Collection)} are verified on
+   * @param transformer the transformer, e.g. using another {@link
+   *     org.eclipse.tractusx.ssi.lib.proof.transform.RdfCanonicalizer}
+   * @param verifiedCredentialCache the cache of verified credentials, null disables caching
+   * @return the linked data proof validation
+   */
+  public static LinkedDataProofValidation newInstance(
+      DidResolver didResolver,
+      Executor executor,
+      LinkedDataTransformer transformer,
+      VerifiedCredentialCache verifiedCredentialCache) {
 
     if (didResolver == null) {
       throw new NullPointerException("Document Resolver shouldn't be null");
     }
+    if (executor == null) {
+      throw new NullPointerException("Executor shouldn't be null");
+    }
+    if (transformer == null) {
+      throw new NullPointerException("Transformer shouldn't be null");
+    }
 
     return new LinkedDataProofValidation(
         new LinkedDataHasher(),
-        new LinkedDataTransformer(),
+        transformer,
         didResolver,
-        new JsonLdValidatorImpl());
+        new JsonLdValidatorImpl(transformer.getContextCache(), transformer.getDocumentLoader()),
+        executor,
+        verifiedCredentialCache);
   }
 
   private final LinkedDataHasher hasher;
   private final LinkedDataTransformer transformer;
   private final DidResolver didResolver;
   private final JsonLdValidator jsonLdValidator;
+  private final Executor executor;
+  private final VerifiedCredentialCache verifiedCredentialCache;
 
   /**
    * To verify {@link VerifiableCredential} or {@link VerifiablePresentation}. In this method we are
@@ -101,35 +189,144 @@ public class LinkedDataProofValidation {
           NoVerificationKeyFoundException,
           TransformJsonLdException {
 
-    var type =
-        verifiable
-            .getProof()
-            .orElseThrow(() -> new DidParseException("no proof found for verification"))
-            .getType();
-    IVerifier verifier = null;
-
-    if (type != null && !type.isBlank()) {
-      if (type.equals(SignatureType.ED25519.getType())) {
-        verifier = new Ed25519ProofVerifier(this.didResolver);
-      } else if (type.equals(SignatureType.JWS.getType())) {
-        verifier = new JWSProofVerifier(this.didResolver);
-      } else {
-        throw new UnsupportedSignatureTypeException(
-            String.format("%s is not supported type", type));
+    final String type = getProofType(verifiable);
+    final IVerifier verifier =
+        type.equals(SignatureType.ED25519.getType())
+            ? new Ed25519ProofVerifier(this.didResolver)
+            : new JWSProofVerifier(this.didResolver);
+
+    return verify(verifiable, verifier, this.didResolver);
+  }
+
+  /**
+   * Verifies many {@link VerifiableCredential} or {@link VerifiablePresentation} at once. Each DID
+   * is resolved only once for the whole batch and the verifiers are shared by all items. The items
+   * are canonicalized and verified on the executor of this instance.
+   *
+   * <p>A failing item does not affect the others, the exception it failed with is part of its
+   * result.
+   *
+   * @param verifiables the verifiables
+   * @return the verification results, in the same order as the verifiables
+   */
+  public List<VerificationResult> verifyAll(Collection<? extends Verifiable> verifiables) {
+    final Batch batch = new Batch(new BatchDidResolver(this.didResolver));
+
+    final List<CompletableFuture<VerificationResult>> results =
+        verifiables.stream().map(batch::submit).toList();
+
+    return results.stream().map(CompletableFuture::join).toList();
+  }
+
+  /**
+   * Verifies the proof of the presentation and the proofs of all embedded credentials, including
+   * the JSON-LD validation of each of them. The presentation and the credentials are verified
+   * concurrently on the executor of this instance, sharing the resolution of DID documents.
+   *
+   * @param presentation the presentation
+   * @return the results of the presentation and of the embedded credentials
+   */
+  public PresentationVerificationResult verifyDeep(VerifiablePresentation presentation) {
+    final Batch batch = new Batch(new BatchDidResolver(this.didResolver));
+
+    final CompletableFuture<VerificationResult> presentationResult = batch.submit(presentation);
+    final List<CompletableFuture<VerificationResult>> credentialResults =
+        presentation.getVerifiableCredentials().stream().map(batch::submit).toList();
+
+    return new PresentationVerificationResult(
+        presentationResult.join(),
+        credentialResults.stream().map(CompletableFuture::join).toList());
+  }
+
+  /** The verifiers of a single batch, sharing one {@link BatchDidResolver}. */
+  private class Batch {
+
+    private final DidResolver didResolver;
+    private final IVerifier ed25519Verifier;
+    private final IVerifier jwsVerifier;
+
+    Batch(DidResolver didResolver) {
+      this.didResolver = didResolver;
+      this.ed25519Verifier = new Ed25519ProofVerifier(didResolver);
+      this.jwsVerifier = new JWSProofVerifier(didResolver);
+    }
+
+    CompletableFuture<VerificationResult> submit(Verifiable verifiable) {
+      return CompletableFuture.supplyAsync(() -> verifyItem(verifiable), executor);
+    }
+
+    private VerificationResult verifyItem(Verifiable verifiable) {
+      try {
+        final IVerifier verifier =
+            getProofType(verifiable).equals(SignatureType.ED25519.getType())
+                ? ed25519Verifier
+                : jwsVerifier;
+        return VerificationResult.of(verifiable, verify(verifiable, verifier, didResolver));
+      } catch (Exception e) {
+        return VerificationResult.failed(verifiable, e);
       }
-    } else {
-      throw new UnsupportedSignatureTypeException("Proof type can't be empty");
     }
+  }
 
-    // We need to make a deep copy to keep the original Verifiable as it is for Verification step
-    var verifiableWithoutProofSignature = verifiable.deepClone().removeProofSignature();
+  private boolean verify(Verifiable verifiable, IVerifier verifier, DidResolver didResolver)
+      throws UnsupportedSignatureTypeException,
+          SignatureParseException,
+          DidParseException,
+          InvalidPublicKeyFormatException,
+          SignatureVerificationFailedException,
+          NoVerificationKeyFoundException,
+          TransformJsonLdException {
+    if (verifiedCredentialCache == null || verifiable.getType() != VerifiableType.VC) {
+      return verifyProof(verifiable, verifier);
+    }
 
-    final TransformedLinkedData transformedData =
-        transformer.transform(verifiableWithoutProofSignature);
-    final HashedLinkedData hashedData = hasher.hash(transformedData);
+    final VerifiableCredential credential =
+        verifiable instanceof VerifiableCredential vc ? vc : new VerifiableCredential(verifiable);
+    final Optional<DidDocument> issuerDocument = resolveIssuer(credential, didResolver);
+    if (issuerDocument.isEmpty()) {
+      return verifyProof(verifiable, verifier);
+    }
+    if (verifiedCredentialCache.isVerified(credential, issuerDocument.get())) {
+      return true;
+    }
+
+    final boolean valid = verifyProof(verifiable, verifier);
+    if (valid) {
+      verifiedCredentialCache.putVerified(credential, issuerDocument.get());
+    }
+    return valid;
+  }
+
+  /**
+   * Resolves the DID document of the issuer, which is the one holding the verification method of a
+   * valid credential. Resolution failures are left to the proof verification to report.
+   */
+  private static Optional<DidDocument> resolveIssuer(
+      VerifiableCredential credential, DidResolver didResolver) {
+    try {
+      return didResolver.resolve(DidParser.parse(credential.getIssuer()));
+    } catch (DidResolverException | DidParseException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private boolean verifyProof(Verifiable verifiable, IVerifier verifier)
+      throws UnsupportedSignatureTypeException,
+          SignatureParseException,
+          DidParseException,
+          InvalidPublicKeyFormatException,
+          SignatureVerificationFailedException,
+          NoVerificationKeyFoundException,
+          TransformJsonLdException {
+
+    // The copy keeps the original Verifiable as it is for the Verification step
+    var verifiableWithoutProofSignature = verifiable.withoutProofSignature();
 
     try {
-      jsonLdValidator.validate(verifiableWithoutProofSignature);
+      // validation and transformation share a single JSON-LD expansion
+      final HashedLinkedData hashedData =
+          hasher.hash(verifiableWithoutProofSignature, transformer, jsonLdValidator);
+
       return verifier.verify(hashedData, verifiable) && validateVerificationMethodOfVC(verifiable);
     } catch (InvalidJsonLdException e) {
       LOG.severe("Could not valiate " + verifiable.getId());
@@ -138,6 +335,24 @@ public class LinkedDataProofValidation {
     }
   }
 
+  private static String getProofType(Verifiable verifiable)
+      throws DidParseException, UnsupportedSignatureTypeException {
+    var type =
+        verifiable
+            .getProof()
+            .orElseThrow(() -> new DidParseException("no proof found for verification"))
+            .getType();
+
+    if (type == null || type.isBlank()) {
+      throw new UnsupportedSignatureTypeException("Proof type can't be empty");
+    }
+    if (!type.equals(SignatureType.ED25519.getType())
+        && !type.equals(SignatureType.JWS.getType())) {
+      throw new UnsupportedSignatureTypeException(String.format("%s is not supported type", type));
+    }
+    return type;
+  }
+
   /**
    * This method is to validate the Verification Method of VC
    *
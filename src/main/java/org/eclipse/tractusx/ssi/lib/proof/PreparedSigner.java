@@ -0,0 +1,143 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.Payload;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.eclipse.tractusx.ssi.lib.crypt.IPrivateKey;
+import org.eclipse.tractusx.ssi.lib.crypt.util.SignerUtil;
+import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPrivateKeyFormatException;
+import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureGenerateFailedException;
+import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
+
+/**
+ * A signer bound to one private key and {@link SignatureType}. The private key is decoded and the
+ * underlying signer is set up once, when the instance is created. Instances are thread-safe, so
+ * issuers signing many documents with the same key should create one and reuse it.
+ */
+public class PreparedSigner {
+
+  /** The signature type. */
+  @Getter private final SignatureType signatureType;
+
+  /** The private key. */
+  @Getter private final IPrivateKey privateKey;
+
+  private final JWSSigner jwsSigner;
+  private final JWSHeader jwsHeader;
+  private final Ed25519PrivateKeyParameters ed25519PrivateKey;
+
+  private PreparedSigner(
+      SignatureType signatureType,
+      IPrivateKey privateKey,
+      JWSSigner jwsSigner,
+      Ed25519PrivateKeyParameters ed25519PrivateKey) {
+    this.signatureType = signatureType;
+    this.privateKey = privateKey;
+    this.jwsSigner = jwsSigner;
+    this.jwsHeader =
+        jwsSigner == null
+            ? null
+            : new JWSHeader.Builder(new JWSAlgorithm(signatureType.getAlgorithm())).build();
+    this.ed25519PrivateKey = ed25519PrivateKey;
+  }
+
+  /**
+   * Prepares a signer for the private key.
+   *
+   * @param privateKey the private key
+   * @param signatureType the signature type
+   * @return the prepared signer
+   * @throws InvalidPrivateKeyFormatException if the private key cannot be used for the signature
+   *     type
+   * @throws SignatureGenerateFailedException if the signer cannot be created
+   */
+  public static PreparedSigner newInstance(IPrivateKey privateKey, SignatureType signatureType)
+      throws InvalidPrivateKeyFormatException, SignatureGenerateFailedException {
+    if (signatureType == SignatureType.ED25519) {
+      try {
+        return new PreparedSigner(
+            signatureType, privateKey, null, new Ed25519PrivateKeyParameters(privateKey.asByte()));
+      } catch (IllegalArgumentException e) {
+        throw new InvalidPrivateKeyFormatException(e.getMessage());
+      }
+    }
+
+    try {
+      return new PreparedSigner(
+          signatureType, privateKey, SignerUtil.getSigner(signatureType, privateKey), null);
+    } catch (JOSEException e) {
+      throw new InvalidPrivateKeyFormatException(e.getMessage());
+    }
+  }
+
+  /**
+   * Gets the JWS signer, e.g. to sign JWTs.
+   *
+   * @return the jws signer
+   * @throws IllegalArgumentException if the signature type is not a JWS type
+   */
+  public JWSSigner getJwsSigner() {
+    if (jwsSigner == null) {
+      throw new IllegalArgumentException(
+          String.format("algorithm %s is not supported", signatureType.getAlgorithm()));
+    }
+    return jwsSigner;
+  }
+
+  /**
+   * Signs hashed linked data. Ed25519 signatures are returned as raw bytes, JWS signatures as
+   * compact serialization with detached payload.
+   *
+   * @param hashedLinkedData the hashed linked data
+   * @return the signature
+   * @throws SignatureGenerateFailedException the signature generate failed exception
+   */
+  public byte[] sign(HashedLinkedData hashedLinkedData) throws SignatureGenerateFailedException {
+    final byte[] message = hashedLinkedData.getValue();
+
+    if (ed25519PrivateKey != null) {
+      // the bouncy castle signer is stateful, the (expensive) key parameters are shared
+      final Ed25519Signer signer = new Ed25519Signer();
+      signer.init(true, ed25519PrivateKey);
+      signer.update(message, 0, message.length);
+      return signer.generateSignature();
+    }
+
+    JWSObject jwsObject = new JWSObject(jwsHeader, new Payload(message));
+    try {
+      jwsObject.sign(jwsSigner);
+    } catch (JOSEException e) {
+      throw new SignatureGenerateFailedException(e.getMessage());
+    }
+
+    return jwsObject.serialize(true).getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import java.util.List;
+import lombok.Value;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
+
+/**
+ * The result of the deep verification of a {@link VerifiablePresentation}: the result of its own
+ * proof and the results of the proofs of the embedded credentials.
+ */
+@Value
+public class PresentationVerificationResult {
+
+  VerificationResult presentation;
+
+  /** The results of the embedded credentials, in the order of the presentation. */
+  List<VerificationResult> credentials;
+
+  /**
+   * Whether the proof of the presentation and the proofs of all embedded credentials are valid.
+   *
+   * @return true, if all proofs are valid
+   */
+  public boolean isValid() {
+    return presentation.isValid() && credentials.stream().allMatch(VerificationResult::isValid);
+  }
+}
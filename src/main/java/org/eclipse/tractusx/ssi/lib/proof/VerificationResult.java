@@ -0,0 +1,69 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+
+/** The result of the verification of a single {@link Verifiable} of a batch. */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerificationResult {
+
+  Verifiable verifiable;
+  boolean valid;
+  Exception exception;
+
+  /**
+   * Creates the result of a completed verification.
+   *
+   * @param verifiable the verifiable
+   * @param valid whether the proof is valid
+   * @return the verification result
+   */
+  public static VerificationResult of(Verifiable verifiable, boolean valid) {
+    return new VerificationResult(verifiable, valid, null);
+  }
+
+  /**
+   * Creates the result of a verification that could not be completed. The verifiable is not valid.
+   *
+   * @param verifiable the verifiable
+   * @param exception the exception thrown by the verification
+   * @return the verification result
+   */
+  public static VerificationResult failed(Verifiable verifiable, Exception exception) {
+    return new VerificationResult(verifiable, false, exception);
+  }
+
+  /**
+   * Gets the exception thrown by the verification, if any.
+   *
+   * @return the exception
+   */
+  public Optional<Exception> getException() {
+    return Optional.ofNullable(exception);
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import lombok.Value;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
+
+/**
+ * Opt-in cache of successfully verified {@link VerifiableCredential}s, used by {@link
+ * LinkedDataProofValidation} to skip canonicalization and signature checks of credentials it has
+ * verified before. Entries are keyed by a SHA-256 digest of the serialized credential, including
+ * its proof value, so any change to the credential is a cache miss.
+ *
+ * <p>An entry expires after the configured time to live, but not later than the expiration date of
+ * the credential. It is only used as long as the issuer DID document resolved at the time of the
+ * lookup is the same as the one the credential was verified with; the DID resolver in use decides
+ * how long a DID document is cached. Only positive results are cached.
+ */
+public class VerifiedCredentialCache {
+
+  /** The default time to live of verified credentials. */
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(15);
+
+  /** The default maximum number of cached credentials. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  private final Duration timeToLive;
+  private final Clock clock;
+  private final Cache<String, Verification> verifications;
+
+  /** Instantiates a new Verified credential cache with the default time to live and size. */
+  public VerifiedCredentialCache() {
+    this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Instantiates a new Verified credential cache.
+   *
+   * @param timeToLive the maximum time to live of verified credentials
+   * @param maximumSize the maximum number of cached credentials
+   */
+  public VerifiedCredentialCache(Duration timeToLive, long maximumSize) {
+    this(timeToLive, maximumSize, Clock.systemUTC());
+  }
+
+  VerifiedCredentialCache(Duration timeToLive, long maximumSize, Clock clock) {
+    this.timeToLive = timeToLive;
+    this.clock = clock;
+    this.verifications =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new VerificationExpiry())
+            .ticker(() -> toNanos(clock.instant()))
+            .build();
+  }
+
+  /**
+   * Whether the credential was verified before with the given issuer DID document. An entry
+   * verified with another DID document is removed.
+   *
+   * @param credential the credential
+   * @param issuerDocument the current DID document of the issuer
+   * @return true, if the credential is known to be valid
+   */
+  boolean isVerified(VerifiableCredential credential, DidDocument issuerDocument) {
+    final String key = digest(credential);
+    final Verification verification = verifications.getIfPresent(key);
+    if (verification == null) {
+      return false;
+    }
+    if (!verification.getIssuerDocument().equals(issuerDocument)) {
+      // the issuer DID document changed, e.g. by a key rotation or revocation
+      verifications.asMap().remove(key, verification);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Remembers a successfully verified credential.
+   *
+   * @param credential the credential
+   * @param issuerDocument the DID document of the issuer the credential was verified with
+   */
+  void putVerified(VerifiableCredential credential, DidDocument issuerDocument) {
+    final Instant now = clock.instant();
+    Instant expiresAt = now.plus(timeToLive);
+    final Instant expirationDate = credential.getExpirationDate();
+    if (expirationDate != null && expirationDate.isBefore(expiresAt)) {
+      expiresAt = expirationDate;
+    }
+    if (expiresAt.isAfter(now)) {
+      verifications.put(digest(credential), new Verification(issuerDocument, expiresAt));
+    }
+  }
+
+  /**
+   * Gets the number of cached credentials, including expired ones not yet cleaned up.
+   *
+   * @return the estimated number of cached credentials
+   */
+  public long estimatedSize() {
+    return verifications.estimatedSize();
+  }
+
+  /** Removes all cached credentials. */
+  public void invalidateAll() {
+    verifications.invalidateAll();
+  }
+
+  private static long toNanos(Instant instant) {
+    return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+  }
+
+  private static String digest(VerifiableCredential credential) {
+    try {
+      final byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest(SerializeUtil.toJson(credential).getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  @Value
+  private static class Verification {
+    DidDocument issuerDocument;
+    Instant expiresAt;
+  }
+
+  private static class VerificationExpiry implements Expiry<String, Verification> {
+
+    @Override
+    public long expireAfterCreate(String key, Verification verification, long currentTime) {
+      // the current time is read from the ticker, i.e. the clock
+      return Math.max(0, toNanos(verification.getExpiresAt()) - currentTime);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, Verification verification, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, verification, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, Verification verification, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -21,13 +21,28 @@
 
 package org.eclipse.tractusx.ssi.lib.proof.hash;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
 import org.eclipse.tractusx.ssi.lib.proof.transform.TransformedLinkedData;
+import org.eclipse.tractusx.ssi.lib.validation.JsonLdValidator;
 
 /** The type Linked data hasher. */
 public class LinkedDataHasher {
 
+  /** One digest per thread, reset before every use. */
+  private static final ThreadLocal<MessageDigest> DIGEST =
+      ThreadLocal.withInitial(LinkedDataHasher::newDigest);
+
   /**
    * Hash linked data.
    *
@@ -35,11 +50,74 @@ public class LinkedDataHasher {
    * @return the hashed linked data
    */
   public HashedLinkedData hash(TransformedLinkedData transformedLinkedData) {
+    final MessageDigest digest = getDigest();
+    var value = digest.digest(transformedLinkedData.getValue().getBytes(StandardCharsets.UTF_8));
+    return new HashedLinkedData(value);
+  }
+
+  /**
+   * Transforms the verifiable and hashes the result. The canonical N-Quads are encoded as UTF-8
+   * straight into the digest, so they are never held in memory as a whole. The hash is the same as
+   * {@code hash(transformer.transform(verifiable))}.
+   *
+   * @param verifiable the verifiable
+   * @param transformer the transformer
+   * @return the hashed linked data
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  public HashedLinkedData hash(Verifiable verifiable, LinkedDataTransformer transformer)
+      throws TransformJsonLdException {
+    final MessageDigest digest = getDigest();
+    final Writer writer = newWriter(digest);
+    transformer.transform(verifiable, writer);
+    return new HashedLinkedData(finish(writer, digest));
+  }
+
+  /**
+   * Validates and transforms the verifiable and hashes the result, see {@link #hash(Verifiable,
+   * LinkedDataTransformer)}.
+   *
+   * @param verifiable the verifiable
+   * @param transformer the transformer
+   * @param validator the validator
+   * @return the hashed linked data
+   * @throws TransformJsonLdException the transform json ld exception
+   * @throws InvalidJsonLdException the invalid json ld exception
+   */
+  public HashedLinkedData hash(
+      Verifiable verifiable, LinkedDataTransformer transformer, JsonLdValidator validator)
+      throws TransformJsonLdException, InvalidJsonLdException {
+    final MessageDigest digest = getDigest();
+    final Writer writer = newWriter(digest);
+    transformer.transform(verifiable, validator, writer);
+    return new HashedLinkedData(finish(writer, digest));
+  }
+
+  private static MessageDigest getDigest() {
+    final MessageDigest digest = DIGEST.get();
+    digest.reset();
+    return digest;
+  }
+
+  private static Writer newWriter(MessageDigest digest) {
+    return new OutputStreamWriter(
+        new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] finish(Writer writer, MessageDigest digest)
+      throws TransformJsonLdException {
     try {
-      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      // the writer buffers the encoded bytes, the digest is only complete after flushing
+      writer.flush();
+    } catch (IOException e) {
+      throw new TransformJsonLdException(e.getMessage());
+    }
+    return digest.digest();
+  }
 
-      var value = digest.digest(transformedLinkedData.getValue().getBytes());
-      return new HashedLinkedData(value);
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
     } catch (NoSuchAlgorithmException e) {
       throw new IllegalArgumentException(e);
     }
@@ -0,0 +1,78 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import com.apicatalog.rdf.RdfDataset;
+import lombok.Getter;
+import org.eclipse.tractusx.ssi.lib.exception.json.CanonicalizationLimitExceededException;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+
+/**
+ * {@link RdfCanonicalizer} running URDNA2015 within {@link CanonicalizationLimits}. A dataset
+ * exceeding a limit is rejected with a {@link CanonicalizationLimitExceededException}.
+ *
+ * <p>The size limits are checked before the blank nodes are hashed. The N-degree hashing, which
+ * permutes the blank nodes that cannot be told apart, is limited by the number of its calls, the
+ * number of permutations they examine and the timeout. All of them are enforced by the {@link
+ * Urdna2015Canonicalizer} while it runs, so the work spent on a rejected dataset is bounded
+ * whatever its shape.
+ */
+public class BudgetedCanonicalizer implements RdfCanonicalizer {
+
+  private static final BudgetedCanonicalizer DEFAULT =
+      new BudgetedCanonicalizer(CanonicalizationLimits.DEFAULT);
+
+  /**
+   * Gets the canonicalizer used by default, applying the default limits to URDNA2015.
+   *
+   * @return the default canonicalizer
+   */
+  public static BudgetedCanonicalizer getDefault() {
+    return DEFAULT;
+  }
+
+  @Getter private final CanonicalizationLimits limits;
+
+  @Getter private final CanonicalizationStatistics statistics = new CanonicalizationStatistics();
+
+  /**
+   * Instantiates a new Budgeted canonicalizer.
+   *
+   * @param limits the limits
+   */
+  public BudgetedCanonicalizer(CanonicalizationLimits limits) {
+    this.limits = limits;
+  }
+
+  @Override
+  public RdfDataset canonicalize(RdfDataset dataset) throws TransformJsonLdException {
+    final RdfDataset canonical;
+    try {
+      canonical = Urdna2015Canonicalizer.getInstance().canonicalize(dataset, limits, statistics);
+    } catch (CanonicalizationLimitExceededException e) {
+      statistics.recordRejected();
+      throw e;
+    }
+    statistics.recordCanonicalized();
+    return canonical;
+  }
+}
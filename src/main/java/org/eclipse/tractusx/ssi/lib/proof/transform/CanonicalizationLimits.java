@@ -0,0 +1,81 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The limits of a {@link BudgetedCanonicalizer}. The defaults leave room for presentations carrying
+ * hundreds of credentials, but reject graphs built to make URDNA2015 run for a long time.
+ */
+@Value
+@Builder
+public class CanonicalizationLimits {
+
+  /** The default limits. */
+  public static final CanonicalizationLimits DEFAULT = CanonicalizationLimits.builder().build();
+
+  /** Limits that are never exceeded. */
+  public static final CanonicalizationLimits UNLIMITED =
+      CanonicalizationLimits.builder()
+          .maxQuads(Long.MAX_VALUE)
+          .maxBlankNodes(Long.MAX_VALUE)
+          .maxNDegreeBlankNodes(Long.MAX_VALUE)
+          .maxHashNDegreeCalls(Long.MAX_VALUE)
+          .maxNDegreePermutations(Long.MAX_VALUE)
+          .timeout(ChronoUnit.FOREVER.getDuration())
+          .build();
+
+  /** The maximum number of quads of the dataset. */
+  @Builder.Default long maxQuads = 100_000;
+
+  /** The maximum number of distinct blank nodes of the dataset. */
+  @Builder.Default long maxBlankNodes = 10_000;
+
+  /**
+   * The maximum number of blank nodes that are not identified by their first degree hash. URDNA2015
+   * hashes the N-degree quads of each of them.
+   */
+  @Builder.Default long maxNDegreeBlankNodes = 32;
+
+  /**
+   * The maximum number of calls of the hash N-degree quads algorithm. URDNA2015 calls it for each
+   * blank node that is not identified by its first degree hash and recursively for each permutation
+   * of the related blank nodes that cannot be told apart, so the number of calls grows with the
+   * factorial of the number of symmetric blank nodes, e.g. a clique of 8 blank nodes takes seconds,
+   * one of 10 minutes. The default admits a clique of 6 blank nodes or a ring of 100.
+   */
+  @Builder.Default long maxHashNDegreeCalls = 10_000;
+
+  /**
+   * The maximum number of permutations of related blank nodes examined by the N-degree hashing.
+   * Each call permutes the related blank nodes sharing a hash, so a single call on a blank node
+   * related to k symmetric blank nodes examines up to k! permutations.
+   */
+  @Builder.Default long maxNDegreePermutations = 100_000;
+
+  /** The maximum duration of the canonicalization of a dataset. */
+  @Builder.Default Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,160 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link BudgetedCanonicalizer}, to compare the datasets actually seen with the
+ * configured {@link CanonicalizationLimits}. The maxima include rejected datasets.
+ */
+public class CanonicalizationStatistics {
+
+  private final LongAdder canonicalized = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAccumulator maxQuads = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxBlankNodes = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxNDegreeBlankNodes = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxHashNDegreeCalls = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxNDegreePermutations = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0);
+
+  void recordCanonicalized() {
+    canonicalized.increment();
+  }
+
+  void recordRejected() {
+    rejected.increment();
+  }
+
+  void recordQuads(long quads) {
+    maxQuads.accumulate(quads);
+  }
+
+  void recordBlankNodes(long blankNodes) {
+    maxBlankNodes.accumulate(blankNodes);
+  }
+
+  void recordNDegreeBlankNodes(long nDegreeBlankNodes) {
+    maxNDegreeBlankNodes.accumulate(nDegreeBlankNodes);
+  }
+
+  void recordHashNDegreeCalls(long hashNDegreeCalls) {
+    maxHashNDegreeCalls.accumulate(hashNDegreeCalls);
+  }
+
+  void recordNDegreePermutations(long nDegreePermutations) {
+    maxNDegreePermutations.accumulate(nDegreePermutations);
+  }
+
+  void recordDuration(long durationNanos) {
+    maxDurationNanos.accumulate(durationNanos);
+  }
+
+  /**
+   * Gets the number of canonicalized datasets.
+   *
+   * @return the number of canonicalized datasets
+   */
+  public long getCanonicalized() {
+    return canonicalized.sum();
+  }
+
+  /**
+   * Gets the number of datasets rejected because of a limit.
+   *
+   * @return the number of rejected datasets
+   */
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * Gets the largest number of quads of a dataset.
+   *
+   * @return the largest number of quads
+   */
+  public long getMaxQuads() {
+    return maxQuads.get();
+  }
+
+  /**
+   * Gets the largest number of blank nodes of a dataset.
+   *
+   * @return the largest number of blank nodes
+   */
+  public long getMaxBlankNodes() {
+    return maxBlankNodes.get();
+  }
+
+  /**
+   * Gets the largest number of blank nodes of a dataset needing N-degree hashing.
+   *
+   * @return the largest number of blank nodes needing N-degree hashing
+   */
+  public long getMaxNDegreeBlankNodes() {
+    return maxNDegreeBlankNodes.get();
+  }
+
+  /**
+   * Gets the largest number of hash N-degree quads calls of a dataset. Rejected datasets count the
+   * calls up to the one exceeding the limit.
+   *
+   * @return the largest number of hash N-degree quads calls
+   */
+  public long getMaxHashNDegreeCalls() {
+    return maxHashNDegreeCalls.get();
+  }
+
+  /**
+   * Gets the largest number of permutations of related blank nodes examined by the N-degree hashing
+   * of a dataset. Rejected datasets count the permutations up to the one exceeding the limit.
+   *
+   * @return the largest number of permutations
+   */
+  public long getMaxNDegreePermutations() {
+    return maxNDegreePermutations.get();
+  }
+
+  /**
+   * Gets the longest duration of the canonicalization of a dataset.
+   *
+   * @return the longest duration
+   */
+  public Duration getMaxDuration() {
+    return Duration.ofNanos(maxDurationNanos.get());
+  }
+
+  /** Resets all counters. */
+  public void reset() {
+    canonicalized.reset();
+    rejected.reset();
+    maxQuads.reset();
+    maxBlankNodes.reset();
+    maxNDegreeBlankNodes.reset();
+    maxHashNDegreeCalls.reset();
+    maxNDegreePermutations.reset();
+    maxDurationNanos.reset();
+  }
+}
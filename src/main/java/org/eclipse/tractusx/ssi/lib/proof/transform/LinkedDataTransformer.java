@@ -21,79 +21,253 @@
 
 package org.eclipse.tractusx.ssi.lib.proof.transform;
 
-import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
-import com.apicatalog.jsonld.api.ToRdfApi;
-import com.apicatalog.jsonld.document.JsonDocument;
-import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.deseralization.JsonLdToRdf;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
 import com.apicatalog.rdf.io.nquad.NQuadsWriter;
-import io.setl.rdf.normalization.RdfNormalize;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.security.NoSuchAlgorithmException;
+import java.io.Writer;
+import java.util.Map;
+import lombok.Getter;
+import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
 import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
 import org.eclipse.tractusx.ssi.lib.model.JsonLdObject;
 import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.validation.JsonLdValidator;
 
 /** The type Linked data transformer. */
 public class LinkedDataTransformer {
 
+  private static final JsonObject UNDEFINED_TERM_EXPAND_CONTEXT =
+      Json.createObjectBuilder()
+          .add("@vocab", Json.createValue(JsonLdValidator.UNDEFINED_TERM_URI))
+          .build();
+
+  /** The context cache, to be shared with a validator using the same document loader. */
+  @Getter private final ActiveContextCache contextCache;
+
+  private final RdfCanonicalizer canonicalizer;
+
+  /** The document loader the JSON-LD contexts are loaded with. */
+  @Getter private final DocumentLoader documentLoader;
+
+  /** Instantiates a new Linked data transformer using the shared {@link ActiveContextCache}. */
+  public LinkedDataTransformer() {
+    this(ActiveContextCache.getInstance());
+  }
+
+  /**
+   * Instantiates a new Linked data transformer, canonicalizing with URDNA2015 within the {@link
+   * CanonicalizationLimits#DEFAULT} limits.
+   *
+   * @param contextCache the context cache
+   */
+  public LinkedDataTransformer(ActiveContextCache contextCache) {
+    this(contextCache, BudgetedCanonicalizer.getDefault());
+  }
+
+  /**
+   * Instantiates a new Linked data transformer, loading documents with the shared {@link
+   * RemoteDocumentLoader}.
+   *
+   * @param contextCache the context cache
+   * @param canonicalizer the canonicalizer
+   */
+  public LinkedDataTransformer(ActiveContextCache contextCache, RdfCanonicalizer canonicalizer) {
+    this(contextCache, canonicalizer, RemoteDocumentLoader.getInstance());
+  }
+
+  /**
+   * Instantiates a new Linked data transformer.
+   *
+   * @param contextCache the context cache
+   * @param canonicalizer the canonicalizer
+   * @param documentLoader the document loader, e.g. a {@link
+   *     org.eclipse.tractusx.ssi.lib.model.ConfiguredDocumentLoader}
+   */
+  public LinkedDataTransformer(
+      ActiveContextCache contextCache,
+      RdfCanonicalizer canonicalizer,
+      DocumentLoader documentLoader) {
+    this.contextCache = contextCache;
+    this.canonicalizer = canonicalizer;
+    this.documentLoader = documentLoader;
+  }
+
   public TransformedLinkedData transform(Verifiable document) throws TransformJsonLdException {
     return this.canocliztion(document);
   }
 
   /**
-   * Canocliztion transformed linked data.
+   * Validates and transforms the document with a single JSON-LD expansion. The document is expanded
+   * with {@link JsonLdValidator#UNDEFINED_TERM_URI} as vocabulary, the expanded form is handed to
+   * the validator and, as long as it does not contain any undefined term, is used for the RDF
+   * conversion as well. Otherwise, the document is expanded again without the vocabulary, so the
+   * result is always the same as {@link #transform(Verifiable)}.
    *
    * @param document the document
+   * @param validator the validator
    * @return the transformed linked data
    * @throws TransformJsonLdException the transform json ld exception
+   * @throws InvalidJsonLdException the invalid json ld exception
    */
-  private TransformedLinkedData canocliztion(JsonLdObject document)
-      throws TransformJsonLdException {
-    try {
+  public TransformedLinkedData transform(Verifiable document, JsonLdValidator validator)
+      throws TransformJsonLdException, InvalidJsonLdException {
+    return toString(toValidatedDataset(document, validator));
+  }
+
+  /**
+   * Transforms the document and writes the canonical N-Quads to the writer, without building them
+   * as a string first. The writer is neither flushed nor closed.
+   *
+   * @param document the document
+   * @param writer the writer
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  public void transform(Verifiable document, Writer writer) throws TransformJsonLdException {
+    write(toDataset(document), writer);
+  }
 
-      RdfDataset rdfDataset = toDataset(document);
-      rdfDataset = RdfNormalize.normalize(rdfDataset, "urdna2015");
-      StringWriter stringWriter = new StringWriter();
-      NQuadsWriter nQuadsWriter = new NQuadsWriter(stringWriter);
-      nQuadsWriter.write(rdfDataset);
-      var normalized = stringWriter.getBuffer().toString();
+  /**
+   * Same as {@link #transform(Verifiable, JsonLdValidator)}, but writes the canonical N-Quads to
+   * the writer, without building them as a string first. The writer is neither flushed nor closed.
+   *
+   * @param document the document
+   * @param validator the validator
+   * @param writer the writer
+   * @throws TransformJsonLdException the transform json ld exception
+   * @throws InvalidJsonLdException the invalid json ld exception
+   */
+  public void transform(Verifiable document, JsonLdValidator validator, Writer writer)
+      throws TransformJsonLdException, InvalidJsonLdException {
+    write(toValidatedDataset(document, validator), writer);
+  }
 
-      return new TransformedLinkedData(normalized);
+  private RdfDataset toValidatedDataset(Verifiable document, JsonLdValidator validator)
+      throws TransformJsonLdException, InvalidJsonLdException {
+    final JsonObject jsonObject = document.toJsonObject();
+    final JsonLdOptions options = newOptions();
+    final JsonLdOptions validationOptions = new JsonLdOptions(options);
+    validationOptions.setExpandContext(UNDEFINED_TERM_EXPAND_CONTEXT);
 
-    } catch (NoSuchAlgorithmException | IOException e) {
-      throw new TransformJsonLdException(e.getMessage());
+    JsonArray expanded = expand(jsonObject, validationOptions);
+    validator.validate(document, expanded);
+
+    if (containsUndefinedTerm(expanded)) {
+      expanded = expand(jsonObject, options);
     }
+    return normalize(toDataset(expanded, options));
   }
 
   /**
-   * To dataset rdf dataset.
+   * Canocliztion transformed linked data.
    *
-   * @param jsonLdObject the json ld object
-   * @return the rdf dataset
-   * @throws RuntimeException the runtime exception
+   * @param document the document
+   * @return the transformed linked data
+   * @throws TransformJsonLdException the transform json ld exception
    */
-  private RdfDataset toDataset(JsonLdObject jsonLdObject) throws RuntimeException {
+  private TransformedLinkedData canocliztion(JsonLdObject document)
+      throws TransformJsonLdException {
+    return toString(toDataset(document));
+  }
 
-    var documentLoader = RemoteDocumentLoader.getInstance();
-    documentLoader.setEnableHttps(true);
-    documentLoader.setHttpsContexts(jsonLdObject.getContext());
+  private RdfDataset toDataset(JsonLdObject document) throws TransformJsonLdException {
+    final JsonLdOptions options = newOptions();
+    return normalize(toDataset(expand(document.toJsonObject(), options), options));
+  }
+
+  private RdfDataset normalize(RdfDataset dataset) throws TransformJsonLdException {
+    return canonicalizer.canonicalize(dataset);
+  }
+
+  private static TransformedLinkedData toString(RdfDataset normalized)
+      throws TransformJsonLdException {
+    final StringWriter stringWriter = new StringWriter();
+    write(normalized, stringWriter);
+    return new TransformedLinkedData(stringWriter.toString());
+  }
+
+  private static void write(RdfDataset normalized, Writer writer) throws TransformJsonLdException {
+    try {
+      new NQuadsWriter(writer).write(normalized);
+    } catch (IOException e) {
+      throw new TransformJsonLdException(e.getMessage());
+    }
+  }
 
+  private JsonLdOptions newOptions() {
     JsonLdOptions options = new JsonLdOptions();
     options.setDocumentLoader(documentLoader);
     options.setOrdered(true);
+    return options;
+  }
+
+  private JsonArray expand(JsonObject jsonObject, JsonLdOptions options) {
+    try {
+      return contextCache.expand(jsonObject, options);
+    } catch (JsonLdError ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
 
-    JsonDocument jsonDocument = JsonDocument.of(MediaType.JSON_LD, jsonLdObject.toJsonObject());
-    ToRdfApi toRdfApi = JsonLd.toRdf(jsonDocument);
-    toRdfApi.options(options);
+  /**
+   * To dataset rdf dataset. Same as the JSON-LD to RDF processor, but starting from the expanded
+   * form.
+   *
+   * @param expanded the expanded json ld object
+   * @param options the options
+   * @return the rdf dataset
+   * @throws RuntimeException the runtime exception
+   */
+  private RdfDataset toDataset(JsonArray expanded, JsonLdOptions options) throws RuntimeException {
     try {
-      return toRdfApi.get();
+      return JsonLdToRdf.with(
+              NodeMapBuilder.with(expanded, new NodeMap()).build(), Rdf.createDataset())
+          .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
+          .rdfDirection(options.getRdfDirection())
+          .uriValidation(options.isUriValidation())
+          .build();
     } catch (JsonLdError ex) {
       throw new IllegalStateException(ex);
     }
   }
+
+  /**
+   * Whether the undefined term vocabulary was applied anywhere in the expanded form, as a property
+   * or as a vocabulary relative value.
+   */
+  private static boolean containsUndefinedTerm(JsonValue value) {
+    if (value instanceof JsonString jsonString) {
+      return jsonString.getString().startsWith(JsonLdValidator.UNDEFINED_TERM_URI);
+    }
+    if (value instanceof JsonArray jsonArray) {
+      for (JsonValue entry : jsonArray) {
+        if (containsUndefinedTerm(entry)) {
+          return true;
+        }
+      }
+    }
+    if (value instanceof JsonObject jsonObject) {
+      for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+        if (entry.getKey().startsWith(JsonLdValidator.UNDEFINED_TERM_URI)
+            || containsUndefinedTerm(entry.getValue())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import com.apicatalog.rdf.RdfDataset;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+
+/**
+ * Canonicalizes the RDF dataset of a document before it is serialized as N-Quads and hashed. The
+ * canonical form must not depend on blank node labels or quad order of the input, and must be the
+ * same for every implementation used to sign and to verify a proof.
+ */
+@FunctionalInterface
+public interface RdfCanonicalizer {
+
+  /**
+   * Canonicalizes the dataset.
+   *
+   * @param dataset the dataset
+   * @return the canonical dataset, with its quads in canonical order
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  RdfDataset canonicalize(RdfDataset dataset) throws TransformJsonLdException;
+}
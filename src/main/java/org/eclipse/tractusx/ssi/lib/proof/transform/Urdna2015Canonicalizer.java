@@ -0,0 +1,755 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfLiteral;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfResource;
+import com.apicatalog.rdf.RdfValue;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.tractusx.ssi.lib.exception.json.CanonicalizationLimitExceededException;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+
+/**
+ * {@link RdfCanonicalizer} implementing the URDNA2015 algorithm.
+ *
+ * <p>The terms of the dataset are interned once, so that the quads and the blank node identifier
+ * issuers are plain int arrays, and all hashes are fed incrementally into reused SHA-256 digests.
+ * The output is byte-identical to the one of {@code io.setl.rdf.normalization.RdfNormalize},
+ * including the order of the canonical quads.
+ *
+ * <p>The {@link BudgetedCanonicalizer} runs the engine within {@link CanonicalizationLimits}: the
+ * number of hash N-degree quads calls and of the permutations they examine are counted and the
+ * timeout is checked before every call and permutation, so that a dataset is aborted as soon as it
+ * exceeds a limit.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Urdna2015Canonicalizer implements RdfCanonicalizer {
+
+  /** The name of the algorithm. */
+  public static final String ALGORITHM = "urdna2015";
+
+  private static final Urdna2015Canonicalizer INSTANCE = new Urdna2015Canonicalizer();
+
+  private static final String XSD_STRING = "http://www.w3.org/2001/XMLSchema#string";
+
+  private static final String CANONICAL_PREFIX = "_:c14n";
+
+  private static final String TEMPORARY_PREFIX = "_:b";
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private static final int NONE = -1;
+
+  /**
+   * Gets instance.
+   *
+   * @return the instance
+   */
+  public static Urdna2015Canonicalizer getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public RdfDataset canonicalize(RdfDataset dataset) throws TransformJsonLdException {
+    return canonicalize(
+        dataset, CanonicalizationLimits.UNLIMITED, new CanonicalizationStatistics());
+  }
+
+  /**
+   * Canonicalizes the dataset within the limits, aborting as soon as one of them is exceeded. The
+   * work done is recorded in the statistics, also when the dataset is rejected.
+   *
+   * @param dataset the dataset
+   * @param limits the limits
+   * @param statistics the statistics
+   * @return the canonical dataset, with its quads in canonical order
+   * @throws CanonicalizationLimitExceededException if a limit is exceeded
+   * @throws TransformJsonLdException the transform json ld exception
+   */
+  RdfDataset canonicalize(
+      RdfDataset dataset, CanonicalizationLimits limits, CanonicalizationStatistics statistics)
+      throws TransformJsonLdException {
+    final List<RdfNQuad> quads = dataset.toList();
+    statistics.recordQuads(quads.size());
+    if (quads.size() > limits.getMaxQuads()) {
+      throw new CanonicalizationLimitExceededException(
+          "maxQuads", limits.getMaxQuads(), quads.size());
+    }
+    return new Canonicalization(quads, limits, statistics).run();
+  }
+
+  /** The state of a single canonicalization, not thread safe. */
+  private static final class Canonicalization {
+
+    private final List<RdfNQuad> quads;
+
+    private final CanonicalizationLimits limits;
+
+    private final CanonicalizationStatistics statistics;
+
+    private final long start = System.nanoTime();
+
+    private final long timeoutNanos;
+
+    private long hashNDegreeCalls;
+
+    private long nDegreePermutations;
+
+    /** The N-Quads form of each interned term, blank nodes by their label. */
+    private final List<String> forms = new ArrayList<>();
+
+    /** The UTF-8 value of each interned term, used for the predicates of related blank nodes. */
+    private final List<byte[]> values = new ArrayList<>();
+
+    /** Whether each interned term is a blank node. */
+    private final List<Boolean> blankTerms = new ArrayList<>();
+
+    /**
+     * The blank node of each interned term, {@link #NONE} if the term is not a blank node in
+     * subject, object or graph position.
+     */
+    private int[] blankNodeOfTerm = new int[16];
+
+    private final int[] subjects;
+    private final int[] predicates;
+    private final int[] objects;
+    private final int[] graphs;
+
+    private int blankNodeCount;
+
+    /** The indices of the distinct quads mentioning each blank node, in dataset order. */
+    private int[][] blankNodeQuads;
+
+    private String[] firstDegreeHashes;
+
+    private int[] canonicalIds;
+
+    private final List<String> canonicalLabels = new ArrayList<>();
+
+    /** One digest per recursion depth of the N-degree hashing, and one for everything else. */
+    private final List<MessageDigest> digests = new ArrayList<>();
+
+    private final MessageDigest digest;
+
+    private int depth;
+
+    private Canonicalization(
+        List<RdfNQuad> quads, CanonicalizationLimits limits, CanonicalizationStatistics statistics)
+        throws TransformJsonLdException {
+      this.quads = quads;
+      this.limits = limits;
+      this.statistics = statistics;
+      this.timeoutNanos = toNanos(limits.getTimeout());
+      this.digest = newDigest();
+      final int size = quads.size();
+      subjects = new int[size];
+      predicates = new int[size];
+      objects = new int[size];
+      graphs = new int[size];
+
+      final Map<RdfValue, Integer> terms = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        final RdfNQuad quad = quads.get(i);
+        subjects[i] = intern(terms, quad.getSubject());
+        predicates[i] = intern(terms, quad.getPredicate());
+        objects[i] = intern(terms, quad.getObject());
+        graphs[i] = quad.getGraphName().map(graph -> intern(terms, graph)).orElse(NONE);
+      }
+    }
+
+    private RdfDataset run() throws TransformJsonLdException {
+      try {
+        indexBlankNodes();
+        statistics.recordBlankNodes(blankNodeCount);
+        if (blankNodeCount > limits.getMaxBlankNodes()) {
+          throw new CanonicalizationLimitExceededException(
+              "maxBlankNodes", limits.getMaxBlankNodes(), blankNodeCount);
+        }
+
+        computeFirstDegreeHashes();
+        issueSimpleIds();
+        final long nDegreeBlankNodes = blankNodeCount - canonicalLabels.size();
+        statistics.recordNDegreeBlankNodes(nDegreeBlankNodes);
+        if (nDegreeBlankNodes > limits.getMaxNDegreeBlankNodes()) {
+          throw new CanonicalizationLimitExceededException(
+              "maxNDegreeBlankNodes", limits.getMaxNDegreeBlankNodes(), nDegreeBlankNodes);
+        }
+
+        issueNDegreeIds();
+        return canonicalQuads();
+      } finally {
+        statistics.recordHashNDegreeCalls(hashNDegreeCalls);
+        statistics.recordNDegreePermutations(nDegreePermutations);
+        statistics.recordDuration(System.nanoTime() - start);
+      }
+    }
+
+    /** Aborts the canonicalization once it runs longer than the timeout. */
+    private void checkTimeout() throws CanonicalizationLimitExceededException {
+      final long elapsed = System.nanoTime() - start;
+      if (elapsed > timeoutNanos) {
+        throw new CanonicalizationLimitExceededException(
+            "timeout",
+            TimeUnit.NANOSECONDS.toMillis(timeoutNanos),
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+      }
+    }
+
+    private int intern(Map<RdfValue, Integer> terms, RdfValue value) {
+      return terms.computeIfAbsent(
+          value,
+          key -> {
+            final int term = forms.size();
+            forms.add(form(key));
+            values.add(key.getValue().getBytes(StandardCharsets.UTF_8));
+            blankTerms.add(key.isBlankNode());
+            if (term == blankNodeOfTerm.length) {
+              blankNodeOfTerm = Arrays.copyOf(blankNodeOfTerm, term * 2);
+            }
+            blankNodeOfTerm[term] = NONE;
+            return term;
+          });
+    }
+
+    /**
+     * Indexes the blank nodes in subject, object and graph position. Blank predicates are not
+     * relabelled, like by the reference implementation.
+     */
+    private void indexBlankNodes() {
+      final int[] quadCounts = new int[forms.size()];
+      for (int i = 0; i < quads.size(); i++) {
+        for (int term : new int[] {subjects[i], objects[i], graphs[i]}) {
+          if (term != NONE && blankTerms.get(term)) {
+            if (blankNodeOfTerm[term] == NONE) {
+              blankNodeOfTerm[term] = blankNodeCount++;
+            }
+            quadCounts[blankNodeOfTerm[term]]++;
+          }
+        }
+      }
+
+      // duplicate quads count once, like in the per blank node datasets of the reference
+      final Set<List<Integer>> distinctQuads = new HashSet<>();
+      blankNodeQuads = new int[blankNodeCount][];
+      final int[] filled = new int[blankNodeCount];
+      for (int blankNode = 0; blankNode < blankNodeCount; blankNode++) {
+        blankNodeQuads[blankNode] = new int[quadCounts[blankNode]];
+      }
+      for (int i = 0; i < quads.size(); i++) {
+        if (!distinctQuads.add(List.of(subjects[i], predicates[i], objects[i], graphs[i]))) {
+          continue;
+        }
+        for (int term : new int[] {subjects[i], objects[i], graphs[i]}) {
+          final int blankNode = term == NONE ? NONE : blankNodeOfTerm[term];
+          // a blank node used twice in a quad gets the quad once
+          if (blankNode != NONE
+              && (filled[blankNode] == 0
+                  || blankNodeQuads[blankNode][filled[blankNode] - 1] != i)) {
+            blankNodeQuads[blankNode][filled[blankNode]++] = i;
+          }
+        }
+      }
+      for (int blankNode = 0; blankNode < blankNodeCount; blankNode++) {
+        blankNodeQuads[blankNode] = Arrays.copyOf(blankNodeQuads[blankNode], filled[blankNode]);
+      }
+
+      canonicalIds = new int[blankNodeCount];
+      Arrays.fill(canonicalIds, NONE);
+    }
+
+    private void computeFirstDegreeHashes() throws CanonicalizationLimitExceededException {
+      firstDegreeHashes = new String[blankNodeCount];
+      for (int blankNode = 0; blankNode < blankNodeCount; blankNode++) {
+        checkTimeout();
+        firstDegreeHashes[blankNode] = hashFirstDegreeQuads(blankNode);
+      }
+    }
+
+    private String hashFirstDegreeQuads(int blankNode) {
+      final int[] quadsOfBlankNode = blankNodeQuads[blankNode];
+      final String[] serialized = new String[quadsOfBlankNode.length];
+      for (int i = 0; i < quadsOfBlankNode.length; i++) {
+        final int quad = quadsOfBlankNode[i];
+        final StringBuilder builder = new StringBuilder();
+        appendFirstDegree(builder, subjects[quad], blankNode).append(' ');
+        builder.append(forms.get(predicates[quad])).append(' ');
+        appendFirstDegree(builder, objects[quad], blankNode).append(' ');
+        if (graphs[quad] != NONE) {
+          appendFirstDegree(builder, graphs[quad], blankNode).append(' ');
+        }
+        serialized[i] = builder.append(".\n").toString();
+      }
+      Arrays.sort(serialized);
+
+      digest.reset();
+      for (String quad : serialized) {
+        digest.update(quad.getBytes(StandardCharsets.UTF_8));
+      }
+      return HEX.formatHex(digest.digest());
+    }
+
+    private StringBuilder appendFirstDegree(StringBuilder builder, int term, int blankNode) {
+      final int termBlankNode = blankNodeOfTerm[term];
+      if (termBlankNode == NONE) {
+        return builder.append(forms.get(term));
+      }
+      return builder.append(termBlankNode == blankNode ? "_:a" : "_:z");
+    }
+
+    /** Issues canonical ids to the blank nodes with a unique first degree hash, in hash order. */
+    private void issueSimpleIds() {
+      final TreeMap<String, int[]> hashToBlankNodes = groupByFirstDegreeHash();
+      hashToBlankNodes.forEach(
+          (hash, blankNodes) -> {
+            if (blankNodes.length == 1) {
+              issueCanonicalId(blankNodes[0]);
+            }
+          });
+    }
+
+    private void issueNDegreeIds() throws TransformJsonLdException {
+      for (int[] blankNodes : groupByFirstDegreeHash().values()) {
+        if (blankNodes.length == 1) {
+          continue;
+        }
+        final List<Result> results = new ArrayList<>();
+        for (int blankNode : blankNodes) {
+          if (canonicalIds[blankNode] == NONE) {
+            final Issuer issuer = new Issuer();
+            issuer.getId(blankNode);
+            results.add(hashNDegreeQuads(blankNode, issuer));
+          }
+        }
+        results.sort(Comparator.comparing(result -> result.hash));
+        for (Result result : results) {
+          for (int blankNode : result.issuer.issuedBlankNodes()) {
+            if (canonicalIds[blankNode] == NONE) {
+              issueCanonicalId(blankNode);
+            }
+          }
+        }
+      }
+    }
+
+    private TreeMap<String, int[]> groupByFirstDegreeHash() {
+      final TreeMap<String, int[]> hashToBlankNodes = new TreeMap<>();
+      for (int blankNode = 0; blankNode < blankNodeCount; blankNode++) {
+        hashToBlankNodes.merge(
+            firstDegreeHashes[blankNode], new int[] {blankNode}, Canonicalization::concat);
+      }
+      return hashToBlankNodes;
+    }
+
+    private void issueCanonicalId(int blankNode) {
+      canonicalIds[blankNode] = canonicalLabels.size();
+      canonicalLabels.add(CANONICAL_PREFIX + canonicalLabels.size());
+    }
+
+    private Result hashNDegreeQuads(int blankNode, Issuer issuer) throws TransformJsonLdException {
+      if (++hashNDegreeCalls > limits.getMaxHashNDegreeCalls()) {
+        throw new CanonicalizationLimitExceededException(
+            "maxHashNDegreeCalls", limits.getMaxHashNDegreeCalls(), hashNDegreeCalls);
+      }
+      checkTimeout();
+      final TreeMap<String, int[]> hashToRelated = hashRelatedBlankNodes(blankNode, issuer);
+
+      if (depth == digests.size()) {
+        digests.add(newDigest());
+      }
+      final MessageDigest dataToHash = digests.get(depth++);
+      try {
+        dataToHash.reset();
+        Issuer chosenIssuer = issuer;
+        for (Map.Entry<String, int[]> entry : hashToRelated.entrySet()) {
+          dataToHash.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+
+          final Permutations permutations = new Permutations(entry.getValue());
+          StringBuilder chosenPath = null;
+          final Issuer entryIssuer = chosenIssuer;
+          while (permutations.hasNext()) {
+            if (++nDegreePermutations > limits.getMaxNDegreePermutations()) {
+              throw new CanonicalizationLimitExceededException(
+                  "maxNDegreePermutations",
+                  limits.getMaxNDegreePermutations(),
+                  nDegreePermutations);
+            }
+            checkTimeout();
+            final int[] permutation = permutations.next();
+            Issuer issuerCopy = entryIssuer.copy();
+            final StringBuilder path = new StringBuilder();
+            final int[] recursion = new int[permutation.length];
+            int recursionSize = 0;
+            boolean pruned = false;
+
+            for (int related : permutation) {
+              if (canonicalIds[related] != NONE) {
+                path.append(canonicalLabels.get(canonicalIds[related]));
+              } else {
+                if (!issuerCopy.hasId(related)) {
+                  recursion[recursionSize++] = related;
+                }
+                path.append(TEMPORARY_PREFIX).append(issuerCopy.getId(related));
+              }
+              if (chosenPath != null && CharSequence.compare(path, chosenPath) > 0) {
+                pruned = true;
+                break;
+              }
+            }
+
+            for (int i = 0; i < recursionSize && !pruned; i++) {
+              final int related = recursion[i];
+              final Result result = hashNDegreeQuads(related, issuerCopy);
+              path.append(TEMPORARY_PREFIX)
+                  .append(issuerCopy.getId(related))
+                  .append('<')
+                  .append(result.hash)
+                  .append('>');
+              issuerCopy = result.issuer;
+              pruned = chosenPath != null && CharSequence.compare(path, chosenPath) > 0;
+            }
+
+            if (!pruned && (chosenPath == null || CharSequence.compare(path, chosenPath) < 0)) {
+              chosenPath = path;
+              chosenIssuer = issuerCopy;
+            }
+          }
+
+          dataToHash.update(chosenPath.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return new Result(HEX.formatHex(dataToHash.digest()), chosenIssuer);
+      } finally {
+        depth--;
+      }
+    }
+
+    /**
+     * Groups the blank nodes related to the blank node by the hash of their relation, for each hash
+     * the related blank nodes are distinct.
+     */
+    private TreeMap<String, int[]> hashRelatedBlankNodes(int blankNode, Issuer issuer) {
+      final TreeMap<String, int[]> hashToRelated = new TreeMap<>();
+      for (int quad : blankNodeQuads[blankNode]) {
+        addRelated(hashToRelated, blankNode, quad, subjects[quad], (byte) 's', issuer);
+        addRelated(hashToRelated, blankNode, quad, objects[quad], (byte) 'o', issuer);
+        addRelated(hashToRelated, blankNode, quad, graphs[quad], (byte) 'g', issuer);
+      }
+      return hashToRelated;
+    }
+
+    private void addRelated(
+        TreeMap<String, int[]> hashToRelated,
+        int blankNode,
+        int quad,
+        int term,
+        byte position,
+        Issuer issuer) {
+      final int related = term == NONE ? NONE : blankNodeOfTerm[term];
+      if (related == NONE || related == blankNode) {
+        return;
+      }
+
+      final String id;
+      if (canonicalIds[related] != NONE) {
+        id = canonicalLabels.get(canonicalIds[related]);
+      } else if (issuer.hasId(related)) {
+        id = TEMPORARY_PREFIX + issuer.getId(related);
+      } else {
+        id = firstDegreeHashes[related];
+      }
+
+      digest.reset();
+      digest.update(position);
+      if (position != 'g') {
+        digest.update((byte) '<');
+        digest.update(values.get(predicates[quad]));
+        digest.update((byte) '>');
+      }
+      digest.update(id.getBytes(StandardCharsets.UTF_8));
+      final String hash = HEX.formatHex(digest.digest());
+
+      final int[] group = hashToRelated.get(hash);
+      if (group == null) {
+        hashToRelated.put(hash, new int[] {related});
+      } else if (Arrays.stream(group).noneMatch(member -> member == related)) {
+        hashToRelated.put(hash, concat(group, new int[] {related}));
+      }
+    }
+
+    /** Relabels the blank nodes and sorts the quads by their N-Quads form. */
+    private RdfDataset canonicalQuads() {
+      final String[] serialized = new String[quads.size()];
+      final RdfNQuad[] canonical = new RdfNQuad[quads.size()];
+      final Integer[] order = new Integer[quads.size()];
+      for (int i = 0; i < quads.size(); i++) {
+        final RdfNQuad quad = quads.get(i);
+        final StringBuilder builder = new StringBuilder();
+        appendCanonical(builder, subjects[i]).append(' ');
+        builder.append(forms.get(predicates[i])).append(' ');
+        appendCanonical(builder, objects[i]).append(' ');
+        if (graphs[i] != NONE) {
+          appendCanonical(builder, graphs[i]).append(' ');
+        }
+        serialized[i] = builder.append(".\n").toString();
+
+        final boolean relabelled =
+            isCanonical(subjects[i]) || isCanonical(objects[i]) || isCanonical(graphs[i]);
+        canonical[i] =
+            relabelled
+                ? Rdf.createNQuad(
+                    (RdfResource) canonicalTerm(subjects[i], quad.getSubject()),
+                    quad.getPredicate(),
+                    canonicalTerm(objects[i], quad.getObject()),
+                    graphs[i] == NONE
+                        ? null
+                        : (RdfResource) canonicalTerm(graphs[i], quad.getGraphName().get()))
+                : quad;
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparing(i -> serialized[i]));
+
+      final RdfDataset dataset = Rdf.createDataset();
+      for (int i : order) {
+        dataset.add(canonical[i]);
+      }
+      return dataset;
+    }
+
+    private boolean isCanonical(int term) {
+      return term != NONE && blankNodeOfTerm[term] != NONE;
+    }
+
+    private StringBuilder appendCanonical(StringBuilder builder, int term) {
+      return builder.append(
+          isCanonical(term)
+              ? canonicalLabels.get(canonicalIds[blankNodeOfTerm[term]])
+              : forms.get(term));
+    }
+
+    private RdfValue canonicalTerm(int term, RdfValue value) {
+      return isCanonical(term)
+          ? Rdf.createBlankNode(canonicalLabels.get(canonicalIds[blankNodeOfTerm[term]]))
+          : value;
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+      final int[] result = Arrays.copyOf(a, a.length + b.length);
+      System.arraycopy(b, 0, result, a.length, b.length);
+      return result;
+    }
+  }
+
+  /** The result of hashing the N-degree quads of a blank node. */
+  private static final class Result {
+
+    private final String hash;
+    private final Issuer issuer;
+
+    private Result(String hash, Issuer issuer) {
+      this.hash = hash;
+      this.issuer = issuer;
+    }
+  }
+
+  /**
+   * Issues temporary identifiers to blank nodes, in an open addressing table keyed by the blank
+   * node. The identifier of a blank node is its position in the issue order.
+   */
+  private static final class Issuer {
+
+    private int[] issued;
+    private int[] keys;
+    private int count;
+
+    private Issuer() {
+      issued = new int[4];
+      keys = new int[8];
+      Arrays.fill(keys, NONE);
+    }
+
+    private Issuer(Issuer other) {
+      issued = other.issued.clone();
+      keys = other.keys.clone();
+      count = other.count;
+    }
+
+    private Issuer copy() {
+      return new Issuer(this);
+    }
+
+    private boolean hasId(int blankNode) {
+      return issued(blankNode) != NONE;
+    }
+
+    /** Gets the identifier of the blank node, issuing the next one if it has none. */
+    private int getId(int blankNode) {
+      final int id = issued(blankNode);
+      if (id != NONE) {
+        return id;
+      }
+      if (count == issued.length) {
+        issued = Arrays.copyOf(issued, count * 2);
+        rehash(keys.length * 2);
+      }
+      issued[count] = blankNode;
+      insert(count);
+      return count++;
+    }
+
+    private int[] issuedBlankNodes() {
+      return Arrays.copyOf(issued, count);
+    }
+
+    private int issued(int blankNode) {
+      final int mask = keys.length - 1;
+      for (int slot = blankNode & mask; keys[slot] != NONE; slot = (slot + 1) & mask) {
+        if (issued[keys[slot]] == blankNode) {
+          return keys[slot];
+        }
+      }
+      return NONE;
+    }
+
+    private void insert(int id) {
+      final int mask = keys.length - 1;
+      int slot = issued[id] & mask;
+      while (keys[slot] != NONE) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = id;
+    }
+
+    private void rehash(int capacity) {
+      keys = new int[capacity];
+      Arrays.fill(keys, NONE);
+      for (int id = 0; id < count; id++) {
+        insert(id);
+      }
+    }
+  }
+
+  /** Iterates over all permutations of the related blank nodes, using Heap's algorithm. */
+  private static final class Permutations {
+
+    private final int[] array;
+    private final int[] counters;
+    private boolean hasNext = true;
+    private int state;
+
+    private Permutations(int[] array) {
+      this.array = array.clone();
+      this.counters = new int[array.length];
+    }
+
+    private boolean hasNext() {
+      return hasNext;
+    }
+
+    private int[] next() {
+      final int[] permutation = array.clone();
+      while (state < array.length) {
+        if (counters[state] < state) {
+          swap((state & 1) == 0 ? 0 : counters[state], state);
+          counters[state]++;
+          state = 0;
+          return permutation;
+        }
+        counters[state] = 0;
+        state++;
+      }
+      hasNext = false;
+      return permutation;
+    }
+
+    private void swap(int i, int j) {
+      final int tmp = array[i];
+      array[i] = array[j];
+      array[j] = tmp;
+    }
+  }
+
+  private static long toNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static MessageDigest newDigest() throws TransformJsonLdException {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new TransformJsonLdException(e.getMessage());
+    }
+  }
+
+  /** Gets the N-Quads form of the term, like the reference implementation writes it. */
+  private static String form(RdfValue value) {
+    if (value.isIRI()) {
+      return "<" + value + ">";
+    }
+    if (value.isLiteral()) {
+      final RdfLiteral literal = value.asLiteral();
+      final StringBuilder builder = new StringBuilder().append('"');
+      literal
+          .getValue()
+          .codePoints()
+          .forEach(
+              codePoint -> {
+                switch (codePoint) {
+                  case '\n' -> builder.append("\\n");
+                  case '\r' -> builder.append("\\r");
+                  case '"' -> builder.append("\\\"");
+                  case '\\' -> builder.append("\\\\");
+                  default -> builder.appendCodePoint(codePoint);
+                }
+              });
+      builder.append('"');
+      if (literal.getLanguage().isPresent()) {
+        builder.append('@').append(literal.getLanguage().get());
+      } else if (literal.getDatatype() != null && !XSD_STRING.equals(literal.getDatatype())) {
+        builder.append("^^<").append(literal.getDatatype()).append('>');
+      }
+      return builder.toString();
+    }
+    return value.toString();
+  }
+}
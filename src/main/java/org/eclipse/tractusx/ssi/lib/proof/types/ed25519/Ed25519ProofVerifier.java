@@ -21,7 +21,7 @@
 
 package org.eclipse.tractusx.ssi.lib.proof.types.ed25519;
 
-import java.io.IOException;
+import com.nimbusds.jose.jwk.OctetKeyPair;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -38,9 +38,9 @@ import org.eclipse.tractusx.ssi.lib.exception.proof.NoVerificationKeyFoundExcept
 import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
 import org.eclipse.tractusx.ssi.lib.model.MultibaseString;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
-import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
 import org.eclipse.tractusx.ssi.lib.model.did.Ed25519VerificationMethod;
+import org.eclipse.tractusx.ssi.lib.model.did.IndexedDidDocument;
 import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
 import org.eclipse.tractusx.ssi.lib.model.proof.ed25519.Ed25519Signature2020;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
@@ -85,30 +85,34 @@ public class Ed25519ProofVerifier implements IVerifier {
 
     final Did issuer = DidParser.parse(signature.getVerificationMethod());
 
-    final DidDocument document =
+    final IndexedDidDocument document =
         this.didResolver
             .resolve(issuer)
-            .orElseThrow(() -> new IllegalStateException("document could not be resolved"));
+            .orElseThrow(() -> new IllegalStateException("document could not be resolved"))
+            .getIndex();
 
     final URI verificationMethodId = signature.getVerificationMethod();
 
     final Ed25519VerificationMethod key =
-        document.getVerificationMethods().stream()
-            .filter(v -> v.getId().equals(verificationMethodId))
-            .filter(Ed25519VerificationMethod::isInstance)
-            .map(Ed25519VerificationMethod::new)
-            .findFirst()
+        document
+            .getVerificationMethod(verificationMethodId, Ed25519VerificationMethod.class)
             .orElseThrow(
                 () ->
                     new NoVerificationKeyFoundException(
                         "No Ed25519 verification key found in DID Document"));
 
-    IPublicKey publicKey;
-    try {
-      publicKey = new X25519PublicKey(key.getPublicKeyBase58().getEncoded(), false);
-    } catch (IOException e) {
-      throw new InvalidPublicKeyFormatException(e.getCause());
-    }
+    // the index holds the key already decoded from its multibase representation
+    final OctetKeyPair publicKeyJwk =
+        (OctetKeyPair)
+            document
+                .getPublicKey(key)
+                .orElseThrow(
+                    () ->
+                        new InvalidPublicKeyFormatException(
+                            String.format(
+                                "Invalid Ed25519 public key of %s", verificationMethodId)));
+
+    final IPublicKey publicKey = new X25519PublicKey(publicKeyJwk.getX().decode());
 
     return publicKey;
   }
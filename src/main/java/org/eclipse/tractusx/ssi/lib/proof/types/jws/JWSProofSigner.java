@@ -20,17 +20,11 @@
 
 package org.eclipse.tractusx.ssi.lib.proof.types.jws;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSObject;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.Payload;
 import org.eclipse.tractusx.ssi.lib.crypt.IPrivateKey;
-import org.eclipse.tractusx.ssi.lib.crypt.util.SignerUtil;
 import org.eclipse.tractusx.ssi.lib.exception.key.InvalidPrivateKeyFormatException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureGenerateFailedException;
 import org.eclipse.tractusx.ssi.lib.proof.ISigner;
+import org.eclipse.tractusx.ssi.lib.proof.PreparedSigner;
 import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
 import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
 
@@ -50,24 +44,11 @@ public class JWSProofSigner implements ISigner {
   @Override
   public byte[] sign(HashedLinkedData hashedLinkedData, IPrivateKey privateKey)
       throws InvalidPrivateKeyFormatException, SignatureGenerateFailedException {
-
-    JWSSigner signer;
-    try {
-      signer = SignerUtil.getSigner(signatureType, privateKey);
-    } catch (JOSEException e) {
-      throw new InvalidPrivateKeyFormatException(e.getMessage());
-    }
-
-    var header = new JWSHeader.Builder(new JWSAlgorithm(signatureType.getAlgorithm())).build();
-    Payload payload = new Payload(hashedLinkedData.getValue());
-    JWSObject jwsObject = new JWSObject(header, payload);
-
-    try {
-      jwsObject.sign(signer);
-    } catch (JOSEException e) {
-      throw new SignatureGenerateFailedException(e.getMessage());
+    if (signatureType == SignatureType.ED25519) {
+      throw new IllegalArgumentException(
+          String.format("algorithm %s is not supported", signatureType.getAlgorithm()));
     }
 
-    return jwsObject.serialize(true).getBytes();
+    return PreparedSigner.newInstance(privateKey, signatureType).sign(hashedLinkedData);
   }
 }
@@ -26,10 +26,7 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
-import com.nimbusds.jose.crypto.ECDSAVerifier;
 import com.nimbusds.jose.crypto.Ed25519Verifier;
-import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
-import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
 import com.nimbusds.jose.crypto.impl.ECDSAProvider;
 import com.nimbusds.jose.crypto.impl.EdDSAProvider;
 import com.nimbusds.jose.crypto.impl.RSASSAProvider;
@@ -38,16 +35,14 @@ import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.OctetKeyPair;
 import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.proc.JWSVerifierFactory;
 import com.nimbusds.jose.util.Base64URL;
 import java.net.URI;
 import java.text.ParseException;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.crypt.IPublicKey;
+import org.eclipse.tractusx.ssi.lib.crypt.util.JWSVerifierCache;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
@@ -57,8 +52,8 @@ import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureParseException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.SignatureVerificationFailedException;
 import org.eclipse.tractusx.ssi.lib.exception.proof.UnsupportedSignatureTypeException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
-import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
+import org.eclipse.tractusx.ssi.lib.model.did.IndexedDidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod;
 import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
 import org.eclipse.tractusx.ssi.lib.model.proof.jws.JWSSignature2020;
@@ -119,7 +114,10 @@ public class JWSProofVerifier implements IVerifier {
 
     JWK jwk = getJWK(jws.getHeader(), jwsSignature2020);
     try {
-      JWSVerifier verifier = getVerifier(jws.getHeader(), jwk);
+      JWSVerifier verifier =
+          JWSVerifierCache.getInstance()
+              .getVerifier(
+                  jwsSignature2020.getVerificationMethod(), jws.getHeader().getAlgorithm(), jwk);
       return jws.verify(verifier);
     } catch (JOSEException e) {
       throw new InvalidPublicKeyFormatException(e.getMessage());
@@ -149,28 +147,6 @@ public class JWSProofVerifier implements IVerifier {
     return new OctetKeyPair.Builder(Curve.Ed25519, x).build();
   }
 
-  private JWSVerifier getVerifier(JWSHeader header, JWK jwk) throws JOSEException {
-    if (EdDSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-      return new Ed25519Verifier((OctetKeyPair) jwk);
-    } else {
-      JWSVerifierFactory verifierFactory = new DefaultJWSVerifierFactory();
-      if (RSASSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-        return verifierFactory.createJWSVerifier(header, ((RSAKey) jwk).toRSAPublicKey());
-      }
-      if (ECDSAProvider.SUPPORTED_ALGORITHMS.contains(header.getAlgorithm())) {
-        ECDSAVerifier verifier =
-            (ECDSAVerifier)
-                verifierFactory.createJWSVerifier(header, ((ECKey) jwk).toECPublicKey());
-        // this is necessary because of issue:
-        // https://bitbucket.org/connect2id/nimbus-jose-jwt/issues/458/comnimbusdsjosejoseexception-curve-not
-        verifier.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
-        return verifier;
-      }
-    }
-    throw new IllegalArgumentException(
-        String.format(ALGORITHM_IS_NOT_SUPPORTED, header.getAlgorithm().getName()));
-  }
-
   private RSAKey discoverRSAKey(JWSSignature2020 signature)
       throws NoVerificationKeyFoundException, DidParseException, DidResolverException {
     JWKVerificationMethod key = discoverKey(signature);
@@ -187,67 +163,40 @@ public class JWSProofVerifier implements IVerifier {
       throws NoVerificationKeyFoundException, DidParseException, DidResolverException {
     final Did issuer = DidParser.parse(signature.getVerificationMethod());
 
-    final DidDocument document =
+    final IndexedDidDocument document =
         this.didResolver
             .resolve(issuer)
-            .orElseThrow(() -> new IllegalStateException("diddocument culd not be resolved"));
+            .orElseThrow(() -> new IllegalStateException("diddocument culd not be resolved"))
+            .getIndex();
 
     final URI verificationMethodId = signature.getVerificationMethod();
-    List<Object> verificationRelationShip =
-        (List<Object>) document.get(signature.getProofPurpose());
-
-    if (verificationRelationShip != null) {
-      var verificationRelationShipValid =
-          validateVerificationRelationShip(verificationRelationShip, verificationMethodId);
+    final String proofPurpose = signature.getProofPurpose();
 
-      if (!verificationRelationShipValid.valid) {
+    // check if verificationMethodId is in verificationRelationship(proofPurpose) and use the
+    // embedded verificationMethod if it is embedded
+    if (document.hasVerificationRelationship(proofPurpose)) {
+      if (!document.isInVerificationRelationship(proofPurpose, verificationMethodId)) {
         throw new IllegalStateException("verification relation ship is not valid");
       }
 
-      if (Optional.ofNullable(verificationRelationShipValid.verificationMethod).isPresent()) {
-        return verificationRelationShipValid.verificationMethod;
+      Optional<JWKVerificationMethod> verificationMethod =
+          document
+              .getVerificationMethod(proofPurpose, verificationMethodId)
+              .filter(JWKVerificationMethod.class::isInstance)
+              .map(JWKVerificationMethod.class::cast);
+      if (verificationMethod.isPresent()) {
+        return verificationMethod.get();
       }
     }
 
-    // document and loop
-    return document.getVerificationMethods().stream()
-        .filter(v -> v.getId().equals(verificationMethodId))
-        .filter(JWKVerificationMethod::isInstance)
-        .map(JWKVerificationMethod::new)
-        .findFirst()
+    return document
+        .getVerificationMethod(verificationMethodId, JWKVerificationMethod.class)
         .orElseThrow(
             () ->
                 new NoVerificationKeyFoundException(
                     "No JWS verification Key found in DID Document"));
   }
 
-  // check if verificationMethodId is in verificationRelationship(proofPurpose) and return embedded
-  // verificationMethod if is embedded
-  private VerificationRelationShipResult validateVerificationRelationShip(
-      List<Object> verificationRelationShip, URI verificationMethodId) {
-    for (Object o : verificationRelationShip) {
-      if (o instanceof URI relationShip) {
-        if (relationShip.equals(verificationMethodId)) {
-          return new VerificationRelationShipResult(true);
-        }
-      } else if (o instanceof String string) {
-        URI relationShip = URI.create(string);
-        if (relationShip.equals(verificationMethodId)) {
-          return new VerificationRelationShipResult(true);
-        }
-      } else if (o instanceof Map) {
-        // embedded relationship, only usable by proofPurpose == relationShip
-        Map<String, Object> mapRelationShip = (Map<String, Object>) o;
-        URI relationShip = (URI) mapRelationShip.get("id");
-        if (relationShip.equals(verificationMethodId)) {
-          return new VerificationRelationShipResult(
-              true, new JWKVerificationMethod(mapRelationShip));
-        }
-      }
-    }
-    return new VerificationRelationShipResult(false);
-  }
-
   public boolean verify(HashedLinkedData hashedLinkedData, byte[] signature, IPublicKey publicKey)
       throws SignatureParseException,
           SignatureVerificationFailedException,
@@ -275,20 +224,4 @@ public class JWSProofVerifier implements IVerifier {
       throw new SignatureVerificationFailedException(e.getMessage());
     }
   }
-
-  private static class VerificationRelationShipResult {
-
-    final boolean valid;
-
-    JWKVerificationMethod verificationMethod;
-
-    public VerificationRelationShipResult(boolean valid) {
-      this.valid = valid;
-    }
-
-    public VerificationRelationShipResult(boolean valid, JWKVerificationMethod verificationMethod) {
-      this.valid = valid;
-      this.verificationMethod = verificationMethod;
-    }
-  }
 }
@@ -0,0 +1,115 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.tractusx.ssi.lib.model.JsonLdObject;
+
+/**
+ * Deserializes a {@link JsonLdObject} straight from the JSON tokens into the map of the typed
+ * object, without building a generic map or string first. Members with a typed deserializer, e.g.
+ * the credentials of a presentation, are deserialized into their typed objects in the same pass, so
+ * they are validated once and reused by the getters of the enclosing object.
+ *
+ * @param <T> the type of the JSON-LD object
+ */
+public class JsonLdObjectDeserializer<T extends JsonLdObject> extends StdDeserializer<T> {
+
+  private final transient Function<Map<String, Object>, T> factory;
+  private final transient Map<String, JsonDeserializer<?>> members;
+
+  /**
+   * Instantiates a new Json ld object deserializer.
+   *
+   * @param type the type of the JSON-LD object
+   * @param factory the typed constructor, validating the map
+   */
+  public JsonLdObjectDeserializer(Class<T> type, Function<Map<String, Object>, T> factory) {
+    this(type, factory, Map.of());
+  }
+
+  /**
+   * Instantiates a new Json ld object deserializer.
+   *
+   * @param type the type of the JSON-LD object
+   * @param factory the typed constructor, validating the map
+   * @param members the deserializers of the top level members holding an object or an array of
+   *     objects
+   */
+  public JsonLdObjectDeserializer(
+      Class<T> type,
+      Function<Map<String, Object>, T> factory,
+      Map<String, JsonDeserializer<?>> members) {
+    super(type);
+    this.factory = factory;
+    this.members = Map.copyOf(members);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartObjectToken()) {
+      return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    final Map<String, Object> json = new LinkedHashMap<>();
+    for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+      p.nextToken();
+      final JsonDeserializer<?> member = members.get(name);
+      json.put(name, member == null ? readUntyped(p, ctxt) : readMember(member, p, ctxt));
+    }
+
+    return factory.apply(json);
+  }
+
+  private static Object readMember(
+      JsonDeserializer<?> member, JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.currentToken() == JsonToken.START_OBJECT) {
+      return member.deserialize(p, ctxt);
+    }
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      return readUntyped(p, ctxt);
+    }
+
+    final List<Object> values = new ArrayList<>();
+    for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+      values.add(
+          token == JsonToken.START_OBJECT ? member.deserialize(p, ctxt) : readUntyped(p, ctxt));
+    }
+    return values;
+  }
+
+  private static Object readUntyped(JsonParser p, DeserializationContext ctxt) throws IOException {
+    // same representation as deserializing into a Map, i.e. LinkedHashMap and ArrayList
+    return ctxt.readValue(p, Object.class);
+  }
+}
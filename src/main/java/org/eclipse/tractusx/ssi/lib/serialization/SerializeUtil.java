@@ -23,7 +23,16 @@ package org.eclipse.tractusx.ssi.lib.serialization;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,8 +52,25 @@ public final class SerializeUtil {
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+  /** Looked up once, as {@code Json.create*} looks up the provider on every call. */
+  private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+
   static {
     OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    final JsonLdObjectDeserializer<VerifiableCredential> credentialDeserializer =
+        new JsonLdObjectDeserializer<>(VerifiableCredential.class, VerifiableCredential::new);
+    final SimpleModule module = new SimpleModule();
+    module.addDeserializer(VerifiableCredential.class, credentialDeserializer);
+    module.addDeserializer(
+        VerifiablePresentation.class,
+        new JsonLdObjectDeserializer<>(
+            VerifiablePresentation.class,
+            VerifiablePresentation::new,
+            Map.of(VerifiablePresentation.VERIFIABLE_CREDENTIAL, credentialDeserializer)));
+    module.addDeserializer(
+        DidDocument.class, new JsonLdObjectDeserializer<>(DidDocument.class, DidDocument::new));
+    OBJECT_MAPPER.registerModule(module);
   }
 
   /**
@@ -124,6 +150,103 @@ public final class SerializeUtil {
     return OBJECT_MAPPER.readValue(json, Map.class);
   }
 
+  /**
+   * From json to a typed object. Verifiable credentials, verifiable presentations and DID documents
+   * are deserialized by a {@link JsonLdObjectDeserializer}.
+   *
+   * @param json the json
+   * @param type the type
+   * @param <T> the type
+   * @return the typed object
+   */
+  @SneakyThrows
+  public static <T> T fromJson(String json, Class<T> type) {
+    return OBJECT_MAPPER.readValue(json, type);
+  }
+
+  /**
+   * From UTF-8 encoded json to a typed object, see {@link #fromJson(String, Class)}.
+   *
+   * @param json the json
+   * @param type the type
+   * @param <T> the type
+   * @return the typed object
+   */
+  @SneakyThrows
+  public static <T> T fromJson(byte[] json, Class<T> type) {
+    return OBJECT_MAPPER.readValue(json, type);
+  }
+
+  /**
+   * From json to a typed object, see {@link #fromJson(String, Class)}. The stream is read until the
+   * end of the JSON value and closed.
+   *
+   * @param json the json
+   * @param type the type
+   * @param <T> the type
+   * @return the typed object
+   */
+  @SneakyThrows
+  public static <T> T fromJson(InputStream json, Class<T> type) {
+    return OBJECT_MAPPER.readValue(json, type);
+  }
+
+  /**
+   * To Jakarta JSON object. Supports the same value types as {@code Json.createObjectBuilder(Map)},
+   * i.e. strings, numbers, booleans, null, maps, collections, object arrays and JSON values. The
+   * map must not be modified concurrently.
+   *
+   * @param map the map
+   * @return the json object
+   */
+  public static JsonObject toJsonObject(Map<String, Object> map) {
+    return toJsonObjectBuilder(map).build();
+  }
+
+  private static JsonObjectBuilder toJsonObjectBuilder(Map<?, ?> map) {
+    final JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      builder.add((String) entry.getKey(), toJsonValue(entry.getValue()));
+    }
+    return builder;
+  }
+
+  private static JsonArrayBuilder toJsonArrayBuilder(Collection<?> collection) {
+    final JsonArrayBuilder builder = JSON_PROVIDER.createArrayBuilder();
+    for (Object value : collection) {
+      builder.add(toJsonValue(value));
+    }
+    return builder;
+  }
+
+  private static JsonValue toJsonValue(Object value) {
+    if (value == null) {
+      return JsonValue.NULL;
+    }
+    if (value instanceof JsonValue jsonValue) {
+      return jsonValue;
+    }
+    if (value instanceof String string) {
+      return JSON_PROVIDER.createValue(string);
+    }
+    if (value instanceof Boolean bool) {
+      return bool ? JsonValue.TRUE : JsonValue.FALSE;
+    }
+    if (value instanceof Number number) {
+      return JSON_PROVIDER.createValue(number);
+    }
+    if (value instanceof Map<?, ?> map) {
+      return toJsonObjectBuilder(map).build();
+    }
+    if (value instanceof Collection<?> collection) {
+      return toJsonArrayBuilder(collection).build();
+    }
+    if (value instanceof Object[] array) {
+      return toJsonArrayBuilder(Arrays.asList(array)).build();
+    }
+    throw new IllegalArgumentException("Unsupported type: " + value.getClass());
+  }
+
   /**
    * Sometimes SSI uri is serialized as string, sometimes as URI. If it starts with 'http://' it is
    * handled as URI, if it starts with 'did:method' it is handled as string.
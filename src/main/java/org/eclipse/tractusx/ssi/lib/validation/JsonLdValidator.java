@@ -21,10 +21,27 @@
 
 package org.eclipse.tractusx.ssi.lib.validation;
 
+import jakarta.json.JsonArray;
 import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
 
 public interface JsonLdValidator {
 
+  /** The vocabulary undefined terms are expanded with, so that they can be detected. */
+  String UNDEFINED_TERM_URI = "urn:UNDEFINEDTERM";
+
   void validate(Verifiable verifiable) throws InvalidJsonLdException;
+
+  /**
+   * Validates a verifiable that was already expanded with {@link #UNDEFINED_TERM_URI} as <code>
+   * @vocab</code> of the expand context. By default, the verifiable is validated again from
+   * scratch.
+   *
+   * @param verifiable the verifiable
+   * @param expanded the expanded form of the verifiable
+   * @throws InvalidJsonLdException the invalid json ld exception
+   */
+  default void validate(Verifiable verifiable, JsonArray expanded) throws InvalidJsonLdException {
+    validate(verifiable);
+  }
 }
@@ -23,9 +23,7 @@ package org.eclipse.tractusx.ssi.lib.validation;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
-import com.apicatalog.jsonld.document.JsonDocument;
-import com.apicatalog.jsonld.http.media.MediaType;
-import com.apicatalog.jsonld.processor.ExpansionProcessor;
+import com.apicatalog.jsonld.loader.DocumentLoader;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
@@ -33,6 +31,7 @@ import jakarta.json.JsonValue;
 import java.util.Map;
 import java.util.logging.Logger;
 import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
 import org.eclipse.tractusx.ssi.lib.model.JsonLdObject;
 import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
@@ -42,7 +41,40 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePres
 /** The type Json ld validator. */
 public class JsonLdValidatorImpl implements JsonLdValidator {
   static final Logger LOG = Logger.getLogger(JsonLdValidatorImpl.class.getName());
-  private static final String UNDEFINED_TERM_URI = "urn:UNDEFINEDTERM";
+
+  private static final JsonObject UNDEFINED_TERM_EXPAND_CONTEXT =
+      Json.createObjectBuilder().add("@vocab", Json.createValue(UNDEFINED_TERM_URI)).build();
+
+  private final ActiveContextCache contextCache;
+
+  private final DocumentLoader documentLoader;
+
+  /** Instantiates a new Json ld validator using the shared {@link ActiveContextCache}. */
+  public JsonLdValidatorImpl() {
+    this(ActiveContextCache.getInstance());
+  }
+
+  /**
+   * Instantiates a new Json ld validator, loading documents with the shared {@link
+   * RemoteDocumentLoader}.
+   *
+   * @param contextCache the context cache
+   */
+  public JsonLdValidatorImpl(ActiveContextCache contextCache) {
+    this(contextCache, RemoteDocumentLoader.getInstance());
+  }
+
+  /**
+   * Instantiates a new Json ld validator.
+   *
+   * @param contextCache the context cache
+   * @param documentLoader the document loader, e.g. a {@link
+   *     org.eclipse.tractusx.ssi.lib.model.ConfiguredDocumentLoader}
+   */
+  public JsonLdValidatorImpl(ActiveContextCache contextCache, DocumentLoader documentLoader) {
+    this.contextCache = contextCache;
+    this.documentLoader = documentLoader;
+  }
 
   private static void findUndefinedTerms(JsonArray jsonArray) throws InvalidJsonLdException {
     for (JsonValue entry : jsonArray) {
@@ -70,32 +102,49 @@ public class JsonLdValidatorImpl implements JsonLdValidator {
   }
 
   private void validateJsonLd(JsonLdObject jsonLdObject) throws InvalidJsonLdException {
+    final JsonObject document = jsonLdObject.toJsonObject();
     try {
-
-      var documentLoader = RemoteDocumentLoader.getInstance();
-      documentLoader.setEnableHttps(true);
-      documentLoader.setHttpsContexts(jsonLdObject.getContext());
-      documentLoader.setEnableFile(true);
-
-      final JsonObject expandContext =
-          Json.createObjectBuilder().add("@vocab", Json.createValue(UNDEFINED_TERM_URI)).build();
-
-      final JsonDocument jsonDocument =
-          JsonDocument.of(MediaType.JSON_LD, jsonLdObject.toJsonObject());
-
       final JsonLdOptions jsonLdOptions = new JsonLdOptions();
       jsonLdOptions.setDocumentLoader(documentLoader);
-      jsonLdOptions.setExpandContext(expandContext);
+      jsonLdOptions.setExpandContext(UNDEFINED_TERM_EXPAND_CONTEXT);
 
-      final JsonArray jsonArray = ExpansionProcessor.expand(jsonDocument, jsonLdOptions, false);
+      final JsonArray jsonArray = contextCache.expand(document, jsonLdOptions);
       JsonObject jsonObject = jsonArray.getJsonObject(0);
 
       findUndefinedTerms(jsonObject);
     } catch (JsonLdError ex) {
+      throw new InvalidJsonLdException(
+          String.format("Json LD validation failed for json: %s", document.toString()), ex);
+    }
+  }
+
+  /**
+   * Validates the expanded form of a verifiable. For a verifiable presentation only the embedded
+   * credentials are checked, the same as {@link #validate(Verifiable)} does. As the presentation
+   * was expanded with its own context, which would also define terms of the credentials, each
+   * credential is expanded and validated with its own context instead of using the expanded form.
+   *
+   * @param verifiable the verifiable
+   * @param expanded the expanded form of the verifiable
+   * @throws InvalidJsonLdException the invalid json ld exception
+   */
+  @Override
+  public void validate(Verifiable verifiable, JsonArray expanded) throws InvalidJsonLdException {
+    if (expanded.isEmpty() || !(expanded.get(0) instanceof JsonObject jsonObject)) {
       throw new InvalidJsonLdException(
           String.format(
-              "Json LD validation failed for json: %s", jsonLdObject.toJsonObject().toString()),
-          ex);
+              "Json LD validation failed for json: %s", verifiable.toJsonObject().toString()));
+    }
+
+    if (verifiable instanceof VerifiableCredential) {
+      findUndefinedTerms(jsonObject);
+    } else if (verifiable instanceof VerifiablePresentation) {
+      validate(verifiable);
+    } else {
+      LOG.warning("Unsupported Verifiable type: " + verifiable.getClass().getName());
+      throw new InvalidJsonLdException(
+          String.format(
+              "Verifiable type %s is not supported", verifiable.getClass().getSimpleName()));
     }
   }
 
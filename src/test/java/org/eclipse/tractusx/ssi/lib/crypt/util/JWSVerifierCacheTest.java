@@ -0,0 +1,101 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.crypt.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import java.net.URI;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class JWSVerifierCacheTest {
+
+  private static final URI KEY_ID = URI.create("did:example:123#key-1");
+
+  private final JWSVerifierCache cache = new JWSVerifierCache(10);
+
+  @Test
+  @SneakyThrows
+  void shouldReuseVerifier() {
+    final OctetKeyPair key = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+
+    final JWSVerifier verifier = cache.getVerifier(KEY_ID, JWSAlgorithm.EdDSA, key.toPublicJWK());
+
+    assertSame(verifier, cache.getVerifier(KEY_ID, JWSAlgorithm.EdDSA, key.toPublicJWK()));
+    assertTrue(sign(new Ed25519Signer(key), JWSAlgorithm.EdDSA).verify(verifier));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCreateNewVerifierForRotatedKey() {
+    final OctetKeyPair key = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+    final OctetKeyPair rotatedKey = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+
+    final JWSVerifier verifier = cache.getVerifier(KEY_ID, JWSAlgorithm.EdDSA, key.toPublicJWK());
+
+    assertNotSame(
+        verifier, cache.getVerifier(KEY_ID, JWSAlgorithm.EdDSA, rotatedKey.toPublicJWK()));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCreateEcVerifier() {
+    final ECKey key = new ECKeyGenerator(Curve.P_256).generate();
+
+    final JWSVerifier verifier = cache.getVerifier(KEY_ID, JWSAlgorithm.ES256, key.toPublicJWK());
+
+    assertTrue(sign(new ECDSASigner(key), JWSAlgorithm.ES256).verify(verifier));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowForUnsupportedAlgorithm() {
+    final OctetKeyPair key = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> cache.getVerifier(KEY_ID, JWSAlgorithm.HS256, key.toPublicJWK()));
+  }
+
+  @SneakyThrows
+  private static JWSObject sign(JWSSigner signer, JWSAlgorithm algorithm) {
+    final JWSObject jws = new JWSObject(new JWSHeader(algorithm), new Payload("test"));
+    jws.sign(signer);
+    return jws;
+  }
+}
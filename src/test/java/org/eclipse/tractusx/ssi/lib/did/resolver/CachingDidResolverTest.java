@@ -0,0 +1,229 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.did.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidMethod;
+import org.eclipse.tractusx.ssi.lib.model.did.DidMethodIdentifier;
+import org.eclipse.tractusx.ssi.lib.util.TestResourceUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** The type Caching did resolver test. */
+@ExtendWith(MockitoExtension.class)
+class CachingDidResolverTest {
+
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  private DidResolver didResolver;
+
+  private static final DidDocument RESOLVED_DID_DOC =
+      new DidDocument(TestResourceUtil.getPublishedDidDocument());
+
+  private static final Did DID =
+      new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+
+  /** Should cache resolved documents, ignoring the fragment. */
+  @Test
+  @SneakyThrows
+  void shouldCacheDocument() {
+    when(didResolver.resolve(any())).thenReturn(Optional.of(RESOLVED_DID_DOC));
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    assertEquals(Optional.of(RESOLVED_DID_DOC), resolver.resolve(DID));
+    assertEquals(
+        Optional.of(RESOLVED_DID_DOC),
+        resolver.resolve(
+            new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), "key-1")));
+
+    verify(didResolver, times(1)).resolve(any());
+  }
+
+  /** Should resolve again after invalidation. */
+  @Test
+  @SneakyThrows
+  void shouldResolveAgainAfterInvalidation() {
+    when(didResolver.resolve(any())).thenReturn(Optional.of(RESOLVED_DID_DOC));
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    resolver.resolve(DID);
+    resolver.invalidate(DID);
+    resolver.resolve(DID);
+
+    verify(didResolver, times(2)).resolve(any());
+  }
+
+  /** Should cache failures. */
+  @Test
+  @SneakyThrows
+  void shouldCacheFailure() {
+    final DidResolverException exception = new DidResolverException("test");
+    when(didResolver.resolve(any())).thenThrow(exception);
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    assertSame(exception, assertThrows(DidResolverException.class, () -> resolver.resolve(DID)));
+    assertSame(exception, assertThrows(DidResolverException.class, () -> resolver.resolve(DID)));
+
+    verify(didResolver, times(1)).resolve(any());
+  }
+
+  /** Should not cache failures without negative time to live. */
+  @Test
+  @SneakyThrows
+  void shouldNotCacheFailureWithoutNegativeTimeToLive() {
+    when(didResolver.resolve(any())).thenReturn(Optional.empty());
+    final CachingDidResolver resolver =
+        new CachingDidResolver(
+            didResolver,
+            CachingDidResolver.DEFAULT_TIME_TO_LIVE,
+            Duration.ZERO,
+            CachingDidResolver.DEFAULT_MAXIMUM_SIZE);
+
+    assertEquals(Optional.empty(), resolver.resolve(DID));
+    assertEquals(Optional.empty(), resolver.resolve(DID));
+
+    verify(didResolver, times(2)).resolve(any());
+  }
+
+  /** Should resolve only once for concurrent callers. */
+  @Test
+  @SneakyThrows
+  void shouldResolveOnceForConcurrentCallers() {
+    final CountDownLatch resolving = new CountDownLatch(1);
+    when(didResolver.resolve(any()))
+        .thenAnswer(
+            invocation -> {
+              resolving.await(5, TimeUnit.SECONDS);
+              return Optional.of(RESOLVED_DID_DOC);
+            });
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<CompletableFuture<Optional<DidDocument>>> documents = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        documents.add(CompletableFuture.supplyAsync(() -> resolve(resolver), executor));
+      }
+      resolving.countDown();
+
+      for (CompletableFuture<Optional<DidDocument>> document : documents) {
+        assertEquals(Optional.of(RESOLVED_DID_DOC), document.get(5, TimeUnit.SECONDS));
+      }
+      verify(didResolver, times(1)).resolve(any());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Should cache documents resolved asynchronously. */
+  @Test
+  @SneakyThrows
+  void shouldCacheAsyncResolution() {
+    doReturn(CompletableFuture.completedFuture(Optional.of(RESOLVED_DID_DOC)))
+        .when(didResolver)
+        .resolveAsync(any());
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    assertEquals(Optional.of(RESOLVED_DID_DOC), resolver.resolveAsync(DID).get());
+    assertEquals(Optional.of(RESOLVED_DID_DOC), resolver.resolve(DID));
+
+    verify(didResolver, times(1)).resolveAsync(any());
+  }
+
+  /** Should cache asynchronous failures. */
+  @Test
+  @SneakyThrows
+  void shouldCacheAsyncFailure() {
+    final DidResolverException exception = new DidResolverException("test");
+    doReturn(CompletableFuture.failedFuture(exception)).when(didResolver).resolveAsync(any());
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    final CompletionException completionException =
+        assertThrows(CompletionException.class, () -> resolver.resolveAsync(DID).join());
+    assertSame(exception, completionException.getCause());
+    assertSame(exception, assertThrows(DidResolverException.class, () -> resolver.resolve(DID)));
+
+    verify(didResolver, times(1)).resolveAsync(any());
+  }
+
+  /** Should wrap other checked exceptions of the underlying resolver. */
+  @Test
+  @SneakyThrows
+  void shouldWrapOtherCheckedException() {
+    final IOException exception = new IOException("test");
+    doReturn(CompletableFuture.failedFuture(exception)).when(didResolver).resolveAsync(any());
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    final DidResolverException didResolverException =
+        assertThrows(DidResolverException.class, () -> resolver.resolve(DID));
+    assertSame(exception, didResolverException.getCause());
+    assertSame(
+        exception,
+        assertThrows(DidResolverException.class, () -> resolver.resolve(DID)).getCause());
+
+    verify(didResolver, times(1)).resolveAsync(any());
+  }
+
+  /** Should delegate is resolvable. */
+  @Test
+  void shouldDelegateIsResolvable() {
+    when(didResolver.isResolvable(DID)).thenReturn(true);
+    final CachingDidResolver resolver = new CachingDidResolver(didResolver);
+
+    assertTrue(resolver.isResolvable(DID));
+    assertFalse(
+        resolver.isResolvable(
+            new Did(new DidMethod("test"), new DidMethodIdentifier("localhost"), null)));
+  }
+
+  @SneakyThrows
+  private static Optional<DidDocument> resolve(DidResolver resolver) {
+    return resolver.resolve(DID);
+  }
+}
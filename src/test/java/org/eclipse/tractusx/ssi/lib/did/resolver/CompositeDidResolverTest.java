@@ -33,6 +33,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
@@ -190,4 +192,40 @@ class CompositeDidResolverTest {
     CompositeDidResolver resolver = new CompositeDidResolver(resolver1);
     assertThrows(DidResolverException.class, () -> resolver.resolve(DID));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldResolveAsyncWithSecondResolver() {
+    when(resolver1.isResolvable(any())).thenReturn(false);
+    when(resolver2.isResolvable(any())).thenReturn(true);
+    when(resolver2.resolveAsync(any()))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of(RESOLVED_DID_DOC)));
+
+    CompositeDidResolver resolver = new CompositeDidResolver(resolver1, resolver2);
+    assertEquals(Optional.of(RESOLVED_DID_DOC), resolver.resolveAsync(DID).get());
+    verify(resolver1, never()).resolveAsync(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void mustNotResolveAsyncOnFalse() {
+    when(resolver1.isResolvable(any())).thenReturn(false);
+
+    CompositeDidResolver resolver = new CompositeDidResolver(resolver1);
+    assertFalse(resolver.resolveAsync(DID).get().isPresent());
+    verify(resolver1, never()).resolveAsync(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldWrapAsyncException() {
+    when(resolver1.isResolvable(any())).thenReturn(true);
+    when(resolver1.resolveAsync(any()))
+        .thenReturn(CompletableFuture.failedFuture(new DidParseException("sdf")));
+
+    CompositeDidResolver resolver = new CompositeDidResolver(resolver1);
+    CompletionException exception =
+        assertThrows(CompletionException.class, () -> resolver.resolveAsync(DID).join());
+    assertTrue(exception.getCause() instanceof DidResolverException);
+  }
 }
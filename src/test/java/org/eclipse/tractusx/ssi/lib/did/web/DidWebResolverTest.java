@@ -27,17 +27,34 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.did.web.util.DidWebParser;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
 import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.http.CachingHttpFetcher;
+import org.eclipse.tractusx.ssi.lib.http.ResponseTooLargeException;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.DidMethod;
@@ -75,7 +92,8 @@ class DidWebResolverTest {
     assertTrue(resolver.isResolvable(validDidWeb));
     when(httpClient.send(any(), any())).thenReturn(response);
     when(response.statusCode()).thenReturn(200);
-    when(response.body()).thenReturn(TestResourceUtil.getPublishedDidDocumentAsString());
+    when(response.body()).thenReturn(publishedDidDocument());
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
     when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
 
     Optional<DidDocument> actualDidDoc = resolver.resolve(validDidWeb);
@@ -144,4 +162,187 @@ class DidWebResolverTest {
     doThrow(new IOException()).when(httpClient).send(any(), any());
     assertThrows(DidResolverException.class, () -> resolver.resolve(validDidWeb));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldResolveValidWebDidAsync() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn(publishedDidDocument());
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    Optional<DidDocument> actualDidDoc = resolver.resolveAsync(validDidWeb).get();
+    assertEquals(new DidDocument(TestResourceUtil.getPublishedDidDocument()), actualDidDoc.get());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFailAsyncWhenIOException() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    doReturn(CompletableFuture.failedFuture(new IOException()))
+        .when(httpClient)
+        .sendAsync(any(), any());
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    CompletionException exception =
+        assertThrows(CompletionException.class, () -> resolver.resolveAsync(validDidWeb).join());
+    assertTrue(exception.getCause() instanceof DidResolverException);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFailAsyncForNonWebDid() {
+    Did validDidKey =
+        new Did(
+            new DidMethod("key"),
+            new DidMethodIdentifier("z6Mkfriq1MqLBoPWecGoDLjguo1sB9brj6wT3qZ5BxkKpuP6"),
+            null);
+
+    CompletionException exception =
+        assertThrows(CompletionException.class, () -> resolver.resolveAsync(validDidKey).join());
+    assertTrue(exception.getCause() instanceof DidResolverException);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldResolveFromCacheWithFetcher() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    resolver = new DidWebResolver(new CachingHttpFetcher(httpClient, null), parser, false);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn(publishedDidDocument());
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    resolver.resolve(validDidWeb);
+    Optional<DidDocument> actualDidDoc = resolver.resolve(validDidWeb);
+
+    assertEquals(new DidDocument(TestResourceUtil.getPublishedDidDocument()), actualDidDoc.get());
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowWithFetcherWhenStatusCodeIsNot2XX() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    resolver = new DidWebResolver(new CachingHttpFetcher(httpClient, null), parser, false);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(404);
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    assertThrows(DidResolverException.class, () -> resolver.resolve(validDidWeb));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowWhenDocumentExceedsMaximumSize() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    resolver =
+        DidWebResolver.builder().client(httpClient).parser(parser).maximumDocumentSize(10).build();
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn(publishedDidDocument());
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    DidResolverException exception =
+        assertThrows(DidResolverException.class, () -> resolver.resolve(validDidWeb));
+    assertTrue(exception.getCause() instanceof ResponseTooLargeException);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEnforceHttpsByDefault() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    resolver = DidWebResolver.builder().client(httpClient).parser(parser).build();
+    when(parser.parse(any(), eq(true))).thenThrow(new DidParseException("did:web:localhost"));
+
+    assertThrows(DidParseException.class, () -> resolver.resolve(validDidWeb));
+  }
+
+  @Test
+  void shouldRequireExactlyOneOfClientAndFetcher() {
+    final CachingHttpFetcher fetcher = new CachingHttpFetcher(httpClient, null);
+
+    assertThrows(IllegalArgumentException.class, () -> DidWebResolver.builder().build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DidWebResolver.builder().client(httpClient).fetcher(fetcher).build());
+  }
+
+  @Test
+  void shouldRejectDocumentLimitsWithFetcher() {
+    final CachingHttpFetcher fetcher = new CachingHttpFetcher(httpClient, null);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DidWebResolver.builder().fetcher(fetcher).maximumDocumentSize(10).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DidWebResolver.builder().fetcher(fetcher).readTimeout(Duration.ofSeconds(1)).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DidWebResolver.builder().fetcher(fetcher).executor(Runnable::run).build());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadAsyncDocumentOnExecutorOfClient() {
+    final AtomicInteger tasks = new AtomicInteger();
+    final Executor executor =
+        runnable -> {
+          tasks.incrementAndGet();
+          runnable.run();
+        };
+    when(httpClient.executor()).thenReturn(Optional.of(executor));
+    resolver = new DidWebResolver(httpClient, parser, false);
+
+    resolveAsync();
+
+    assertEquals(1, tasks.get());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadAsyncDocumentOnConfiguredExecutor() {
+    final AtomicInteger tasks = new AtomicInteger();
+    resolver =
+        DidWebResolver.builder()
+            .client(httpClient)
+            .parser(parser)
+            .executor(
+                runnable -> {
+                  tasks.incrementAndGet();
+                  runnable.run();
+                })
+            .build();
+
+    resolveAsync();
+
+    assertEquals(1, tasks.get());
+  }
+
+  @SneakyThrows
+  private void resolveAsync() {
+    Did validDidWeb = new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+    // not yet completed, so that the reading is handed to the executor
+    final CompletableFuture<HttpResponse<Object>> sent = new CompletableFuture<>();
+    doReturn(sent).when(httpClient).sendAsync(any(), any());
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn(publishedDidDocument());
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    when(parser.parse(any(), anyBoolean())).thenReturn(new URI("http://dummy.net/did.json"));
+
+    final CompletableFuture<Optional<DidDocument>> resolved = resolver.resolveAsync(validDidWeb);
+    sent.complete(response);
+
+    assertEquals(new DidDocument(TestResourceUtil.getPublishedDidDocument()), resolved.get().get());
+  }
+
+  private static InputStream publishedDidDocument() {
+    return new ByteArrayInputStream(
+        TestResourceUtil.getPublishedDidDocumentAsString().getBytes(StandardCharsets.UTF_8));
+  }
 }
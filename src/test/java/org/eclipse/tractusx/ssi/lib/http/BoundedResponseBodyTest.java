@@ -0,0 +1,153 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** The type Bounded response body test. */
+@ExtendWith(MockitoExtension.class)
+class BoundedResponseBodyTest {
+
+  private static final URI URI_1 = URI.create("https://example.com/.well-known/did.json");
+
+  @Mock private HttpResponse<InputStream> response;
+  @Mock private HttpClient client;
+
+  @Test
+  @SneakyThrows
+  void shouldReadBodyWithinLimits() {
+    mockResponse(new ByteArrayInputStream(new byte[10]), Map.of());
+
+    try (BoundedResponseBody body =
+        BoundedResponseBody.of(URI_1, response, 10, Duration.ofSeconds(5))) {
+      assertArrayEquals(new byte[10], body.readAllBytes());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRejectDeclaredContentLength() {
+    final ByteArrayInputStream in = new ByteArrayInputStream(new byte[0]);
+    mockResponse(in, Map.of("Content-Length", List.of("11")));
+
+    assertThrows(
+        ResponseTooLargeException.class,
+        () -> BoundedResponseBody.of(URI_1, response, 10, Duration.ofSeconds(5)));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFailOnOversizedBody() {
+    mockResponse(new ByteArrayInputStream(new byte[11]), Map.of());
+
+    try (BoundedResponseBody body =
+        BoundedResponseBody.of(URI_1, response, 10, Duration.ofSeconds(5))) {
+      assertThrows(ResponseTooLargeException.class, body::readAllBytes);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFailOnSlowBody() {
+    final StalledInputStream in = new StalledInputStream();
+    mockResponse(in, Map.of());
+
+    try (BoundedResponseBody body =
+        BoundedResponseBody.of(URI_1, response, 10, Duration.ofMillis(50))) {
+      assertThrows(HttpTimeoutException.class, body::readAllBytes);
+    }
+    assertEquals(0, in.closed.getCount());
+  }
+
+  @Test
+  void shouldPreferConfiguredReaderExecutor() {
+    final Executor configured = Runnable::run;
+    final Executor ofClient = Runnable::run;
+
+    assertSame(configured, BoundedResponseBody.readerExecutor(client, configured));
+
+    when(client.executor()).thenReturn(Optional.of(ofClient));
+    assertSame(ofClient, BoundedResponseBody.readerExecutor(client, null));
+  }
+
+  @Test
+  void shouldNotReadOnCommonPoolByDefault() {
+    when(client.executor()).thenReturn(Optional.empty());
+
+    final Executor executor = BoundedResponseBody.readerExecutor(client, null);
+
+    assertNotSame(ForkJoinPool.commonPool(), executor);
+    assertSame(executor, BoundedResponseBody.readerExecutor(client, null));
+  }
+
+  private void mockResponse(InputStream body, Map<String, List<String>> headers) {
+    when(response.body()).thenReturn(body);
+    when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+  }
+
+  /** Blocks reading until closed, like the body of a response the server stopped sending. */
+  private static class StalledInputStream extends InputStream {
+
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    @Override
+    public int read() throws IOException {
+      try {
+        closed.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IOException("closed");
+    }
+
+    @Override
+    public void close() {
+      closed.countDown();
+    }
+  }
+}
@@ -0,0 +1,345 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.util.MutableClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** The type Caching http fetcher test. */
+@ExtendWith(MockitoExtension.class)
+class CachingHttpFetcherTest {
+
+  private static final URI URI_1 = URI.create("https://example.com/.well-known/did.json");
+  private static final byte[] BODY =
+      "{\"id\":\"did:web:example.com\"}".getBytes(StandardCharsets.UTF_8);
+
+  @Mock private HttpClient httpClient;
+  @Mock private HttpResponse<Object> response;
+
+  @TempDir Path directory;
+
+  @Test
+  @SneakyThrows
+  void shouldNotSendRequestForFreshResponse() {
+    mockResponse(200, BODY, Map.of("ETag", List.of("\"v1\"")));
+    final CachingHttpFetcher fetcher = newFetcher(null, Instant.EPOCH);
+
+    fetcher.fetch(URI_1, null);
+    final CachedHttpResponse cached = fetcher.fetch(URI_1, null);
+
+    assertArrayEquals(BODY, cached.getBody());
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRevalidateStaleResponse() {
+    final DiskHttpResponseStore store = new DiskHttpResponseStore(directory);
+    store.put(
+        CachedHttpResponse.builder()
+            .uri(URI_1)
+            .body(BODY)
+            .eTag("\"v1\"")
+            .validatedAt(Instant.EPOCH)
+            .build());
+    mockResponse(304, null, Map.of());
+    final Instant now = Instant.EPOCH.plus(Duration.ofDays(2));
+    final CachingHttpFetcher fetcher = newFetcher(store, now);
+
+    final CachedHttpResponse revalidated = fetcher.fetch(URI_1, "application/json");
+
+    final ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+    verify(httpClient).send(request.capture(), any());
+    assertEquals("\"v1\"", request.getValue().headers().firstValue("If-None-Match").orElseThrow());
+    assertEquals(
+        "application/json", request.getValue().headers().firstValue("Accept").orElseThrow());
+    assertArrayEquals(BODY, revalidated.getBody());
+    assertEquals(now, revalidated.getValidatedAt());
+    assertEquals(now, store.get(URI_1).orElseThrow().getValidatedAt());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUseDiskStoreOfPreviousInstance() {
+    final DiskHttpResponseStore store = new DiskHttpResponseStore(directory);
+    mockResponse(200, BODY, Map.of());
+    newFetcher(store, Instant.EPOCH).fetch(URI_1, null);
+
+    final CachedHttpResponse cached =
+        newFetcher(new DiskHttpResponseStore(directory), Instant.EPOCH).fetch(URI_1, null);
+
+    assertArrayEquals(BODY, cached.getBody());
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowOnUnexpectedStatus() {
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(404);
+    final CachingHttpFetcher fetcher = newFetcher(null, Instant.EPOCH);
+
+    final UnexpectedHttpStatusException exception =
+        assertThrows(UnexpectedHttpStatusException.class, () -> fetcher.fetch(URI_1, null));
+    assertEquals(404, exception.getStatusCode());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUseMaxAgeMinusAge() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(200, BODY, Map.of("Cache-Control", List.of("max-age=60"), "Age", List.of("10")));
+    fetcher.fetch(URI_1, null);
+
+    clock.advance(Duration.ofSeconds(49));
+    fetcher.fetch(URI_1, null);
+    verify(httpClient, times(1)).send(any(), any());
+
+    clock.advance(Duration.ofSeconds(2));
+    fetcher.fetch(URI_1, null);
+    verify(httpClient, times(2)).send(any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUseExpiresRelativeToDate() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(
+        200,
+        BODY,
+        Map.of(
+            "Date", List.of("Mon, 01 Jan 2024 00:00:00 GMT"),
+            "Expires", List.of("Mon, 01 Jan 2024 00:05:00 GMT")));
+
+    final CachedHttpResponse response = fetcher.fetch(URI_1, null);
+
+    assertEquals(Instant.EPOCH.plus(Duration.ofMinutes(5)), response.getExpiresAt());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRevalidateNoCacheOnEveryFetch() {
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, new MutableClock());
+    mockResponse(200, BODY, Map.of("Cache-Control", List.of("no-cache")));
+
+    fetcher.fetch(URI_1, null);
+    fetcher.fetch(URI_1, null);
+
+    verify(httpClient, times(2)).send(any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotStoreNoStore() {
+    final DiskHttpResponseStore store = new DiskHttpResponseStore(directory);
+    final CachingHttpFetcher fetcher = newHeaderFetcher(store, new MutableClock());
+    mockResponse(200, BODY, Map.of("Cache-Control", List.of("no-store, max-age=60")));
+
+    assertArrayEquals(BODY, fetcher.fetch(URI_1, null).getBody());
+
+    assertTrue(store.get(URI_1).isEmpty());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldServeStaleOnTransientError() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(200, BODY, Map.of("Cache-Control", List.of("max-age=60, stale-if-error=600")));
+    final CachedHttpResponse fetched = fetcher.fetch(URI_1, null);
+
+    clock.advance(Duration.ofMinutes(2));
+    when(response.statusCode()).thenReturn(503);
+    assertSame(fetched, fetcher.fetch(URI_1, null));
+
+    when(httpClient.send(any(), any())).thenThrow(new IOException());
+    assertSame(fetched, fetcher.fetch(URI_1, null));
+
+    when(httpClient.sendAsync(any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new IOException()));
+    assertSame(fetched, fetcher.fetchAsync(URI_1, null).join());
+
+    clock.advance(Duration.ofMinutes(10));
+    assertThrows(IOException.class, () -> fetcher.fetch(URI_1, null));
+    assertThrows(CompletionException.class, () -> fetcher.fetchAsync(URI_1, null).join());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotServeStaleWhenMustRevalidate() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(
+        200,
+        BODY,
+        Map.of("Cache-Control", List.of("max-age=60, must-revalidate, stale-if-error=600")));
+    fetcher.fetch(URI_1, null);
+
+    clock.advance(Duration.ofMinutes(2));
+    when(response.statusCode()).thenReturn(503);
+
+    final UnexpectedHttpStatusException exception =
+        assertThrows(UnexpectedHttpStatusException.class, () -> fetcher.fetch(URI_1, null));
+    assertEquals(503, exception.getStatusCode());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldKeepLifetimeOnNotModifiedWithoutHeaders() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(
+        200, BODY, Map.of("Cache-Control", List.of("max-age=60"), "ETag", List.of("\"v1\"")));
+    fetcher.fetch(URI_1, null);
+
+    clock.advance(Duration.ofMinutes(2));
+    when(response.statusCode()).thenReturn(304);
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    final CachedHttpResponse revalidated = fetcher.fetch(URI_1, null);
+
+    assertArrayEquals(BODY, revalidated.getBody());
+    assertEquals(clock.instant().plus(Duration.ofSeconds(60)), revalidated.getExpiresAt());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCapHugeDeltaSeconds() {
+    final MutableClock clock = new MutableClock();
+    final CachingHttpFetcher fetcher = newHeaderFetcher(null, clock);
+    mockResponse(
+        200,
+        BODY,
+        Map.of(
+            "Cache-Control",
+            List.of("max-age=99999999999999999999, stale-if-error=9223372036854775807"),
+            "Age",
+            List.of("99999999999999999999")));
+    final CachedHttpResponse fetched = fetcher.fetch(URI_1, null);
+    assertEquals(clock.instant(), fetched.getExpiresAt());
+
+    mockResponse(
+        200,
+        BODY,
+        Map.of(
+            "Cache-Control", List.of("max-age=9223372036854775807, stale-if-error=99999999999")));
+    clock.advance(Duration.ofSeconds(1));
+    final CachedHttpResponse capped = fetcher.fetch(URI_1, null);
+    assertEquals(
+        clock.instant().plusSeconds(CacheControl.MAX_DELTA_SECONDS), capped.getExpiresAt());
+    assertEquals(Duration.ofSeconds(CacheControl.MAX_DELTA_SECONDS), capped.getStaleIfError());
+
+    clock.advance(Duration.ofSeconds(CacheControl.MAX_DELTA_SECONDS + 1));
+    when(response.statusCode()).thenReturn(503);
+    assertSame(capped, fetcher.fetch(URI_1, null));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadAsyncDocumentOnConfiguredExecutor() {
+    final AtomicInteger tasks = new AtomicInteger();
+    final CachingHttpFetcher fetcher =
+        CachingHttpFetcher.builder()
+            .client(httpClient)
+            .executor(
+                runnable -> {
+                  tasks.incrementAndGet();
+                  runnable.run();
+                })
+            .build();
+    // not yet completed, so that the reading is handed to the executor
+    final CompletableFuture<HttpResponse<Object>> sent = new CompletableFuture<>();
+    when(httpClient.sendAsync(any(), any())).thenReturn(sent);
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(BODY));
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+
+    final CompletableFuture<CachedHttpResponse> fetched = fetcher.fetchAsync(URI_1, null);
+    sent.complete(response);
+
+    assertArrayEquals(BODY, fetched.join().getBody());
+    assertEquals(1, tasks.get());
+  }
+
+  @SneakyThrows
+  private void mockResponse(int statusCode, byte[] body, Map<String, List<String>> headers) {
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(statusCode);
+    if (body != null) {
+      when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(body));
+    }
+    when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+  }
+
+  private CachingHttpFetcher newFetcher(DiskHttpResponseStore store, Instant now) {
+    return CachingHttpFetcher.builder()
+        .client(httpClient)
+        .diskStore(store)
+        .timeToLive(Duration.ofDays(1))
+        .clock(Clock.fixed(now, ZoneOffset.UTC))
+        .build();
+  }
+
+  private CachingHttpFetcher newHeaderFetcher(DiskHttpResponseStore store, Clock clock) {
+    return CachingHttpFetcher.builder()
+        .client(httpClient)
+        .diskStore(store)
+        .honourCacheHeaders(true)
+        .clock(clock)
+        .build();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** The type Disk http response store test. */
+class DiskHttpResponseStoreTest {
+
+  private static final URI URI_1 = URI.create("https://example.com/.well-known/did.json");
+
+  @TempDir Path directory;
+
+  @Test
+  @SneakyThrows
+  void shouldReadStoredResponseInNewInstance() {
+    final CachedHttpResponse response =
+        CachedHttpResponse.builder()
+            .uri(URI_1)
+            .body("{}".getBytes(StandardCharsets.UTF_8))
+            .eTag("\"abc\"")
+            .validatedAt(Instant.ofEpochMilli(1000))
+            .expiresAt(Instant.ofEpochMilli(61000))
+            .staleIfError(Duration.ofMinutes(10))
+            .build();
+    new DiskHttpResponseStore(directory).put(response);
+
+    final CachedHttpResponse stored = new DiskHttpResponseStore(directory).get(URI_1).orElseThrow();
+    assertEquals(URI_1, stored.getUri());
+    assertArrayEquals(response.getBody(), stored.getBody());
+    assertEquals("\"abc\"", stored.getETag());
+    assertNull(stored.getLastModified());
+    assertEquals(response.getValidatedAt(), stored.getValidatedAt());
+    assertEquals(response.getExpiresAt(), stored.getExpiresAt());
+    assertEquals(response.getStaleIfError(), stored.getStaleIfError());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldTreatCorruptEntryAsMiss() {
+    final DiskHttpResponseStore store = new DiskHttpResponseStore(directory);
+    store.put(
+        CachedHttpResponse.builder()
+            .uri(URI_1)
+            .body(new byte[] {1, 2, 3})
+            .validatedAt(Instant.now())
+            .build());
+    try (Stream<Path> files = Files.list(directory)) {
+      final Path entry = files.findFirst().orElseThrow();
+      Files.write(entry, new byte[] {0, 1});
+    }
+
+    assertTrue(store.get(URI_1).isEmpty());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRemoveEntry() {
+    final DiskHttpResponseStore store = new DiskHttpResponseStore(directory);
+    store.put(
+        CachedHttpResponse.builder()
+            .uri(URI_1)
+            .body(new byte[0])
+            .validatedAt(Instant.now())
+            .build());
+    store.remove(URI_1);
+
+    assertTrue(store.get(URI_1).isEmpty());
+  }
+}
@@ -0,0 +1,339 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.http.HostMetrics.CircuitState;
+import org.eclipse.tractusx.ssi.lib.http.HostUnavailableException.Reason;
+import org.eclipse.tractusx.ssi.lib.util.MutableClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** The type Resilient http client test. */
+@ExtendWith(MockitoExtension.class)
+class ResilientHttpClientTest {
+
+  private static final HttpRequest REQUEST_1 =
+      HttpRequest.newBuilder(URI.create("https://example.com/.well-known/did.json")).build();
+  private static final HttpRequest REQUEST_2 =
+      HttpRequest.newBuilder(URI.create("https://example.org/.well-known/did.json")).build();
+  private static final HttpRequest REQUEST_3 =
+      HttpRequest.newBuilder(URI.create("https://example.net/.well-known/did.json")).build();
+
+  @Mock private HttpClient httpClient;
+  @Mock private HttpResponse<Object> response;
+
+  private final MutableClock clock = new MutableClock();
+
+  @Test
+  @SneakyThrows
+  void shouldRejectRequestsBeyondHostLimit() {
+    final CompletableFuture<HttpResponse<Object>> pending = new CompletableFuture<>();
+    doReturn(pending).when(httpClient).sendAsync(any(), any());
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .maximumConcurrentRequestsPerHost(1)
+            .build();
+
+    client.sendAsync(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+    final CompletionException exception =
+        assertThrows(
+            CompletionException.class,
+            () -> client.sendAsync(REQUEST_1, HttpResponse.BodyHandlers.discarding()).join());
+    client.sendAsync(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+
+    assertEquals(
+        Reason.TOO_MANY_CONCURRENT_REQUESTS,
+        ((HostUnavailableException) exception.getCause()).getReason());
+    final HostMetrics metrics = client.getHostMetrics(REQUEST_1.uri()).orElseThrow();
+    assertEquals(1, metrics.getInFlight());
+    assertEquals(1, metrics.getRejectedByBulkhead());
+    assertEquals(1, client.getHostMetrics(REQUEST_2.uri()).orElseThrow().getInFlight());
+
+    when(response.statusCode()).thenReturn(200);
+    pending.complete(response);
+    assertEquals(0, client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getInFlight());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldOpenCircuitAfterConsecutiveFailures() {
+    final ResilientHttpClient client = newClient(2);
+    when(httpClient.send(any(), any())).thenThrow(new IOException());
+
+    assertThrows(IOException.class, () -> send(client));
+    assertThrows(IOException.class, () -> send(client));
+    final HostUnavailableException exception =
+        assertThrows(HostUnavailableException.class, () -> send(client));
+
+    assertEquals(Reason.CIRCUIT_OPEN, exception.getReason());
+    verify(httpClient, times(2)).send(any(), any());
+    final HostMetrics metrics = client.getHostMetrics(REQUEST_1.uri()).orElseThrow();
+    assertEquals(CircuitState.OPEN, metrics.getCircuitState());
+    assertEquals(2, metrics.getFailures());
+    assertEquals(1, metrics.getRejectedByCircuitBreaker());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCloseCircuitAfterSuccessfulTrial() {
+    final ResilientHttpClient client = newClient(1);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(503);
+    send(client);
+    assertThrows(HostUnavailableException.class, () -> send(client));
+
+    clock.advance(Duration.ofMinutes(1));
+    when(response.statusCode()).thenReturn(200);
+    assertSame(response, send(client));
+
+    assertEquals(
+        CircuitState.CLOSED,
+        client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getCircuitState());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReopenCircuitAfterFailedTrial() {
+    final ResilientHttpClient client = newClient(1);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(500);
+    send(client);
+
+    clock.advance(Duration.ofMinutes(1));
+    send(client);
+
+    assertThrows(HostUnavailableException.class, () -> send(client));
+    assertEquals(
+        CircuitState.OPEN, client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getCircuitState());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotCountClientErrorsAsFailures() {
+    final ResilientHttpClient client = newClient(1);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(404);
+
+    send(client);
+    send(client);
+
+    final HostMetrics metrics = client.getHostMetrics(REQUEST_1.uri()).orElseThrow();
+    assertEquals(CircuitState.CLOSED, metrics.getCircuitState());
+    assertEquals(2, metrics.getSuccesses());
+    assertTrue(client.getHostMetrics().containsKey("example.com"));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSetRequestTimeout() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .requestTimeout(Duration.ofSeconds(3))
+            .build();
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+
+    send(client);
+    client.send(
+        HttpRequest.newBuilder(REQUEST_1, (name, value) -> true)
+            .timeout(Duration.ofSeconds(1))
+            .build(),
+        HttpResponse.BodyHandlers.discarding());
+
+    final ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+    verify(httpClient, times(2)).send(requests.capture(), any());
+    assertEquals(Duration.ofSeconds(3), requests.getAllValues().get(0).timeout().orElseThrow());
+    assertEquals(Duration.ofSeconds(1), requests.getAllValues().get(1).timeout().orElseThrow());
+  }
+
+  @Test
+  void shouldPreferHttp2ByDefault() {
+    assertEquals(HttpClient.Version.HTTP_2, ResilientHttpClient.builder().build().version());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEvictIdleHostsBeyondMaximum() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder().client(httpClient).maximumHosts(1).clock(clock).build();
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+
+    client.send(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+    client.send(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+
+    assertTrue(client.getHostMetrics(REQUEST_1.uri()).isEmpty());
+    assertEquals(1, client.getHostMetrics(REQUEST_2.uri()).orElseThrow().getRequests());
+    assertEquals(1, client.getHostMetrics().size());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldKeepHostsWithOpenCircuitOrRequestsInFlight() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .failureThreshold(1)
+            .maximumHosts(1)
+            .clock(clock)
+            .build();
+    when(httpClient.send(any(), any())).thenThrow(new IOException());
+    doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+
+    assertThrows(IOException.class, () -> send(client));
+    client.sendAsync(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+    assertThrows(
+        IOException.class, () -> client.send(REQUEST_3, HttpResponse.BodyHandlers.discarding()));
+
+    assertEquals(3, client.getHostMetrics().size());
+    assertThrows(HostUnavailableException.class, () -> send(client));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEvictLeastRecentlyUsedHostsBeyondMaximum() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder().client(httpClient).maximumHosts(2).clock(clock).build();
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+
+    client.send(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+    clock.advance(Duration.ofSeconds(1));
+    client.send(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+    clock.advance(Duration.ofSeconds(1));
+    client.send(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+    clock.advance(Duration.ofSeconds(1));
+    client.send(REQUEST_3, HttpResponse.BodyHandlers.discarding());
+
+    assertEquals(2, client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getRequests());
+    assertTrue(client.getHostMetrics(REQUEST_2.uri()).isEmpty());
+    assertTrue(client.getHostMetrics(REQUEST_3.uri()).isPresent());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldKeepHostsWithFailuresBeyondMaximum() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .failureThreshold(2)
+            .maximumHosts(1)
+            .clock(clock)
+            .build();
+    when(httpClient.send(any(), any())).thenThrow(new IOException()).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+
+    assertThrows(IOException.class, () -> send(client));
+    client.send(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+    when(httpClient.send(any(), any())).thenThrow(new IOException());
+    assertThrows(IOException.class, () -> send(client));
+
+    assertEquals(
+        CircuitState.OPEN, client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getCircuitState());
+    assertTrue(client.getHostMetrics(REQUEST_2.uri()).isEmpty());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldShareBulkheadOfHostInUseBeyondMaximum() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .maximumConcurrentRequestsPerHost(1)
+            .maximumHosts(1)
+            .clock(clock)
+            .build();
+    doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+
+    client.sendAsync(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+    client.send(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+    final CompletionException exception =
+        assertThrows(
+            CompletionException.class,
+            () -> client.sendAsync(REQUEST_1, HttpResponse.BodyHandlers.discarding()).join());
+
+    assertEquals(
+        Reason.TOO_MANY_CONCURRENT_REQUESTS,
+        ((HostUnavailableException) exception.getCause()).getReason());
+    assertEquals(1, client.getHostMetrics(REQUEST_1.uri()).orElseThrow().getInFlight());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEvictHostsIdleLongerThanTimeout() {
+    final ResilientHttpClient client =
+        ResilientHttpClient.builder()
+            .client(httpClient)
+            .hostIdleTimeout(Duration.ofMinutes(1))
+            .clock(clock)
+            .build();
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(200);
+    client.send(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+
+    clock.advance(Duration.ofMinutes(2));
+    client.send(REQUEST_2, HttpResponse.BodyHandlers.discarding());
+
+    assertTrue(client.getHostMetrics(REQUEST_1.uri()).isEmpty());
+    assertTrue(client.getHostMetrics(REQUEST_2.uri()).isPresent());
+  }
+
+  @SneakyThrows
+  private HttpResponse<?> send(ResilientHttpClient client) {
+    return client.send(REQUEST_1, HttpResponse.BodyHandlers.discarding());
+  }
+
+  private ResilientHttpClient newClient(int failureThreshold) {
+    return ResilientHttpClient.builder()
+        .client(httpClient)
+        .failureThreshold(failureThreshold)
+        .openDuration(Duration.ofSeconds(30))
+        .clock(clock)
+        .build();
+  }
+}
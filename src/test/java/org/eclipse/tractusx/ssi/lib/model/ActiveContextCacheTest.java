@@ -0,0 +1,216 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.processor.ExpansionProcessor;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActiveContextCacheTest {
+
+  private static final URI CREDENTIALS_CONTEXT =
+      URI.create("https://www.w3.org/2018/credentials/v1");
+
+  private static final String CREDENTIAL =
+      """
+      {
+        "@context": ["https://www.w3.org/2018/credentials/v1"],
+        "id": "urn:uuid:6a6f0b3c-1d4e-4b5f-9a35-8d2b1b0a4c11",
+        "type": ["VerifiableCredential"],
+        "issuer": "did:example:issuer",
+        "issuanceDate": "2023-02-15T17:21:42Z",
+        "credentialSubject": {"id": "did:example:holder", "unknownTerm": "value"}
+      }
+      """;
+
+  private final AtomicInteger loadedContexts = new AtomicInteger();
+
+  private final DocumentLoader documentLoader = this::loadCredentialsContext;
+
+  private ActiveContextCache cache;
+
+  @BeforeEach
+  void setup() {
+    cache = new ActiveContextCache(10);
+    loadedContexts.set(0);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldExpandLikeTheProcessor() {
+    final JsonLdOptions options = newOptions();
+
+    assertEquals(expandWithProcessor(options), cache.expand(credential(), options));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldExpandLikeTheProcessorWithExpandContext() {
+    final JsonLdOptions options = newOptions();
+    options.setExpandContext(
+        Json.createObjectBuilder().add("@vocab", Json.createValue("urn:UNDEFINEDTERM")).build());
+
+    assertEquals(expandWithProcessor(options), cache.expand(credential(), options));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldProcessContextOnlyOnce() {
+    final JsonLdOptions options = newOptions();
+
+    var context = credential().get("@context");
+    var first = cache.get(context, options);
+    var second = cache.get(context, newOptions());
+    cache.expand(credential(), options);
+
+    assertSame(first, second);
+    assertEquals(1, loadedContexts.get());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldDistinguishExpandContext() {
+    final JsonLdOptions withExpandContext = newOptions();
+    withExpandContext.setExpandContext(
+        Json.createObjectBuilder().add("@vocab", Json.createValue("urn:UNDEFINEDTERM")).build());
+
+    var context = credential().get("@context");
+
+    assertNotSame(cache.get(context, newOptions()), cache.get(context, withExpandContext));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldDistinguishDocumentLoaders() {
+    final DocumentLoader otherLoader = this::loadCredentialsContext;
+
+    var context = credential().get("@context");
+
+    assertNotSame(cache.get(context, newOptions()), cache.get(context, newOptions(otherLoader)));
+    assertEquals(2, loadedContexts.get());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldProcessContextOnlyOnceForConcurrentRequests() {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final DocumentLoader blockingLoader =
+        (url, loaderOptions) -> {
+          loading.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return loadCredentialsContext(url, loaderOptions);
+        };
+    var context = credential().get("@context");
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ActiveContext> first =
+          executor.submit(() -> cache.get(context, newOptions(blockingLoader)));
+      loading.await();
+      final Future<ActiveContext> second =
+          executor.submit(() -> cache.get(context, newOptions(blockingLoader)));
+      release.countDown();
+
+      assertSame(first.get(), second.get());
+      assertEquals(1, loadedContexts.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldThrowJsonLdErrorOfContextProcessing() {
+    final DocumentLoader failingLoader =
+        (url, loaderOptions) -> {
+          throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED);
+        };
+    var context = credential().get("@context");
+
+    final JsonLdError error =
+        assertThrows(JsonLdError.class, () -> cache.get(context, newOptions(failingLoader)));
+
+    assertEquals(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, error.getCode());
+  }
+
+  private JsonLdOptions newOptions() {
+    return newOptions(documentLoader);
+  }
+
+  private static JsonLdOptions newOptions(DocumentLoader loader) {
+    final JsonLdOptions options = new JsonLdOptions();
+    options.setDocumentLoader(loader);
+    options.setOrdered(true);
+    return options;
+  }
+
+  private Document loadCredentialsContext(URI url, DocumentLoaderOptions loaderOptions)
+      throws JsonLdError {
+    assertEquals(CREDENTIALS_CONTEXT, url);
+    loadedContexts.incrementAndGet();
+    try (InputStream is =
+        getClass().getClassLoader().getResourceAsStream("schema/w3.org_2018_credentials_v1.json")) {
+      return JsonDocument.of(MediaType.JSON_LD, is);
+    } catch (java.io.IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @SneakyThrows
+  private Object expandWithProcessor(JsonLdOptions options) {
+    return ExpansionProcessor.expand(
+        JsonDocument.of(MediaType.JSON_LD, credential()), new JsonLdOptions(options), false);
+  }
+
+  private static JsonObject credential() {
+    return Json.createReader(new StringReader(CREDENTIAL)).readObject();
+  }
+}
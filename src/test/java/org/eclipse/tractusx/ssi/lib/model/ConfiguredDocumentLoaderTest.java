@@ -0,0 +1,112 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import jakarta.json.JsonValue;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConfiguredDocumentLoaderTest {
+
+  private static final URI CONTEXT = URI.create("https://example.org/context/v1");
+
+  @Test
+  @SneakyThrows
+  void shouldReturnLocalDocumentWithoutLoading() {
+    final Document document = JsonDocument.of(JsonValue.EMPTY_JSON_OBJECT);
+    final DocumentLoader httpLoader = mock(DocumentLoader.class);
+    final ConfiguredDocumentLoader loader =
+        ConfiguredDocumentLoader.builder()
+            .localDocuments(Map.of(CONTEXT, document))
+            .httpLoader(httpLoader)
+            .build();
+
+    Assertions.assertSame(document, loader.loadDocument(CONTEXT, new DocumentLoaderOptions()));
+    verifyNoInteractions(httpLoader);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldLoadDocumentOnceAndCacheIt() {
+    final Document document = JsonDocument.of(JsonValue.EMPTY_JSON_OBJECT);
+    final DocumentLoader httpLoader = mock(DocumentLoader.class);
+    when(httpLoader.loadDocument(any(URI.class), any(DocumentLoaderOptions.class)))
+        .thenReturn(document);
+    final ConfiguredDocumentLoader loader =
+        ConfiguredDocumentLoader.builder().httpLoader(httpLoader).build();
+
+    Assertions.assertSame(document, loader.loadDocument(CONTEXT, new DocumentLoaderOptions()));
+    Assertions.assertSame(document, loader.loadDocument(CONTEXT, new DocumentLoaderOptions()));
+    verify(httpLoader, times(1)).loadDocument(any(URI.class), any(DocumentLoaderOptions.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotLoadDocumentOfDisabledScheme() {
+    final DocumentLoader httpLoader = mock(DocumentLoader.class);
+    final DocumentLoader fileLoader = mock(DocumentLoader.class);
+    final ConfiguredDocumentLoader loader =
+        ConfiguredDocumentLoader.builder().httpLoader(httpLoader).fileLoader(fileLoader).build();
+
+    Assertions.assertNull(
+        loader.loadDocument(URI.create("http://example.org/context"), new DocumentLoaderOptions()));
+    Assertions.assertNull(
+        loader.loadDocument(URI.create("file:///etc/context.json"), new DocumentLoaderOptions()));
+    verifyNoInteractions(httpLoader, fileLoader);
+  }
+
+  @Test
+  void shouldKeepConfigurationImmutable() {
+    final ConfiguredDocumentLoader loader =
+        ConfiguredDocumentLoader.builder().schemes(Set.of("HTTPS", "file")).build();
+
+    Assertions.assertEquals(
+        Set.of(ConfiguredDocumentLoader.HTTPS, ConfiguredDocumentLoader.FILE), loader.getSchemes());
+    Assertions.assertThrows(
+        UnsupportedOperationException.class, () -> loader.getSchemes().add("http"));
+    Assertions.assertThrows(
+        UnsupportedOperationException.class, () -> loader.getLocalDocuments().put(CONTEXT, null));
+  }
+
+  @Test
+  void shouldRejectUnsupportedScheme() {
+    final ConfiguredDocumentLoader.ConfiguredDocumentLoaderBuilder builder =
+        ConfiguredDocumentLoader.builder().schemes(Set.of("ftp"));
+
+    Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+  }
+}
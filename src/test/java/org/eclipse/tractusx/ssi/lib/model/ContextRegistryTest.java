@@ -0,0 +1,104 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model;
+
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContextRegistryTest {
+
+  private static final URI CONTEXT = URI.create("https://example.org/context/v1");
+
+  @Test
+  @SneakyThrows
+  void shouldBundleCredentialsContext() {
+    final JsonDocument expected;
+    try (InputStream is =
+        getClass().getClassLoader().getResourceAsStream("schema/w3.org_2018_credentials_v1.json")) {
+      expected = JsonDocument.of(is);
+    }
+
+    final JsonDocument bundled =
+        ContextRegistry.getInstance().get(VerifiableCredential.DEFAULT_CONTEXT).orElseThrow();
+
+    Assertions.assertEquals(expected.getJsonContent(), bundled.getJsonContent());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldLoadRegisteredContextWithoutNetwork() {
+    final ConfiguredDocumentLoader loader =
+        ConfiguredDocumentLoader.builder().schemes(Set.of()).build();
+
+    final Document document =
+        loader.loadDocument(VerifiableCredential.DEFAULT_CONTEXT, new DocumentLoaderOptions());
+
+    Assertions.assertSame(
+        ContextRegistry.getInstance().get(VerifiableCredential.DEFAULT_CONTEXT).orElseThrow(),
+        document);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRegisterDirectory(@TempDir Path directory) {
+    Files.writeString(
+        directory.resolve(ContextRegistry.INDEX), "{\"" + CONTEXT + "\": \"context.json\"}");
+    Files.writeString(
+        directory.resolve("context.json"),
+        "{\"@context\": {\"name\": \"https://example.org/name\"}}");
+    final ContextRegistry registry = new ContextRegistry();
+
+    registry.registerDirectory(directory);
+
+    Assertions.assertEquals(Set.of(CONTEXT), registry.getContexts());
+    Assertions.assertTrue(
+        registry
+            .get(CONTEXT)
+            .orElseThrow()
+            .getJsonContent()
+            .orElseThrow()
+            .asJsonObject()
+            .containsKey("@context"));
+  }
+
+  @Test
+  void shouldFailOnMissingIndex() {
+    final ContextRegistry registry = new ContextRegistry();
+
+    Assertions.assertThrows(
+        FileNotFoundException.class,
+        () -> registry.registerResources(getClass().getClassLoader(), "does/not/exist"));
+    Assertions.assertTrue(registry.getContexts().isEmpty());
+  }
+}
@@ -2,10 +2,17 @@ package org.eclipse.tractusx.ssi.lib.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import jakarta.json.Json;
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
+import org.eclipse.tractusx.ssi.lib.util.TestResourceUtil;
 import org.junit.jupiter.api.Test;
 
 class JsonLdObjectTest {
@@ -47,4 +54,36 @@ class JsonLdObjectTest {
             Map.of("hallo", "möp"));
     assertThrows(IllegalArgumentException.class, () -> new VerifiableCredential(map));
   }
+
+  @Test
+  void toJsonObjectEqualsJakartaConversion() {
+    final VerifiableCredential credential = TestResourceUtil.getAlumniVerifiableCredential();
+
+    assertEquals(Json.createObjectBuilder(credential).build(), credential.toJsonObject());
+  }
+
+  @Test
+  void toJsonObjectConvertsAllValueTypes() {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.put("string", "value");
+    map.put("int", 42);
+    map.put("long", Long.MAX_VALUE);
+    map.put("double", 4.2);
+    map.put("decimal", new BigDecimal("4.20"));
+    map.put("boolean", true);
+    map.put("null", null);
+    map.put("list", new ArrayList<>(Arrays.asList("a", 1, null)));
+    map.put("array", new Object[] {"b", false});
+    map.put("map", Map.of("nested", List.of(Map.of("deep", 1))));
+    map.put("json", Json.createValue("json"));
+
+    assertEquals(Json.createObjectBuilder(map).build(), SerializeUtil.toJsonObject(map));
+  }
+
+  @Test
+  void toJsonObjectRejectsUnsupportedType() {
+    final Map<String, Object> map = Map.of("instant", Instant.now());
+
+    assertThrows(IllegalArgumentException.class, () -> SerializeUtil.toJsonObject(map));
+  }
 }
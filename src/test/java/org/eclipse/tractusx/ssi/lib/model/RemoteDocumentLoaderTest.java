@@ -31,6 +31,8 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -107,6 +109,22 @@ class RemoteDocumentLoaderTest {
         new HttpLoader(new DefaultHttpClient(trustallClient)));
   }
 
+  @AfterEach
+  public void afterEach() {
+    // the settings of the shared instance are kept for the rest of the JVM, restore the defaults
+    RemoteDocumentLoader remoteDocumentLoader = RemoteDocumentLoader.DOCUMENT_LOADER;
+    remoteDocumentLoader.setEnableLocalCache(true);
+    remoteDocumentLoader.setEnableHttp(false);
+    remoteDocumentLoader.setEnableHttps(true);
+    remoteDocumentLoader.setEnableFile(false);
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    RemoteDocumentLoader.setDefaultHttpLoader(null);
+    RemoteDocumentLoader.setDefaultFileLoader(null);
+  }
+
   @SneakyThrows
   @Test
   void testFileDocumentLoader() {
@@ -89,6 +89,32 @@ class DidDocumentTest {
     }
   }
 
+  @Test
+  void shouldMemoizeVerificationMethodsUntilModified() {
+    final DidDocument didDocument = new DidDocument(TestResourceUtil.getBPNDidDocument());
+    final List<VerificationMethod> verificationMethods = didDocument.getVerificationMethods();
+
+    // parsed once, the returned lists are copies
+    Assertions.assertSame(verificationMethods.get(0), didDocument.getVerificationMethods().get(0));
+    Assertions.assertNotSame(verificationMethods, didDocument.getVerificationMethods());
+    Assertions.assertSame(didDocument.getIndex(), didDocument.getIndex());
+
+    didDocument.put(DidDocument.VERIFICATION_METHOD, List.of());
+
+    Assertions.assertTrue(didDocument.getVerificationMethods().isEmpty());
+  }
+
+  @Test
+  void shouldReturnModifiableVerificationMethodsAndServices() {
+    final DidDocument didDocument = new DidDocument(TestResourceUtil.getBPNDidDocument());
+    final int size = didDocument.getVerificationMethods().size();
+
+    didDocument.getVerificationMethods().clear();
+    didDocument.getServices().clear();
+
+    Assertions.assertEquals(size, didDocument.getVerificationMethods().size());
+  }
+
   @Test
   void shouldThrowWhenRequiredAttributeNull() {
     Map<String, Object> map = Map.of("@context", URI.create("did:localhost"));
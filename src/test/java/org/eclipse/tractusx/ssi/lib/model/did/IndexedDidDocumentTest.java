@@ -0,0 +1,153 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.model.did;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.base.MultibaseFactory;
+import org.junit.jupiter.api.Test;
+
+/** The type Indexed did document test. */
+class IndexedDidDocumentTest {
+
+  private static final URI DID = URI.create("did:example:123");
+  private static final URI ED25519_KEY_ID = URI.create("did:example:123#key-1");
+  private static final URI JWK_KEY_ID =
+      URI.create("did:example:123#_Qq0UL2Fq651Q0Fjd6TvnYE-faHiOpRlPVQcY_-tA4A");
+  private static final URI EMBEDDED_KEY_ID = URI.create("did:example:123#embedded");
+  private static final byte[] ED25519_KEY = new byte[32];
+
+  static {
+    for (int i = 0; i < ED25519_KEY.length; i++) {
+      ED25519_KEY[i] = (byte) i;
+    }
+  }
+
+  @Test
+  void shouldIndexVerificationMethods() {
+    final IndexedDidDocument index = newDocument().getIndex();
+
+    assertTrue(
+        index.getVerificationMethod(ED25519_KEY_ID, Ed25519VerificationMethod.class).isPresent());
+    assertTrue(index.getVerificationMethod(JWK_KEY_ID, JWKVerificationMethod.class).isPresent());
+    assertFalse(
+        index.getVerificationMethod(JWK_KEY_ID, Ed25519VerificationMethod.class).isPresent());
+    assertFalse(index.getVerificationMethod(URI.create("did:example:123#unknown")).isPresent());
+  }
+
+  @Test
+  void shouldDecodePublicKeys() {
+    final IndexedDidDocument index = newDocument().getIndex();
+
+    final OctetKeyPair ed25519Key =
+        (OctetKeyPair)
+            index
+                .getPublicKey(index.getVerificationMethod(ED25519_KEY_ID).orElseThrow())
+                .orElseThrow();
+    assertArrayEquals(ED25519_KEY, ed25519Key.getX().decode());
+
+    final OctetKeyPair jwk =
+        (OctetKeyPair)
+            index.getPublicKey(index.getVerificationMethod(JWK_KEY_ID).orElseThrow()).orElseThrow();
+    assertEquals("VCpo2LMLhn6iWku8MKvSLg2ZAoC-nlOyPVQaO3FxVeQ", jwk.getX().toString());
+  }
+
+  @Test
+  void shouldIndexVerificationRelationships() {
+    final IndexedDidDocument index = newDocument().getIndex();
+
+    assertTrue(index.hasVerificationRelationship("assertionMethod"));
+    assertFalse(index.hasVerificationRelationship("authentication"));
+    assertTrue(index.isInVerificationRelationship("assertionMethod", ED25519_KEY_ID));
+    assertTrue(index.isInVerificationRelationship("assertionMethod", EMBEDDED_KEY_ID));
+    assertFalse(index.isInVerificationRelationship("assertionMethod", JWK_KEY_ID));
+
+    // referenced methods are resolved from the verificationMethod section
+    assertSame(
+        index.getVerificationMethod(ED25519_KEY_ID).orElseThrow(),
+        index.getVerificationMethod("assertionMethod", ED25519_KEY_ID).orElseThrow());
+    assertTrue(
+        index.getVerificationMethod("assertionMethod", EMBEDDED_KEY_ID).orElseThrow()
+            instanceof JWKVerificationMethod);
+    assertFalse(index.getVerificationMethod(EMBEDDED_KEY_ID).isPresent());
+  }
+
+  @Test
+  void shouldIgnoreUnknownVerificationRelationships() {
+    final DidDocument document = newDocument();
+    document.put("bogusPurpose", List.of(ED25519_KEY_ID.toString()));
+    final IndexedDidDocument index = document.getIndex();
+
+    assertFalse(index.hasVerificationRelationship("bogusPurpose"));
+    assertFalse(index.isInVerificationRelationship("bogusPurpose", ED25519_KEY_ID));
+    assertFalse(index.getVerificationMethod("bogusPurpose", ED25519_KEY_ID).isPresent());
+    assertTrue(index.hasVerificationRelationship("assertionMethod"));
+  }
+
+  @Test
+  void shouldRebuildIndexAfterModification() {
+    final DidDocument document = newDocument();
+    final IndexedDidDocument index = document.getIndex();
+
+    assertSame(index, document.getIndex());
+
+    document.put(DidDocument.VERIFICATION_METHOD, List.of());
+    assertNotSame(index, document.getIndex());
+    assertFalse(document.getIndex().getVerificationMethod(ED25519_KEY_ID).isPresent());
+  }
+
+  @SneakyThrows
+  private static DidDocument newDocument() {
+    final Map<String, Object> ed25519Method = new HashMap<>();
+    ed25519Method.put(VerificationMethod.ID, ED25519_KEY_ID.toString());
+    ed25519Method.put(VerificationMethod.TYPE, Ed25519VerificationMethod.DEFAULT_TYPE);
+    ed25519Method.put(VerificationMethod.CONTROLLER, DID.toString());
+    ed25519Method.put(
+        Ed25519VerificationMethod.PUBLIC_KEY_BASE_58,
+        MultibaseFactory.create(ED25519_KEY).getEncoded());
+
+    final Map<String, Object> jwkMethod =
+        JSONObjectUtils.parse(JWKVerificationMethodTest.ED_JWK_STRING);
+
+    final Map<String, Object> embeddedMethod = new HashMap<>(jwkMethod);
+    embeddedMethod.put(VerificationMethod.ID, EMBEDDED_KEY_ID.toString());
+
+    final Map<String, Object> json = new HashMap<>();
+    json.put(DidDocument.CONTEXT, List.of(DidDocument.DEFAULT_CONTEXT));
+    json.put(DidDocument.ID, DID.toString());
+    json.put(DidDocument.VERIFICATION_METHOD, List.of(ed25519Method, jwkMethod));
+    json.put("assertionMethod", List.of(ED25519_KEY_ID.toString(), embeddedMethod));
+    return new DidDocument(json);
+  }
+}
@@ -6,10 +6,17 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.proof.ed25519.Ed25519Signature2020;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationType;
+import org.eclipse.tractusx.ssi.lib.serialization.SerializeUtil;
 import org.junit.jupiter.api.Test;
 
 class VerifiableTest {
@@ -44,4 +51,149 @@ class VerifiableTest {
 
     assertEquals(one, two);
   }
+
+  @Test
+  void testWithoutProofSignatureOfCredential() {
+    final VerifiableCredential credential = newCredential();
+
+    final Verifiable withoutSignature = credential.withoutProofSignature();
+
+    assertEquals(credential.deepClone().removeProofSignature(), withoutSignature);
+    assertNull(withoutSignature.getProof().orElseThrow().get(Ed25519Signature2020.PROOF_VALUE));
+    // the original keeps its signature
+    assertEquals(
+        "z1111", credential.getProof().orElseThrow().get(Ed25519Signature2020.PROOF_VALUE));
+  }
+
+  @Test
+  void testWithoutProofSignatureOfPresentation() {
+    final VerifiablePresentation presentation =
+        new VerifiablePresentationBuilder()
+            .id(URI.create("did:test:presentation"))
+            .type(List.of(VerifiablePresentationType.VERIFIABLE_PRESENTATION))
+            .verifiableCredentials(List.of(newCredential(), newCredential()))
+            .build();
+    presentation.put(Verifiable.PROOF, newProof());
+
+    final Verifiable withoutSignature = presentation.withoutProofSignature();
+
+    assertEquals(
+        SerializeUtil.toJson(presentation.deepClone().removeProofSignature()),
+        SerializeUtil.toJson(withoutSignature));
+    for (VerifiableCredential credential : presentation.getVerifiableCredentials()) {
+      assertEquals(
+          "z1111", credential.getProof().orElseThrow().get(Ed25519Signature2020.PROOF_VALUE));
+    }
+  }
+
+  @Test
+  void testWithoutProofSignatureRequiresProof() {
+    final VerifiableCredential credential = newCredential();
+    credential.remove(Verifiable.PROOF);
+
+    assertThrows(DidParseException.class, credential::withoutProofSignature);
+  }
+
+  @Test
+  void testTypedAccessorsAreMemoized() {
+    final VerifiableCredential credential = newCredential();
+
+    assertSame(credential.getProof(), credential.getProof());
+    assertSame(credential.getCredentialSubject(), credential.getCredentialSubject());
+  }
+
+  @Test
+  void testMemoizedAccessorsFollowModification() {
+    final VerifiableCredential credential = newCredential();
+    final List<VerifiableCredentialSubject> subjects = credential.getCredentialSubject();
+    credential.getProof();
+
+    credential.put(VerifiableCredential.CREDENTIAL_SUBJECT, Map.of("id", "did:test:other-subject"));
+    credential.remove(Verifiable.PROOF);
+
+    assertNotSame(subjects, credential.getCredentialSubject());
+    assertEquals(
+        "did:test:other-subject", credential.getCredentialSubject().get(0).getId().toString());
+    assertTrue(credential.getProof().isEmpty());
+  }
+
+  @Test
+  void testVerifiableCredentialsOfPresentationAreCopied() {
+    final VerifiableCredential credential = newCredential();
+    final VerifiablePresentation presentation =
+        new VerifiablePresentationBuilder()
+            .id(URI.create("did:test:presentation"))
+            .type(List.of(VerifiablePresentationType.VERIFIABLE_PRESENTATION))
+            .verifiableCredentials(List.of(credential))
+            .build();
+
+    final VerifiableCredential copy = presentation.getVerifiableCredentials().get(0);
+    copy.put(VerifiableCredential.ISSUER, "did:test:other-issuer");
+
+    assertEquals(Verifiable.VerifiableType.VC, copy.getType());
+    assertEquals("did:test:issuer", credential.getIssuer().toString());
+    assertEquals(
+        "did:test:issuer", presentation.getVerifiableCredentials().get(0).getIssuer().toString());
+  }
+
+  @Test
+  void testRemoveProofSignatureKeepsMemoizedProofIntact() {
+    final VerifiableCredential credential = newCredential();
+    final Proof proof = credential.getProof().orElseThrow();
+
+    credential.removeProofSignature();
+
+    assertEquals("z1111", proof.get(Ed25519Signature2020.PROOF_VALUE));
+    assertNull(credential.getProof().orElseThrow().get(Ed25519Signature2020.PROOF_VALUE));
+  }
+
+  @Test
+  void testRemoveProofSignatureOfPresentationKeepsEmbeddedCredentialsIntact() {
+    final VerifiableCredential credential = newCredential();
+    final VerifiablePresentation presentation =
+        new VerifiablePresentationBuilder()
+            .id(URI.create("did:test:presentation"))
+            .type(List.of(VerifiablePresentationType.VERIFIABLE_PRESENTATION))
+            .verifiableCredentials(List.of(credential))
+            .build();
+    presentation.put(Verifiable.PROOF, newProof());
+
+    presentation.removeProofSignature();
+
+    assertEquals(
+        "z1111", credential.getProof().orElseThrow().get(Ed25519Signature2020.PROOF_VALUE));
+    assertNull(
+        presentation
+            .getVerifiableCredentials()
+            .get(0)
+            .getProof()
+            .orElseThrow()
+            .get(Ed25519Signature2020.PROOF_VALUE));
+  }
+
+  private static VerifiableCredential newCredential() {
+    return new VerifiableCredentialBuilder()
+        .id(URI.create("did:test:id"))
+        .type(List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL))
+        .issuer(URI.create("did:test:issuer"))
+        .issuanceDate(Instant.parse("2023-02-15T17:21:42Z"))
+        .credentialSubject(new VerifiableCredentialSubject(Map.of("test", "test")))
+        .proof(newProof())
+        .build();
+  }
+
+  private static Proof newProof() {
+    return new Ed25519Signature2020(
+        Map.of(
+            Proof.TYPE,
+            "Ed25519Signature2020",
+            Ed25519Signature2020.PROOF_PURPOSE,
+            Ed25519Signature2020.ASSERTION_METHOD,
+            Ed25519Signature2020.VERIFICATION_METHOD,
+            "did:test:issuer#key-1",
+            Ed25519Signature2020.CREATED,
+            "2023-02-15T17:21:42Z",
+            Ed25519Signature2020.PROOF_VALUE,
+            "z1111"));
+  }
 }
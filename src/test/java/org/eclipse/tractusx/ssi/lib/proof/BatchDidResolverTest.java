@@ -0,0 +1,167 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidMethod;
+import org.eclipse.tractusx.ssi.lib.model.did.DidMethodIdentifier;
+import org.eclipse.tractusx.ssi.lib.util.TestResourceUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** The type Batch did resolver test. */
+@ExtendWith(MockitoExtension.class)
+class BatchDidResolverTest {
+
+  @Mock private DidResolver didResolver;
+
+  private static final DidDocument RESOLVED_DID_DOC =
+      new DidDocument(TestResourceUtil.getPublishedDidDocument());
+
+  private static final Did DID =
+      new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), null);
+
+  /** Should resolve every did only once, ignoring the fragment. */
+  @Test
+  @SneakyThrows
+  void shouldResolveOnce() {
+    when(didResolver.resolve(any())).thenReturn(Optional.of(RESOLVED_DID_DOC));
+    final BatchDidResolver resolver = new BatchDidResolver(didResolver);
+
+    assertEquals(Optional.of(RESOLVED_DID_DOC), resolver.resolve(DID));
+    assertEquals(
+        Optional.of(RESOLVED_DID_DOC),
+        resolver.resolve(
+            new Did(new DidMethod("web"), new DidMethodIdentifier("localhost"), "key-1")));
+
+    verify(didResolver, times(1)).resolve(any());
+  }
+
+  /** Should remember failures. */
+  @Test
+  @SneakyThrows
+  void shouldRememberFailure() {
+    final DidResolverException exception = new DidResolverException("test");
+    when(didResolver.resolve(any())).thenThrow(exception);
+    final BatchDidResolver resolver = new BatchDidResolver(didResolver);
+
+    assertSame(exception, assertThrows(DidResolverException.class, () -> resolver.resolve(DID)));
+    assertSame(exception, assertThrows(DidResolverException.class, () -> resolver.resolve(DID)));
+
+    verify(didResolver, times(1)).resolve(any());
+  }
+
+  /** Should resolve only once for concurrent callers. */
+  @Test
+  @SneakyThrows
+  void shouldResolveOnceForConcurrentCallers() {
+    final CountDownLatch resolving = new CountDownLatch(1);
+    when(didResolver.resolve(any()))
+        .thenAnswer(
+            invocation -> {
+              resolving.await(5, TimeUnit.SECONDS);
+              return Optional.of(RESOLVED_DID_DOC);
+            });
+    final BatchDidResolver resolver = new BatchDidResolver(didResolver);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<CompletableFuture<Optional<DidDocument>>> documents = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        documents.add(CompletableFuture.supplyAsync(() -> resolve(resolver), executor));
+      }
+      resolving.countDown();
+
+      for (CompletableFuture<Optional<DidDocument>> document : documents) {
+        assertEquals(Optional.of(RESOLVED_DID_DOC), document.get(5, TimeUnit.SECONDS));
+      }
+      verify(didResolver, times(1)).resolve(any());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Should complete the resolution for concurrent callers if the resolver throws an error. */
+  @Test
+  @SneakyThrows
+  void shouldReleaseConcurrentCallersOnError() {
+    final CountDownLatch resolving = new CountDownLatch(1);
+    final CountDownLatch waiting = new CountDownLatch(1);
+    final AssertionError error = new AssertionError("test");
+    when(didResolver.resolve(any()))
+        .thenAnswer(
+            invocation -> {
+              resolving.countDown();
+              waiting.await(5, TimeUnit.SECONDS);
+              throw error;
+            });
+    final BatchDidResolver resolver = new BatchDidResolver(didResolver);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final CompletableFuture<Optional<DidDocument>> first =
+          CompletableFuture.supplyAsync(() -> resolve(resolver), executor);
+      resolving.await(5, TimeUnit.SECONDS);
+      final CompletableFuture<Optional<DidDocument>> second =
+          CompletableFuture.supplyAsync(() -> resolve(resolver), executor);
+      waiting.countDown();
+
+      for (CompletableFuture<Optional<DidDocument>> document : List.of(first, second)) {
+        final ExecutionException exception =
+            assertThrows(ExecutionException.class, () -> document.get(5, TimeUnit.SECONDS));
+        assertSame(error, exception.getCause());
+      }
+      assertSame(error, assertThrows(AssertionError.class, () -> resolver.resolve(DID)));
+      verify(didResolver, times(1)).resolve(any());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  private static Optional<DidDocument> resolve(DidResolver resolver) {
+    return resolver.resolve(DID);
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.apicatalog.jsonld.document.JsonDocument;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.ProofPurpose;
+import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
+import org.eclipse.tractusx.ssi.lib.model.proof.ed25519.Ed25519Signature2020;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.Verifiable;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.proof.hash.LinkedDataHasher;
+import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
+import org.eclipse.tractusx.ssi.lib.proof.types.ed25519.Ed25519ProofVerifier;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestDidResolver;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentity;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentityFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** The type Bulk credential issuer test. */
+class BulkCredentialIssuerTest {
+
+  private static final int MAX_IN_FLIGHT = 2;
+
+  private final TestIdentity testIdentity =
+      TestIdentityFactory.newIdentityWithEDVerificationMethod();
+
+  private ExecutorService executor;
+
+  private BulkCredentialIssuer issuer;
+
+  @BeforeEach
+  @SneakyThrows
+  void setup() {
+    try (InputStream is =
+        getClass().getClassLoader().getResourceAsStream("schema/w3.org_2018_credentials_v1.json")) {
+      final RemoteDocumentLoader documentLoader = RemoteDocumentLoader.getInstance();
+      documentLoader.setEnableLocalCache(true);
+      documentLoader.getLocalCache().put(VerifiableCredential.DEFAULT_CONTEXT, JsonDocument.of(is));
+    }
+
+    executor = Executors.newFixedThreadPool(4);
+    issuer =
+        BulkCredentialIssuer.newInstance(
+            testIdentity.getPrivateKey(),
+            SignatureType.ED25519,
+            URI.create(testIdentity.getDid() + "#key-1"),
+            executor,
+            MAX_IN_FLIGHT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    RemoteDocumentLoader.getInstance().getLocalCache().remove(VerifiableCredential.DEFAULT_CONTEXT);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldIssueInOrderWithoutModifyingInput() {
+    final List<VerifiableCredential> credentials =
+        IntStream.range(0, 10).mapToObj(BulkCredentialIssuerTest::newCredential).toList();
+
+    final List<IssuanceResult> results;
+    try (Stream<IssuanceResult> stream = issuer.issue(credentials.stream())) {
+      results = stream.toList();
+    }
+
+    assertEquals(credentials.size(), results.size());
+    for (int i = 0; i < credentials.size(); i++) {
+      final IssuanceResult result = results.get(i);
+      assertTrue(result.isIssued(), () -> result.getException().toString());
+      assertEquals(credentials.get(i), result.getUnsignedCredential());
+      assertFalse(credentials.get(i).getProof().isPresent());
+
+      final VerifiableCredential signed = result.getSignedCredential().orElseThrow();
+      assertEquals(credentials.get(i).getId(), signed.getId());
+      assertTrue(verifySignature(signed));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotReadAheadOfConsumer() {
+    final AtomicInteger pulled = new AtomicInteger();
+    final Stream<VerifiableCredential> source =
+        IntStream.range(0, 100)
+            .mapToObj(BulkCredentialIssuerTest::newCredential)
+            .peek(credential -> pulled.incrementAndGet());
+
+    try (Stream<IssuanceResult> stream = issuer.issue(source)) {
+      assertTrue(stream.findFirst().orElseThrow().isIssued());
+    }
+
+    assertTrue(pulled.get() <= MAX_IN_FLIGHT + 1, () -> "pulled " + pulled.get());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReportFailedItems() {
+    final VerifiableCredential unresolvable =
+        new VerifiableCredentialBuilder()
+            .context(List.of(URI.create("https://example.invalid/context")))
+            .id(URI.create("did:test:unresolvable"))
+            .type(List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL))
+            .issuer(testIdentity.getDid().toUri())
+            .issuanceDate(Instant.parse("2023-02-15T17:21:42Z"))
+            .credentialSubject(new VerifiableCredentialSubject(Map.of("id", "did:test:holder")))
+            .build();
+
+    final List<IssuanceResult> results =
+        issuer.issue(Stream.of(newCredential(0), unresolvable, newCredential(1))).toList();
+
+    assertTrue(results.get(0).isIssued());
+    assertFalse(results.get(1).isIssued());
+    assertTrue(results.get(1).getException().isPresent());
+    assertTrue(results.get(2).isIssued());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRejectNonPositiveMaxInFlight() {
+    final PreparedSigner signer =
+        PreparedSigner.newInstance(testIdentity.getPrivateKey(), SignatureType.ED25519);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            BulkCredentialIssuer.newInstance(
+                signer, testIdentity.getDid().toUri(), ProofPurpose.ASSERTION_METHOD, executor, 0));
+  }
+
+  @SneakyThrows
+  private boolean verifySignature(VerifiableCredential signed) {
+    final Ed25519Signature2020 proof = new Ed25519Signature2020(signed.getProof().orElseThrow());
+    final Verifiable withoutSignature = signed.withoutProofSignature();
+    return new Ed25519ProofVerifier(new TestDidResolver())
+        .verify(
+            new LinkedDataHasher().hash(new LinkedDataTransformer().transform(withoutSignature)),
+            proof.getProofValue().getDecoded(),
+            testIdentity.getPublicKey());
+  }
+
+  private static VerifiableCredential newCredential(int index) {
+    return new VerifiableCredentialBuilder()
+        .id(URI.create("did:test:credential-" + index))
+        .type(List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL))
+        .issuer(URI.create("did:test:issuer"))
+        .issuanceDate(Instant.parse("2023-02-15T17:21:42Z"))
+        .credentialSubject(new VerifiableCredentialSubject(Map.of("id", "did:test:holder")))
+        .build();
+  }
+}
@@ -21,17 +21,32 @@
 
 package org.eclipse.tractusx.ssi.lib.proof;
 
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import jakarta.json.Json;
 import java.net.URI;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.SneakyThrows;
 import org.eclipse.tractusx.ssi.lib.SsiLibrary;
+import org.eclipse.tractusx.ssi.lib.exception.did.DidParseException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
+import org.eclipse.tractusx.ssi.lib.model.ContextRegistry;
 import org.eclipse.tractusx.ssi.lib.model.ProofPurpose;
 import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
+import org.eclipse.tractusx.ssi.lib.proof.transform.BudgetedCanonicalizer;
+import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
 import org.eclipse.tractusx.ssi.lib.util.identity.TestDidResolver;
 import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentity;
 import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentityFactory;
@@ -39,6 +54,7 @@ import org.eclipse.tractusx.ssi.lib.util.vc.TestVerifiableFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 /** The type Linked data proof validation component test. */
 class LinkedDataProofValidationComponentTest {
@@ -96,6 +112,122 @@ class LinkedDataProofValidationComponentTest {
     Assertions.assertFalse(isOk);
   }
 
+  /** Test verification of a credential remembered by the verified credential cache. */
+  @Test
+  @SneakyThrows
+  void testVCVerificationWithVerifiedCredentialCache() {
+
+    credentialIssuer = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+    didResolver.register(credentialIssuer);
+
+    linkedDataProofGenerator = LinkedDataProofGenerator.newInstance(SignatureType.ED25519);
+
+    final VerifiedCredentialCache cache = new VerifiedCredentialCache();
+    final LinkedDataTransformer transformer = Mockito.spy(new LinkedDataTransformer());
+    linkedDataProofValidation =
+        LinkedDataProofValidation.newInstance(this.didResolver, Runnable::run, transformer, cache);
+
+    final URI verificationMethod =
+        credentialIssuer.getDidDocument().getVerificationMethods().get(0).getId();
+
+    final VerifiableCredential credential =
+        TestVerifiableFactory.createVerifiableCredential(credentialIssuer, null);
+    // expired credentials are not cached
+    DateTimeFormatter formatter =
+        DateTimeFormatter.ofPattern(VerifiableCredential.TIME_FORMAT).withZone(ZoneOffset.UTC);
+    credential.put(
+        VerifiableCredential.EXPIRATION_DATE, formatter.format(Instant.now().plusSeconds(3600)));
+
+    final Proof proof =
+        linkedDataProofGenerator.createProof(
+            credential, verificationMethod, credentialIssuer.getPrivateKey());
+    final VerifiableCredential credentialWithProof =
+        TestVerifiableFactory.attachProof(credential, proof);
+
+    Assertions.assertTrue(linkedDataProofValidation.verify(credentialWithProof));
+    Assertions.assertEquals(1, cache.estimatedSize());
+    final int transformations = Mockito.mockingDetails(transformer).getInvocations().size();
+    Assertions.assertTrue(transformations > 0);
+    Assertions.assertTrue(linkedDataProofValidation.verify(credentialWithProof));
+    // served from the cache, without canonicalizing the credential again
+    Assertions.assertEquals(
+        transformations, Mockito.mockingDetails(transformer).getInvocations().size());
+
+    credentialWithProof.put(
+        VerifiableCredential.EXPIRATION_DATE, formatter.format(Instant.now().plusSeconds(7200)));
+    Assertions.assertFalse(linkedDataProofValidation.verify(credentialWithProof));
+    Assertions.assertEquals(1, cache.estimatedSize());
+  }
+
+  /** Test verification of the credentials of a presentation with the loader of the transformer. */
+  @Test
+  @SneakyThrows
+  void testVPVerificationWithDocumentLoaderOfTransformer() {
+
+    credentialIssuer = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+    didResolver.register(credentialIssuer);
+
+    final String membershipContext = "https://example.org/membership/v1";
+    final Document membershipDocument =
+        JsonDocument.of(
+            Json.createObjectBuilder()
+                .add(
+                    "@context",
+                    Json.createObjectBuilder().add("@vocab", "https://example.org/vocab#"))
+                .build());
+    // serves all contexts offline, unlike the shared remote document loader
+    final DocumentLoader documentLoader =
+        (url, options) ->
+            membershipContext.equals(url.toString())
+                ? membershipDocument
+                : ContextRegistry.getInstance()
+                    .get(url)
+                    .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED));
+    final LinkedDataTransformer transformer =
+        new LinkedDataTransformer(
+            new ActiveContextCache(), BudgetedCanonicalizer.getDefault(), documentLoader);
+
+    linkedDataProofGenerator =
+        LinkedDataProofGenerator.newInstance(SignatureType.ED25519, transformer);
+    // the JSON-LD validator expands the credentials on its own, with the loader of the transformer
+    linkedDataProofValidation =
+        LinkedDataProofValidation.newInstance(this.didResolver, Runnable::run, transformer, null);
+
+    final URI verificationMethod =
+        credentialIssuer.getDidDocument().getVerificationMethods().get(0).getId();
+
+    final VerifiableCredential credential =
+        TestVerifiableFactory.createVerifiableCredential(credentialIssuer, null);
+    credential.put(
+        VerifiableCredential.CONTEXT,
+        List.of(VerifiableCredential.DEFAULT_CONTEXT.toString(), membershipContext));
+    credential.put(
+        VerifiableCredential.CREDENTIAL_SUBJECT,
+        Map.of("id", "did:example:subject", "memberOf", "Club"));
+    DateTimeFormatter formatter =
+        DateTimeFormatter.ofPattern(VerifiableCredential.TIME_FORMAT).withZone(ZoneOffset.UTC);
+    credential.put(
+        VerifiableCredential.EXPIRATION_DATE, formatter.format(Instant.now().plusSeconds(3600)));
+
+    final Proof proof =
+        linkedDataProofGenerator.createProof(
+            credential, verificationMethod, credentialIssuer.getPrivateKey());
+    final VerifiableCredential credentialWithProof =
+        TestVerifiableFactory.attachProof(credential, proof);
+
+    final VerifiablePresentation presentation =
+        TestVerifiableFactory.createVerifiablePresentation(
+            credentialIssuer, List.of(credentialWithProof), null);
+    presentation.put(VerifiablePresentation.CONTEXT, credential.get(VerifiableCredential.CONTEXT));
+    final Proof presentationProof =
+        linkedDataProofGenerator.createProof(
+            presentation, verificationMethod, credentialIssuer.getPrivateKey());
+
+    Assertions.assertTrue(
+        linkedDataProofValidation.verify(
+            TestVerifiableFactory.attachProof(presentation, presentationProof)));
+  }
+
   /** Test vc ed 25519 proof generation and verification. */
   @Test
   @SneakyThrows
@@ -327,4 +459,104 @@ class LinkedDataProofValidationComponentTest {
 
     Assertions.assertFalse(isOk);
   }
+
+  /** Test batch verification of valid, manipulated and unsigned credentials. */
+  @Test
+  @SneakyThrows
+  void testVerifyAll() {
+
+    credentialIssuer = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+    didResolver.register(credentialIssuer);
+
+    // Generator
+    linkedDataProofGenerator = LinkedDataProofGenerator.newInstance(SignatureType.ED25519);
+
+    // Verification
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    linkedDataProofValidation = LinkedDataProofValidation.newInstance(this.didResolver, executor);
+
+    final URI verificationMethod =
+        credentialIssuer.getDidDocument().getVerificationMethods().get(0).getId();
+
+    final List<VerifiableCredential> credentials = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      final VerifiableCredential credential =
+          TestVerifiableFactory.createVerifiableCredential(credentialIssuer, null);
+      final Proof proof =
+          linkedDataProofGenerator.createProof(
+              credential, verificationMethod, credentialIssuer.getPrivateKey());
+      credentials.add(TestVerifiableFactory.attachProof(credential, proof));
+    }
+    credentials.get(1).put(VerifiableCredential.ISSUANCE_DATE, "2024-02-15T17:21:42Z");
+    credentials.add(TestVerifiableFactory.createVerifiableCredential(credentialIssuer, null));
+
+    try {
+      final List<VerificationResult> results = linkedDataProofValidation.verifyAll(credentials);
+
+      Assertions.assertEquals(credentials.size(), results.size());
+      for (int i = 0; i < results.size(); i++) {
+        Assertions.assertSame(credentials.get(i), results.get(i).getVerifiable());
+      }
+      Assertions.assertTrue(results.get(0).isValid());
+      Assertions.assertFalse(results.get(1).isValid());
+      Assertions.assertTrue(results.get(1).getException().isEmpty());
+      Assertions.assertTrue(results.get(4).isValid());
+      Assertions.assertFalse(results.get(5).isValid());
+      Assertions.assertInstanceOf(DidParseException.class, results.get(5).getException().get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Test deep verification of a presentation and its credentials. */
+  @Test
+  @SneakyThrows
+  void testVerifyDeep() {
+
+    credentialIssuer = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+    didResolver.register(credentialIssuer);
+
+    // Generator
+    linkedDataProofGenerator = LinkedDataProofGenerator.newInstance(SignatureType.ED25519);
+
+    // Verification
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    linkedDataProofValidation = LinkedDataProofValidation.newInstance(this.didResolver, executor);
+
+    final URI verificationMethod =
+        credentialIssuer.getDidDocument().getVerificationMethods().get(0).getId();
+
+    final List<VerifiableCredential> credentials = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final VerifiableCredential credential =
+          TestVerifiableFactory.createVerifiableCredential(credentialIssuer, null);
+      final Proof proof =
+          linkedDataProofGenerator.createProof(
+              credential, verificationMethod, credentialIssuer.getPrivateKey());
+      credentials.add(TestVerifiableFactory.attachProof(credential, proof));
+    }
+    // manipulated after signing, the presentation is signed including the change
+    credentials.get(1).put(VerifiableCredential.ISSUANCE_DATE, "2024-02-15T17:21:42Z");
+
+    final VerifiablePresentation vp =
+        TestVerifiableFactory.createVerifiablePresentation(credentialIssuer, credentials, null);
+    final Proof vpProof =
+        linkedDataProofGenerator.createProof(
+            vp, verificationMethod, credentialIssuer.getPrivateKey());
+    final VerifiablePresentation vpWithProof = TestVerifiableFactory.attachProof(vp, vpProof);
+
+    try {
+      final PresentationVerificationResult result =
+          linkedDataProofValidation.verifyDeep(vpWithProof);
+
+      Assertions.assertTrue(result.getPresentation().isValid());
+      Assertions.assertEquals(credentials.size(), result.getCredentials().size());
+      Assertions.assertTrue(result.getCredentials().get(0).isValid());
+      Assertions.assertFalse(result.getCredentials().get(1).isValid());
+      Assertions.assertTrue(result.getCredentials().get(2).isValid());
+      Assertions.assertFalse(result.isValid());
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
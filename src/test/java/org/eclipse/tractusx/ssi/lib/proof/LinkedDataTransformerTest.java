@@ -21,20 +21,43 @@
 
 package org.eclipse.tractusx.ssi.lib.proof;
 
+import com.apicatalog.jsonld.document.JsonDocument;
+import java.io.InputStream;
+import java.io.StringWriter;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
+import org.eclipse.tractusx.ssi.lib.model.ConfiguredDocumentLoader;
+import org.eclipse.tractusx.ssi.lib.model.RemoteDocumentLoader;
 import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
 import org.eclipse.tractusx.ssi.lib.model.proof.ed25519.Ed25519Signature2020;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationType;
+import org.eclipse.tractusx.ssi.lib.proof.hash.LinkedDataHasher;
+import org.eclipse.tractusx.ssi.lib.proof.transform.BudgetedCanonicalizer;
 import org.eclipse.tractusx.ssi.lib.proof.transform.LinkedDataTransformer;
+import org.eclipse.tractusx.ssi.lib.proof.transform.TransformedLinkedData;
+import org.eclipse.tractusx.ssi.lib.proof.transform.Urdna2015Canonicalizer;
 import org.eclipse.tractusx.ssi.lib.util.TestResourceUtil;
+import org.eclipse.tractusx.ssi.lib.validation.JsonLdValidator;
+import org.eclipse.tractusx.ssi.lib.validation.JsonLdValidatorImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 /** The type Linked data transformer test. */
@@ -42,6 +65,138 @@ class LinkedDataTransformerTest {
 
   private final LinkedDataTransformer linkedDataTransformer = new LinkedDataTransformer();
 
+  private final JsonLdValidator jsonLdValidator = new JsonLdValidatorImpl();
+
+  @BeforeEach
+  @SneakyThrows
+  void setup() {
+    try (InputStream is =
+        getClass().getClassLoader().getResourceAsStream("schema/w3.org_2018_credentials_v1.json")) {
+      final RemoteDocumentLoader documentLoader = RemoteDocumentLoader.getInstance();
+      documentLoader.setEnableLocalCache(true);
+      documentLoader.getLocalCache().put(VerifiableCredential.DEFAULT_CONTEXT, JsonDocument.of(is));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    RemoteDocumentLoader.getInstance().getLocalCache().remove(VerifiableCredential.DEFAULT_CONTEXT);
+  }
+
+  @Test
+  @SneakyThrows
+  void testSinglePassTransformationOfCredential() {
+    final VerifiableCredential credential = newCredential(Map.of("id", "did:test:holder"));
+
+    Assertions.assertEquals(
+        linkedDataTransformer.transform(credential),
+        linkedDataTransformer.transform(credential, jsonLdValidator));
+  }
+
+  @Test
+  @SneakyThrows
+  void testSinglePassTransformationWithUndefinedTerm() {
+    final VerifiableCredential credential =
+        newCredential(Map.of("id", "did:test:holder", "undefinedTerm", "test"));
+
+    Assertions.assertThrows(
+        InvalidJsonLdException.class,
+        () -> linkedDataTransformer.transform(credential, jsonLdValidator));
+  }
+
+  @Test
+  @SneakyThrows
+  void testSinglePassTransformationOfPresentation() {
+    final Map<String, Object> presentationMap =
+        new HashMap<>(
+            new VerifiablePresentationBuilder()
+                .id(URI.create("did:test:presentation"))
+                .type(List.of(VerifiablePresentationType.VERIFIABLE_PRESENTATION))
+                .verifiableCredentials(List.of(newCredential(Map.of("id", "did:test:holder"))))
+                .build());
+    // undefined terms outside the credentials are not validated, but must not change the result
+    presentationMap.put("undefinedTerm", "test");
+    final VerifiablePresentation presentation = new VerifiablePresentation(presentationMap);
+
+    Assertions.assertEquals(
+        linkedDataTransformer.transform(presentation),
+        linkedDataTransformer.transform(presentation, jsonLdValidator));
+  }
+
+  @Test
+  @SneakyThrows
+  void testTransformationWithConfiguredDocumentLoader() {
+    final ConfiguredDocumentLoader documentLoader;
+    try (InputStream is =
+        getClass().getClassLoader().getResourceAsStream("schema/w3.org_2018_credentials_v1.json")) {
+      documentLoader =
+          ConfiguredDocumentLoader.builder()
+              .localDocuments(Map.of(VerifiableCredential.DEFAULT_CONTEXT, JsonDocument.of(is)))
+              .schemes(Set.of())
+              .build();
+    }
+    final ActiveContextCache contextCache = new ActiveContextCache();
+    final LinkedDataTransformer transformer =
+        new LinkedDataTransformer(contextCache, BudgetedCanonicalizer.getDefault(), documentLoader);
+    final VerifiableCredential credential = newCredential(Map.of("id", "did:test:holder"));
+
+    Assertions.assertEquals(
+        linkedDataTransformer.transform(credential),
+        transformer.transform(credential, new JsonLdValidatorImpl(contextCache, documentLoader)));
+  }
+
+  @Test
+  @SneakyThrows
+  void testStreamingHashOfCredential() {
+    final VerifiableCredential credential = newCredential(Map.of("id", "did:test:Müller-東京"));
+    final LinkedDataHasher hasher = new LinkedDataHasher();
+    final TransformedLinkedData transformed = linkedDataTransformer.transform(credential);
+
+    final StringWriter writer = new StringWriter();
+    linkedDataTransformer.transform(credential, writer);
+    Assertions.assertEquals(transformed.getValue(), writer.toString());
+
+    final byte[] expected =
+        MessageDigest.getInstance("SHA-256")
+            .digest(transformed.getValue().getBytes(StandardCharsets.UTF_8));
+    Assertions.assertArrayEquals(expected, hasher.hash(transformed).getValue());
+    Assertions.assertArrayEquals(
+        expected, hasher.hash(credential, linkedDataTransformer).getValue());
+    Assertions.assertArrayEquals(
+        expected, hasher.hash(credential, linkedDataTransformer, jsonLdValidator).getValue());
+  }
+
+  @Test
+  @SneakyThrows
+  void testCustomCanonicalizer() {
+    final VerifiableCredential credential = newCredential(Map.of("id", "did:test:holder"));
+    final AtomicInteger calls = new AtomicInteger();
+    final LinkedDataTransformer transformer =
+        new LinkedDataTransformer(
+            ActiveContextCache.getInstance(),
+            dataset -> {
+              calls.incrementAndGet();
+              return Urdna2015Canonicalizer.getInstance().canonicalize(dataset);
+            });
+
+    Assertions.assertEquals(
+        linkedDataTransformer.transform(credential), transformer.transform(credential));
+    Assertions.assertEquals(
+        linkedDataTransformer.transform(credential, jsonLdValidator),
+        transformer.transform(credential, jsonLdValidator));
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  private static VerifiableCredential newCredential(Map<String, Object> subject) {
+    return new VerifiableCredentialBuilder()
+        .id(URI.create("did:test:id"))
+        .type(List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL))
+        .issuer(URI.create("did:test:issuer"))
+        .issuanceDate(Instant.parse("2023-02-15T17:21:42Z"))
+        .credentialSubject(new VerifiableCredentialSubject(subject))
+        .build();
+  }
+
   /** Test linked data transformer. */
   @Test
   @SneakyThrows
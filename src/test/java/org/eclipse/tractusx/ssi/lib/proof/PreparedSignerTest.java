@@ -0,0 +1,96 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.MessageDigest;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.proof.hash.HashedLinkedData;
+import org.eclipse.tractusx.ssi.lib.proof.types.ed25519.Ed25519ProofSigner;
+import org.eclipse.tractusx.ssi.lib.proof.types.ed25519.Ed25519ProofVerifier;
+import org.eclipse.tractusx.ssi.lib.proof.types.jws.JWSProofVerifier;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestDidResolver;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentity;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentityFactory;
+import org.junit.jupiter.api.Test;
+
+/** The type Prepared signer test. */
+class PreparedSignerTest {
+
+  private final TestIdentity testIdentity =
+      TestIdentityFactory.newIdentityWithEDVerificationMethod();
+
+  @Test
+  @SneakyThrows
+  void shouldSignEd25519() {
+    final HashedLinkedData data = new HashedLinkedData("Hello World".getBytes());
+    final PreparedSigner signer =
+        PreparedSigner.newInstance(testIdentity.getPrivateKey(), SignatureType.ED25519);
+
+    final byte[] signature = signer.sign(data);
+
+    // Ed25519 signatures are deterministic
+    assertArrayEquals(new Ed25519ProofSigner().sign(data, testIdentity.getPrivateKey()), signature);
+    assertTrue(
+        new Ed25519ProofVerifier(new TestDidResolver())
+            .verify(data, signature, testIdentity.getPublicKey()));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSignJwsRepeatedly() {
+    final PreparedSigner signer =
+        PreparedSigner.newInstance(testIdentity.getPrivateKey(), SignatureType.JWS);
+    final JWSProofVerifier verifier = new JWSProofVerifier(new TestDidResolver());
+
+    for (String message : new String[] {"Hello World", "Hello again"}) {
+      final HashedLinkedData data =
+          new HashedLinkedData(MessageDigest.getInstance("SHA-256").digest(message.getBytes()));
+      assertTrue(verifier.verify(data, signer.sign(data), testIdentity.getPublicKey()));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotProvideJwsSignerForEd25519() {
+    final PreparedSigner signer =
+        PreparedSigner.newInstance(testIdentity.getPrivateKey(), SignatureType.ED25519);
+
+    assertThrows(IllegalArgumentException.class, signer::getJwsSigner);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRejectSignerOfOtherSignatureType() {
+    final PreparedSigner signer =
+        PreparedSigner.newInstance(testIdentity.getPrivateKey(), SignatureType.JWS);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            LinkedDataProofGenerator.newInstance(SignatureType.ED25519)
+                .createProof(null, testIdentity.getDid().toUri(), signer));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.util.MutableClock;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentity;
+import org.eclipse.tractusx.ssi.lib.util.identity.TestIdentityFactory;
+import org.junit.jupiter.api.Test;
+
+/** The type Verified credential cache test. */
+class VerifiedCredentialCacheTest {
+
+  private final TestIdentity issuer = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+
+  private final VerifiedCredentialCache cache = new VerifiedCredentialCache();
+
+  @Test
+  void shouldRememberVerifiedCredential() {
+    final VerifiableCredential credential = newCredential("z1111", null);
+    assertFalse(cache.isVerified(credential, issuer.getDidDocument()));
+
+    cache.putVerified(credential, issuer.getDidDocument());
+
+    // an equal copy, e.g. parsed from a new presentation, is a hit as well
+    assertTrue(cache.isVerified(newCredential("z1111", null), issuer.getDidDocument()));
+  }
+
+  @Test
+  void shouldNotMatchOtherProofValue() {
+    cache.putVerified(newCredential("z1111", null), issuer.getDidDocument());
+
+    assertFalse(cache.isVerified(newCredential("z2222", null), issuer.getDidDocument()));
+  }
+
+  @Test
+  void shouldInvalidateWhenIssuerDocumentChanges() {
+    final VerifiableCredential credential = newCredential("z1111", null);
+    cache.putVerified(credential, issuer.getDidDocument());
+
+    final TestIdentity rotated = TestIdentityFactory.newIdentityWithEDVerificationMethod();
+    assertFalse(cache.isVerified(credential, rotated.getDidDocument()));
+    // the entry is gone, even for the old document
+    assertFalse(cache.isVerified(credential, issuer.getDidDocument()));
+  }
+
+  @Test
+  void shouldNotCacheExpiredCredential() {
+    cache.putVerified(
+        newCredential("z1111", Instant.now().minusSeconds(60)), issuer.getDidDocument());
+
+    assertEquals(0, cache.estimatedSize());
+  }
+
+  @Test
+  void shouldExpireAfterTimeToLive() {
+    final MutableClock clock = new MutableClock(Instant.now());
+    final VerifiedCredentialCache shortLived =
+        new VerifiedCredentialCache(Duration.ofMillis(200), 10, clock);
+    final VerifiableCredential credential = newCredential("z1111", null);
+    shortLived.putVerified(credential, issuer.getDidDocument());
+    clock.advance(Duration.ofMillis(199));
+    assertTrue(shortLived.isVerified(credential, issuer.getDidDocument()));
+
+    clock.advance(Duration.ofMillis(2));
+
+    assertFalse(shortLived.isVerified(credential, issuer.getDidDocument()));
+  }
+
+  private VerifiableCredential newCredential(String proofValue, Instant expirationDate) {
+    return new VerifiableCredentialBuilder()
+        .id(URI.create("did:test:credential"))
+        .type(List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL))
+        .issuer(issuer.getDid().toUri())
+        .issuanceDate(Instant.parse("2023-02-15T17:21:42Z"))
+        .expirationDate(expirationDate)
+        .credentialSubject(new VerifiableCredentialSubject(Map.of("id", "did:test:holder")))
+        .proof(
+            new Proof(
+                Map.of(
+                    Proof.TYPE,
+                    SignatureType.ED25519.getType(),
+                    "verificationMethod",
+                    issuer.getDid() + "#key-1",
+                    "proofValue",
+                    proofValue)))
+        .build();
+  }
+}
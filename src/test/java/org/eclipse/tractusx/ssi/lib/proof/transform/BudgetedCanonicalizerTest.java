@@ -0,0 +1,268 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import java.time.Duration;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.exception.json.CanonicalizationLimitExceededException;
+import org.eclipse.tractusx.ssi.lib.exception.json.TransformJsonLdException;
+import org.junit.jupiter.api.Test;
+
+/** The type Budgeted canonicalizer test. */
+class BudgetedCanonicalizerTest {
+
+  private static final String PREDICATE = "https://example.org/next";
+
+  private final BudgetedCanonicalizer canonicalizer =
+      new BudgetedCanonicalizer(
+          CanonicalizationLimits.builder()
+              .maxQuads(20)
+              .maxBlankNodes(10)
+              .maxNDegreeBlankNodes(4)
+              .build());
+
+  @Test
+  @SneakyThrows
+  void shouldCanonicalizeWithinLimits() {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < 8; i++) {
+      // distinct literals make every blank node unique by its first degree hash
+      dataset.add(
+          Rdf.createNQuad(
+              Rdf.createBlankNode("_:b" + i),
+              Rdf.createIRI(PREDICATE),
+              Rdf.createString("value " + i),
+              null));
+    }
+
+    // the quads do not implement equals
+    assertEquals(
+        Urdna2015Canonicalizer.getInstance().canonicalize(dataset).toList().toString(),
+        canonicalizer.canonicalize(dataset).toList().toString());
+
+    final CanonicalizationStatistics statistics = canonicalizer.getStatistics();
+    assertEquals(1, statistics.getCanonicalized());
+    assertEquals(0, statistics.getRejected());
+    assertEquals(8, statistics.getMaxQuads());
+    assertEquals(8, statistics.getMaxBlankNodes());
+    assertEquals(0, statistics.getMaxNDegreeBlankNodes());
+    assertEquals(0, statistics.getMaxHashNDegreeCalls());
+  }
+
+  @Test
+  void shouldRejectSymmetricBlankNodes() {
+    final RdfDataset dataset = ring(8);
+
+    final TransformJsonLdException exception =
+        assertThrows(
+            CanonicalizationLimitExceededException.class,
+            () -> canonicalizer.canonicalize(dataset));
+
+    assertEquals(
+        "Canonicalization limit maxNDegreeBlankNodes of 4 exceeded: 8", exception.getMessage());
+    assertEquals(1, canonicalizer.getStatistics().getRejected());
+    assertEquals(8, canonicalizer.getStatistics().getMaxNDegreeBlankNodes());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCanonicalizeFewSymmetricBlankNodes() {
+    canonicalizer.canonicalize(ring(4));
+
+    assertEquals(4, canonicalizer.getStatistics().getMaxNDegreeBlankNodes());
+  }
+
+  @Test
+  void shouldRejectCliqueWithDefaultLimits() {
+    final BudgetedCanonicalizer defaultCanonicalizer =
+        new BudgetedCanonicalizer(CanonicalizationLimits.DEFAULT);
+    // 90 quads, URDNA2015 would run for minutes
+    final RdfDataset dataset = clique(10);
+
+    final TransformJsonLdException exception =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(2),
+            () ->
+                assertThrows(
+                    CanonicalizationLimitExceededException.class,
+                    () -> defaultCanonicalizer.canonicalize(dataset)));
+
+    // a call on a blank node of the clique permutes its 9 related blank nodes
+    assertEquals(
+        "Canonicalization limit maxNDegreePermutations of 100000 exceeded: 100001",
+        exception.getMessage());
+    assertEquals(100_001, defaultCanonicalizer.getStatistics().getMaxNDegreePermutations());
+  }
+
+  @Test
+  void shouldRejectLayeredGraphWithDefaultLimits() {
+    final BudgetedCanonicalizer defaultCanonicalizer =
+        new BudgetedCanonicalizer(CanonicalizationLimits.DEFAULT);
+    // 81 quads and only 3 symmetric blank nodes per level, URDNA2015 would run for many seconds
+    final RdfDataset dataset = layers(10, 3);
+
+    final TransformJsonLdException exception =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(2),
+            () ->
+                assertThrows(
+                    CanonicalizationLimitExceededException.class,
+                    () -> defaultCanonicalizer.canonicalize(dataset)));
+
+    assertEquals(
+        "Canonicalization limit maxHashNDegreeCalls of 10000 exceeded: 10001",
+        exception.getMessage());
+    assertEquals(30, defaultCanonicalizer.getStatistics().getMaxNDegreeBlankNodes());
+    assertEquals(1, defaultCanonicalizer.getStatistics().getRejected());
+  }
+
+  @Test
+  void shouldAbortAfterTimeout() {
+    final BudgetedCanonicalizer timedCanonicalizer =
+        new BudgetedCanonicalizer(
+            CanonicalizationLimits.builder()
+                .maxHashNDegreeCalls(Long.MAX_VALUE)
+                .timeout(Duration.ofMillis(100))
+                .build());
+    final RdfDataset dataset = layers(10, 3);
+
+    final TransformJsonLdException exception =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(2),
+            () ->
+                assertThrows(
+                    CanonicalizationLimitExceededException.class,
+                    () -> timedCanonicalizer.canonicalize(dataset)));
+
+    assertTrue(
+        exception.getMessage().startsWith("Canonicalization limit timeout of 100 exceeded"),
+        exception.getMessage());
+    assertTrue(
+        timedCanonicalizer.getStatistics().getMaxDuration().compareTo(Duration.ofMillis(100)) > 0);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCanonicalizeSmallCliqueWithDefaultLimits() {
+    final BudgetedCanonicalizer defaultCanonicalizer =
+        new BudgetedCanonicalizer(CanonicalizationLimits.DEFAULT);
+
+    defaultCanonicalizer.canonicalize(clique(6));
+
+    assertEquals(3606, defaultCanonicalizer.getStatistics().getMaxHashNDegreeCalls());
+    assertEquals(37_440, defaultCanonicalizer.getStatistics().getMaxNDegreePermutations());
+    assertEquals(1, defaultCanonicalizer.getStatistics().getCanonicalized());
+  }
+
+  @Test
+  void shouldRejectTooManyBlankNodes() {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < 11; i++) {
+      dataset.add(
+          Rdf.createNQuad(
+              Rdf.createIRI("https://example.org/" + i),
+              Rdf.createIRI(PREDICATE),
+              Rdf.createBlankNode("_:b" + i),
+              null));
+    }
+
+    assertThrows(
+        CanonicalizationLimitExceededException.class, () -> canonicalizer.canonicalize(dataset));
+  }
+
+  @Test
+  void shouldRejectTooManyQuads() {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < 21; i++) {
+      dataset.add(
+          Rdf.createNQuad(
+              Rdf.createIRI("https://example.org/subject"),
+              Rdf.createIRI(PREDICATE),
+              Rdf.createString("value " + i),
+              null));
+    }
+
+    assertThrows(
+        CanonicalizationLimitExceededException.class, () -> canonicalizer.canonicalize(dataset));
+    assertEquals(21, canonicalizer.getStatistics().getMaxQuads());
+  }
+
+  /** Blank nodes pointing to each other in a ring, which cannot be told apart. */
+  private static RdfDataset ring(int size) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < size; i++) {
+      dataset.add(
+          Rdf.createNQuad(
+              Rdf.createBlankNode("_:b" + i),
+              Rdf.createIRI(PREDICATE),
+              Rdf.createBlankNode("_:b" + (i + 1) % size),
+              null));
+    }
+    return dataset;
+  }
+
+  /**
+   * Levels of blank nodes, each fully connected to the blank nodes of the next level with a
+   * predicate of its own. Only the blank nodes of a level cannot be told apart.
+   */
+  private static RdfDataset layers(int levels, int width) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int level = 0; level + 1 < levels; level++) {
+      for (int i = 0; i < width; i++) {
+        for (int j = 0; j < width; j++) {
+          dataset.add(
+              Rdf.createNQuad(
+                  Rdf.createBlankNode("_:b" + (level * width + i)),
+                  Rdf.createIRI(PREDICATE + level),
+                  Rdf.createBlankNode("_:b" + ((level + 1) * width + j)),
+                  null));
+        }
+      }
+    }
+    return dataset;
+  }
+
+  /** Blank nodes all pointing to each other, the worst case of the N-degree hashing. */
+  private static RdfDataset clique(int size) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (i != j) {
+          dataset.add(
+              Rdf.createNQuad(
+                  Rdf.createBlankNode("_:b" + i),
+                  Rdf.createIRI(PREDICATE),
+                  Rdf.createBlankNode("_:b" + j),
+                  null));
+        }
+      }
+    }
+    return dataset;
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * ******************************************************************************
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * *******************************************************************************
+ */
+
+package org.eclipse.tractusx.ssi.lib.proof.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfResource;
+import com.apicatalog.rdf.RdfValue;
+import com.apicatalog.rdf.io.nquad.NQuadsReader;
+import com.apicatalog.rdf.io.nquad.NQuadsWriter;
+import io.setl.rdf.normalization.RdfNormalize;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.ContextRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Differential test of the URDNA2015 canonicalizer, comparing its output byte by byte with the
+ * reference implementation {@link RdfNormalize}.
+ */
+class Urdna2015CanonicalizerTest {
+
+  private static final String CORPUS = "/canonicalization/";
+
+  private static final DocumentLoader BUNDLED_CONTEXTS =
+      (url, options) ->
+          ContextRegistry.getInstance()
+              .get(url)
+              .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED));
+
+  private static final String[] LITERALS = {
+    "plain", "line\nbreak", "carriage\rreturn", "\"quoted\"", "back\\slash", "é", "😀", "�", ""
+  };
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("corpus")
+  @SneakyThrows
+  void shouldMatchReferenceImplementation(String name, RdfDataset dataset) {
+    final String expected =
+        write(RdfNormalize.normalize(dataset, Urdna2015Canonicalizer.ALGORITHM));
+
+    assertEquals(expected, write(Urdna2015Canonicalizer.getInstance().canonicalize(dataset)));
+  }
+
+  private static Stream<Arguments> corpus() {
+    final List<Arguments> corpus = new ArrayList<>();
+    corpus.add(Arguments.of("credential.json", fromJsonLd("credential.json")));
+    corpus.add(Arguments.of("presentation.json", fromJsonLd("presentation.json")));
+    corpus.add(Arguments.of("symmetric.nq", fromNQuads("symmetric.nq")));
+    corpus.add(Arguments.of("empty", Rdf.createDataset()));
+    corpus.add(Arguments.of("blank predicate", blankPredicate()));
+    IntStream.rangeClosed(1, 6)
+        .forEach(size -> corpus.add(Arguments.of("ring " + size, ring(size))));
+    IntStream.rangeClosed(2, 5)
+        .forEach(size -> corpus.add(Arguments.of("clique " + size, clique(size))));
+    corpus.add(Arguments.of("layers 3x2", layers(3, 2)));
+    corpus.add(Arguments.of("layers 2x3", layers(2, 3)));
+    IntStream.range(0, 300)
+        .forEach(seed -> corpus.add(Arguments.of("random " + seed, random(seed))));
+    return corpus.stream();
+  }
+
+  @SneakyThrows
+  private static RdfDataset fromJsonLd(String name) {
+    try (InputStream stream = Urdna2015CanonicalizerTest.class.getResourceAsStream(CORPUS + name)) {
+      return JsonLd.toRdf(JsonDocument.of(stream)).loader(BUNDLED_CONTEXTS).get();
+    }
+  }
+
+  @SneakyThrows
+  private static RdfDataset fromNQuads(String name) {
+    try (InputStream stream = Urdna2015CanonicalizerTest.class.getResourceAsStream(CORPUS + name)) {
+      return new NQuadsReader(new InputStreamReader(stream, StandardCharsets.UTF_8)).readDataset();
+    }
+  }
+
+  /** Blank predicates keep their label, they are not relabelled. */
+  private static RdfDataset blankPredicate() {
+    final RdfDataset dataset = Rdf.createDataset();
+    dataset.add(Rdf.createNQuad(blank(0), blank(1), blank(2), null));
+    dataset.add(Rdf.createNQuad(blank(2), blank(1), Rdf.createString("value"), null));
+    dataset.add(Rdf.createNQuad(blank(1), iri("next"), blank(0), null));
+    return dataset;
+  }
+
+  private static RdfDataset ring(int size) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < size; i++) {
+      dataset.add(Rdf.createNQuad(blank(i), iri("next"), blank((i + 1) % size), null));
+    }
+    return dataset;
+  }
+
+  private static RdfDataset clique(int size) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (i != j) {
+          dataset.add(Rdf.createNQuad(blank(i), iri("next"), blank(j), null));
+        }
+      }
+    }
+    return dataset;
+  }
+
+  /** Levels of symmetric blank nodes, each fully connected to the next level. */
+  private static RdfDataset layers(int levels, int width) {
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int level = 0; level + 1 < levels; level++) {
+      for (int i = 0; i < width; i++) {
+        for (int j = 0; j < width; j++) {
+          dataset.add(
+              Rdf.createNQuad(
+                  blank(level * width + i),
+                  iri("level" + level),
+                  blank((level + 1) * width + j),
+                  null));
+        }
+      }
+    }
+    return dataset;
+  }
+
+  /** Small random datasets, mixing blank nodes, IRIs, literals and graphs in all positions. */
+  private static RdfDataset random(long seed) {
+    final Random random = new Random(seed);
+    final int blankNodes = 2 + random.nextInt(6);
+    final RdfDataset dataset = Rdf.createDataset();
+    for (int i = 1 + random.nextInt(16); i > 0; i--) {
+      final RdfResource subject =
+          random.nextInt(4) == 0 ? iri("s" + random.nextInt(2)) : blank(random.nextInt(blankNodes));
+      final RdfResource predicate =
+          random.nextInt(20) == 0
+              ? blank(random.nextInt(blankNodes))
+              : iri("p" + random.nextInt(2));
+      final RdfValue object =
+          switch (random.nextInt(6)) {
+            case 0 -> iri("o" + random.nextInt(2));
+            case 1 -> Rdf.createString(LITERALS[random.nextInt(LITERALS.length)]);
+            case 2 -> Rdf.createLangString(LITERALS[random.nextInt(LITERALS.length)], "en");
+            case 3 ->
+                Rdf.createTypedString(
+                    String.valueOf(random.nextInt(3)), "http://www.w3.org/2001/XMLSchema#integer");
+            default -> blank(random.nextInt(blankNodes));
+          };
+      final RdfResource graph =
+          switch (random.nextInt(5)) {
+            case 0 -> iri("g");
+            case 1 -> blank(random.nextInt(blankNodes));
+            default -> null;
+          };
+      dataset.add(Rdf.createNQuad(subject, predicate, object, graph));
+    }
+    return dataset;
+  }
+
+  private static RdfResource blank(int index) {
+    return Rdf.createBlankNode("_:n" + index);
+  }
+
+  private static RdfResource iri(String name) {
+    return Rdf.createIRI("https://example.org/" + name);
+  }
+
+  @SneakyThrows
+  private static String write(RdfDataset dataset) {
+    final StringWriter writer = new StringWriter();
+    new NQuadsWriter(writer).write(dataset);
+    return writer.toString();
+  }
+}
@@ -23,6 +23,8 @@ package org.eclipse.tractusx.ssi.lib.serialization;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -191,4 +193,60 @@ class SerializeUtilTest {
       Assertions.assertEquals(key, value);
     }
   }
+
+  /** Should deserialize vp with typed credentials. */
+  @Test
+  void shouldDeserializeVpWithTypedCredentials() {
+    final VerifiablePresentation expected = TestResourceUtil.getAlumniVerifiablePresentation();
+
+    final VerifiablePresentation vp =
+        VerifiablePresentation.fromJson(expected.toJson().getBytes(StandardCharsets.UTF_8));
+
+    Assertions.assertEquals(expected.toJson(), vp.toJson());
+    final Object credential =
+        SerializeUtil.asList(vp.get(VerifiablePresentation.VERIFIABLE_CREDENTIAL)).get(0);
+    Assertions.assertInstanceOf(VerifiableCredential.class, credential);
+    // a new copy on every call, so that modifying it leaves the embedded credential intact
+    final VerifiableCredential copy = vp.getVerifiableCredentials().get(0);
+    Assertions.assertEquals(credential, copy);
+    Assertions.assertNotSame(credential, copy);
+    Assertions.assertNotSame(copy, vp.getVerifiableCredentials().get(0));
+  }
+
+  /** Should deserialize did document from stream. */
+  @Test
+  void shouldDeserializeDidDocumentFromStream() {
+    final DidDocument expected = new DidDocument(TestResourceUtil.getBPNDidDocument());
+
+    final DidDocument didDocument =
+        DidDocument.fromJson(
+            new ByteArrayInputStream(expected.toJson().getBytes(StandardCharsets.UTF_8)));
+
+    Assertions.assertEquals(expected, didDocument);
+    Assertions.assertEquals(
+        expected.getVerificationMethods().size(), didDocument.getVerificationMethods().size());
+  }
+
+  /** Should keep map representation of untyped members. */
+  @Test
+  void shouldKeepMapRepresentationOfUntypedMembers() {
+    final VerifiableCredential expected = TestResourceUtil.getBPNVerifiableCredential();
+
+    final VerifiableCredential vc = VerifiableCredential.fromJson(expected.toJson());
+
+    Assertions.assertEquals(expected, vc);
+    Assertions.assertEquals(SerializeUtil.fromJson(expected.toJson()), new LinkedHashMap<>(vc));
+  }
+
+  /** Should reject invalid vc. */
+  @Test
+  void shouldRejectInvalidVc() {
+    final Map<String, Object> json =
+        SerializeUtil.fromJson(TestResourceUtil.getBPNVerifiableCredential().toJson());
+    json.remove(VerifiableCredential.ISSUER);
+    final String invalid = SerializeUtil.toJson(json);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> VerifiableCredential.fromJson(invalid));
+  }
 }
@@ -21,9 +21,23 @@
 
 package org.eclipse.tractusx.ssi.lib.validation;
 
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.exception.json.InvalidJsonLdException;
+import org.eclipse.tractusx.ssi.lib.model.ActiveContextCache;
+import org.eclipse.tractusx.ssi.lib.model.ContextRegistry;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
 import org.eclipse.tractusx.ssi.lib.util.TestResourceUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +45,10 @@ import org.junit.jupiter.api.Test;
 
 /** The type Json ld validator test. */
 class JsonLdValidatorTest {
+  private static final String CREDENTIALS_CONTEXT = "https://www.w3.org/2018/credentials/v1";
+
+  private static final String PRESENTATION_CONTEXT = "https://example.org/presentation/v1";
+
   private JsonLdValidator validator;
 
   /** Sets up. */
@@ -46,6 +64,61 @@ class JsonLdValidatorTest {
     Assertions.assertDoesNotThrow(() -> validator.validate(toTest));
   }
 
+  @Test
+  @SneakyThrows
+  void shouldNotDefineCredentialTermsWithPresentationContext() {
+    // only the context of the presentation defines memberOf
+    final JsonDocument presentationContext =
+        JsonDocument.of(
+            Json.createObjectBuilder()
+                .add(
+                    "@context",
+                    Json.createObjectBuilder()
+                        .add("memberOf", "https://example.org/vocab#memberOf"))
+                .build());
+    final DocumentLoader documentLoader =
+        (url, options) ->
+            PRESENTATION_CONTEXT.equals(url.toString())
+                ? presentationContext
+                : ContextRegistry.getInstance()
+                    .get(url)
+                    .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED));
+    final JsonLdValidator offlineValidator =
+        new JsonLdValidatorImpl(new ActiveContextCache(), documentLoader);
+
+    final Map<String, Object> credential = new LinkedHashMap<>();
+    credential.put("@context", List.of(CREDENTIALS_CONTEXT));
+    credential.put("id", "https://example.org/credentials/1");
+    credential.put("type", List.of("VerifiableCredential"));
+    credential.put("issuer", "did:example:issuer");
+    credential.put("issuanceDate", "2024-01-01T00:00:00Z");
+    credential.put("credentialSubject", Map.of("id", "did:example:subject", "memberOf", "Club"));
+
+    final Map<String, Object> presentation = new LinkedHashMap<>();
+    presentation.put("@context", List.of(CREDENTIALS_CONTEXT, PRESENTATION_CONTEXT));
+    presentation.put("id", "https://example.org/presentations/1");
+    presentation.put("type", List.of("VerifiablePresentation"));
+    presentation.put("verifiableCredential", List.of(credential));
+    final VerifiablePresentation verifiablePresentation = new VerifiablePresentation(presentation);
+
+    final JsonLdOptions options = new JsonLdOptions();
+    options.setDocumentLoader(documentLoader);
+    options.setExpandContext(
+        Json.createObjectBuilder()
+            .add("@vocab", Json.createValue(JsonLdValidator.UNDEFINED_TERM_URI))
+            .build());
+    final JsonArray expanded =
+        JsonLd.expand(JsonDocument.of(verifiablePresentation.toJsonObject()))
+            .options(options)
+            .get();
+
+    final InvalidJsonLdException exception =
+        Assertions.assertThrows(
+            InvalidJsonLdException.class,
+            () -> offlineValidator.validate(verifiablePresentation, expanded));
+    Assertions.assertEquals("Undefined JSON-LD term: memberOf", exception.getMessage());
+  }
+
   @SneakyThrows
   private VerifiableCredential loadValidjsonLDObject() {
 